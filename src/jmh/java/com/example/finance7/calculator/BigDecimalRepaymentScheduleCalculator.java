@@ -0,0 +1,72 @@
+package com.example.finance7.calculator;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 벤치마크 비교용 기준 구현. 회차마다 BigDecimal 연산과 행 객체를 만들어 리스트로 모두 적재한다.
+ */
+public class BigDecimalRepaymentScheduleCalculator {
+
+    private static final BigDecimal MONTHLY_DIVISOR = BigDecimal.valueOf(120_000L);
+
+    public List<Row> calculate(RepaymentMethod method, long loanAmount, int annualRateBp, int months) {
+        BigDecimal balance = BigDecimal.valueOf(loanAmount);
+        BigDecimal monthlyRate = BigDecimal.valueOf(annualRateBp).divide(MONTHLY_DIVISOR, MathContext.DECIMAL64);
+        BigDecimal basePrincipal = balance.divide(BigDecimal.valueOf(months), 0, RoundingMode.DOWN);
+        BigDecimal fixedPayment = equalInstallmentPayment(balance, monthlyRate, months);
+
+        List<Row> rows = new ArrayList<>();
+        for (int period = 1; period <= months; period++) {
+            BigDecimal interest = balance.multiply(monthlyRate).setScale(0, RoundingMode.DOWN);
+            BigDecimal principal;
+            if (period == months) {
+                principal = balance;
+            } else if (method == RepaymentMethod.EQUAL_PRINCIPAL) {
+                principal = basePrincipal;
+            } else if (method == RepaymentMethod.EQUAL_INSTALLMENT) {
+                principal = fixedPayment.subtract(interest).max(BigDecimal.ZERO).min(balance);
+            } else {
+                principal = BigDecimal.ZERO;
+            }
+            balance = balance.subtract(principal);
+            rows.add(new Row(period, principal, interest, principal.add(interest), balance));
+        }
+        return rows;
+    }
+
+    private static BigDecimal equalInstallmentPayment(BigDecimal principal, BigDecimal monthlyRate, int months) {
+        if (monthlyRate.signum() == 0) {
+            return principal.divide(BigDecimal.valueOf(months), 0, RoundingMode.UP);
+        }
+        BigDecimal growth = BigDecimal.ONE.add(monthlyRate).pow(months, MathContext.DECIMAL64);
+        return principal.multiply(monthlyRate).multiply(growth)
+                .divide(growth.subtract(BigDecimal.ONE), 0, RoundingMode.UP);
+    }
+
+    public static class Row {
+
+        private final int period;
+        private final BigDecimal principal;
+        private final BigDecimal interest;
+        private final BigDecimal payment;
+        private final BigDecimal balance;
+
+        Row(int period, BigDecimal principal, BigDecimal interest, BigDecimal payment, BigDecimal balance) {
+            this.period = period;
+            this.principal = principal;
+            this.interest = interest;
+            this.payment = payment;
+            this.balance = balance;
+        }
+
+        public BigDecimal getPayment() {
+            return payment;
+        }
+
+    }
+
+}
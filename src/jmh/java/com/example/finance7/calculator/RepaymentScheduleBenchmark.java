@@ -0,0 +1,63 @@
+package com.example.finance7.calculator;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RepaymentScheduleBenchmark {
+
+    private static final long LOAN_AMOUNT = 300_000_000L;
+    private static final int RATE_BP = 425;
+
+    @Param({"EQUAL_PRINCIPAL", "EQUAL_INSTALLMENT", "BULLET"})
+    private RepaymentMethod method;
+
+    @Param({"12", "360"})
+    private int months;
+
+    private final RepaymentScheduleCalculator calculator = new RepaymentScheduleCalculator();
+    private final BigDecimalRepaymentScheduleCalculator bigDecimalCalculator = new BigDecimalRepaymentScheduleCalculator();
+
+    @Benchmark
+    public long primitiveCursor() {
+        RepaymentCursor cursor = calculator.cursor(method, LOAN_AMOUNT, RATE_BP, months);
+        long totalPayment = 0L;
+        while (cursor.next()) {
+            totalPayment += cursor.payment();
+        }
+        return totalPayment;
+    }
+
+    @Benchmark
+    public RepaymentSchedule primitiveSchedule() {
+        return calculator.calculate(method, LOAN_AMOUNT, RATE_BP, months);
+    }
+
+    @Benchmark
+    public void primitiveStream(Blackhole blackhole) {
+        calculator.stream(method, LOAN_AMOUNT, RATE_BP, months).forEach(blackhole::consume);
+    }
+
+    @Benchmark
+    public List<BigDecimalRepaymentScheduleCalculator.Row> bigDecimalList() {
+        return bigDecimalCalculator.calculate(method, LOAN_AMOUNT, RATE_BP, months);
+    }
+
+}
@@ -0,0 +1,66 @@
+package com.example.finance7.global;
+
+import com.example.finance7.global.ratelimit.TokenBucket;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 요청 경로에 더해지는 토큰 버킷 비용. 한도에 걸리지 않는 경우(대부분의 요청)와 한 키에 요청이 몰려
+ * 거절되는 경우를, 여러 스레드가 같은 키를 다투는 경우와 서로 다른 키를 쓰는 경우로 나누어 잰다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(4)
+public class RateLimiterBenchmark {
+
+    private static final int CLIENTS = 10_000;
+
+    private TokenBucket unlimited;
+    private TokenBucket limited;
+    private String[] clients;
+
+    @Setup
+    public void setUp() {
+        unlimited = new TokenBucket(1_000_000, 1_000_000_000L, Duration.ofSeconds(1));
+        limited = new TokenBucket(10, 1, Duration.ofSeconds(1));
+        clients = new String[CLIENTS];
+        for (int i = 0; i < CLIENTS; i++) {
+            clients[i] = "10.0." + (i / 256) + "." + (i % 256);
+            unlimited.tryAcquire(clients[i]);
+            limited.tryAcquire(clients[i]);
+        }
+    }
+
+    @Benchmark
+    public long allowedSharedKey() {
+        return unlimited.tryAcquire(clients[0]);
+    }
+
+    @Benchmark
+    public long allowedDistinctKeys() {
+        return unlimited.tryAcquire(clients[ThreadLocalRandom.current().nextInt(CLIENTS)]);
+    }
+
+    @Benchmark
+    public long rejectedSharedKey() {
+        return limited.tryAcquire(clients[0]);
+    }
+
+}
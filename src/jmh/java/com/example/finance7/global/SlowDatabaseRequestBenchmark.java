@@ -0,0 +1,105 @@
+package com.example.finance7.global;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 느린 DB 조건에서 Tomcat 기본 플랫폼 스레드 풀(200)과 요청당 가상 스레드의 처리량을 비교한다.
+ * <p>
+ * 한 요청은 커넥션을 잡은 채 {@code dbMillis} 동안 대기(느린 쿼리)하고, 커넥션을 반납한 뒤 {@code ioMillis} 동안
+ * 외부 호출을 기다린다. 한 번의 호출은 {@link #CONCURRENT_REQUESTS} 개의 요청이 모두 끝날 때까지의 시간이다.
+ * ioMillis=0 이면 두 방식 모두 커넥션 풀 크기에 묶이고, 외부 대기가 길수록 가상 스레드 쪽이 유리해진다.
+ * 가상 스레드 실행 시 -Djdk.tracePinnedThreads=short 로 풀/드라이버 구간의 고정 여부를 함께 확인한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(value = 1, jvmArgsAppend = "-Djdk.tracePinnedThreads=short")
+public class SlowDatabaseRequestBenchmark {
+
+    private static final int CONCURRENT_REQUESTS = 1_000;
+    private static final int TOMCAT_MAX_THREADS = 200;
+    private static final int POOL_SIZE = 20;
+
+    @Param({"platform", "virtual"})
+    private String threads;
+
+    @Param({"20"})
+    private long dbMillis;
+
+    @Param({"0", "50"})
+    private long ioMillis;
+
+    private HikariDataSource dataSource;
+    private ExecutorService executor;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        HikariConfig config = new HikariConfig();
+        config.setJdbcUrl("jdbc:h2:mem:slowdb;DB_CLOSE_DELAY=-1");
+        config.setMaximumPoolSize(POOL_SIZE);
+        config.setMinimumIdle(POOL_SIZE);
+        config.setConnectionTimeout(TimeUnit.MINUTES.toMillis(1));
+        dataSource = new HikariDataSource(config);
+        executor = "virtual".equals(threads)
+                ? Executors.newVirtualThreadPerTaskExecutor()
+                : Executors.newFixedThreadPool(TOMCAT_MAX_THREADS);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        executor.shutdownNow();
+        dataSource.close();
+    }
+
+    @Benchmark
+    public int handleRequests() throws InterruptedException, ExecutionException {
+        List<Future<Integer>> responses = new ArrayList<>(CONCURRENT_REQUESTS);
+        for (int i = 0; i < CONCURRENT_REQUESTS; i++) {
+            responses.add(executor.submit(this::handleRequest));
+        }
+        int completed = 0;
+        for (Future<Integer> response : responses) {
+            completed += response.get();
+        }
+        return completed;
+    }
+
+    private int handleRequest() throws SQLException, InterruptedException {
+        try (Connection connection = dataSource.getConnection(); Statement statement = connection.createStatement()) {
+            statement.execute("select 1");
+            Thread.sleep(dbMillis);
+        }
+        if (ioMillis > 0) {
+            Thread.sleep(ioMillis);
+        }
+        return 1;
+    }
+
+}
@@ -0,0 +1,71 @@
+package com.example.finance7.product;
+
+import com.example.finance7.product.autocomplete.ProductAutocompleteIndex;
+import com.example.finance7.product.autocomplete.ProductSuggestion;
+import com.example.finance7.product.search.ProductDocument;
+import com.example.finance7.support.ProductFixtures;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ProductAutocompleteBenchmark {
+
+    @Param({"1000", "20000"})
+    private int catalogSize;
+
+    private ProductAutocompleteIndex index;
+    private List<ProductSuggestion> suggestions;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(24L);
+        suggestions = new ArrayList<>(catalogSize);
+        for (ProductDocument document : ProductFixtures.documents(catalogSize)) {
+            suggestions.add(new ProductSuggestion(document.getId(), document.getName(), document.getBankName(),
+                    document.getType(), random.nextInt(1_000)));
+        }
+        index = new ProductAutocompleteIndex();
+        index.rebuild(suggestions);
+    }
+
+    @Benchmark
+    public List<ProductSuggestion> chosung() {
+        return index.suggest("ㅋㅋㅇㅂㅋ", ProductAutocompleteIndex.MAX_SUGGESTIONS);
+    }
+
+    @Benchmark
+    public List<ProductSuggestion> partialSyllable() {
+        return index.suggest("카카옵", ProductAutocompleteIndex.MAX_SUGGESTIONS);
+    }
+
+    @Benchmark
+    public List<ProductSuggestion> middleWord() {
+        return index.suggest("우대적", ProductAutocompleteIndex.MAX_SUGGESTIONS);
+    }
+
+    @Benchmark
+    public void upsert() {
+        index.upsert(suggestions.get(next++ % suggestions.size()));
+    }
+
+}
@@ -0,0 +1,65 @@
+package com.example.finance7.product;
+
+import com.example.finance7.product.entity.ProductType;
+import com.example.finance7.product.ranking.ProductActivity;
+import com.example.finance7.product.ranking.ProductRanking;
+import com.example.finance7.product.ranking.RankedProduct;
+import com.example.finance7.product.ranking.RankingWindow;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(4)
+public class ProductRankingBenchmark {
+
+    private static final int CATALOG_SIZE = 20_000;
+    private static final ProductType[] TYPES = ProductType.values();
+
+    private ProductRanking ranking;
+
+    @Setup
+    public void setUp() {
+        ranking = new ProductRanking(2048, 4);
+        for (int i = 0; i < 200_000; i++) {
+            recordRandom();
+        }
+    }
+
+    /**
+     * 일부 상품에 조회가 몰리는 분포. 10 번 중 1 번은 상위 50 개 상품 중 하나다.
+     */
+    @Benchmark
+    public void record() {
+        recordRandom();
+    }
+
+    @Benchmark
+    public List<RankedProduct> top() {
+        return ranking.top(ProductActivity.VIEW, RankingWindow.HOUR, null, ProductRanking.MAX_SIZE);
+    }
+
+    private void recordRandom() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        long productId = random.nextInt(10) == 0 ? random.nextInt(50) : random.nextInt(CATALOG_SIZE);
+        ranking.record(ProductActivity.VIEW, productId, TYPES[(int) (productId % TYPES.length)]);
+    }
+
+}
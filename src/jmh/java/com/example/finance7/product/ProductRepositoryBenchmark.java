@@ -0,0 +1,98 @@
+package com.example.finance7.product;
+
+import com.example.finance7.global.pagination.CursorPage;
+import com.example.finance7.global.pagination.CursorRequest;
+import com.example.finance7.global.pagination.KeysetCursor;
+import com.example.finance7.global.pagination.KeysetQuery;
+import com.example.finance7.product.entity.Product;
+import com.example.finance7.product.repository.ProductRepository;
+import com.example.finance7.support.EmbeddedJpaConfig;
+import com.example.finance7.support.ProductFixtures;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ProductRepositoryBenchmark {
+
+    private static final int CATALOG_SIZE = 5_000;
+
+    private AnnotationConfigApplicationContext context;
+    private ProductRepository productRepository;
+    private TransactionTemplate readOnlyTransaction;
+    private long minId;
+    private long maxId;
+    private String deepCursor;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new AnnotationConfigApplicationContext(EmbeddedJpaConfig.class);
+        productRepository = context.getBean(ProductRepository.class);
+        PlatformTransactionManager transactionManager = context.getBean(PlatformTransactionManager.class);
+
+        new TransactionTemplate(transactionManager)
+                .executeWithoutResult(status -> productRepository.saveAll(ProductFixtures.products(CATALOG_SIZE)));
+        minId = productRepository.findAll(PageRequest.of(0, 1, Sort.by("id"))).getContent().get(0).getId();
+        maxId = minId + CATALOG_SIZE - 1;
+
+        readOnlyTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction.setReadOnly(true);
+        deepCursor = new KeysetCursor("id", Sort.Direction.ASC, minId + 200 * 20 - 1,
+                String.valueOf(minId + 200 * 20 - 1)).encode();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Optional<Product> findById() {
+        long id = ThreadLocalRandom.current().nextLong(minId, maxId + 1);
+        return readOnlyTransaction.execute(status -> productRepository.findById(id));
+    }
+
+    @Benchmark
+    public Page<Product> findFirstPage() {
+        return readOnlyTransaction.execute(status -> productRepository.findAll(PageRequest.of(0, 20, Sort.by("id"))));
+    }
+
+    @Benchmark
+    public Page<Product> findDeepPage() {
+        return readOnlyTransaction.execute(status -> productRepository.findAll(PageRequest.of(200, 20, Sort.by("id"))));
+    }
+
+    @Benchmark
+    public CursorPage<Product> findDeepPageKeyset() {
+        return readOnlyTransaction.execute(status -> productRepository.findPage(KeysetQuery.<Product>builder()
+                .domainClass(Product.class)
+                .sortAttribute("id")
+                .cursorRequest(new CursorRequest(deepCursor, 20, false))
+                .build()));
+    }
+
+}
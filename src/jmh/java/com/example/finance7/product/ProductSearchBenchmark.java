@@ -0,0 +1,67 @@
+package com.example.finance7.product;
+
+import com.example.finance7.product.entity.ProductType;
+import com.example.finance7.product.search.ProductDocument;
+import com.example.finance7.product.search.ProductSearchCondition;
+import com.example.finance7.product.search.ProductSearchIndex;
+import com.example.finance7.support.ProductFixtures;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ProductSearchBenchmark {
+
+    @Param({"1000", "20000"})
+    private int catalogSize;
+
+    private ProductSearchIndex index;
+    private ProductSearchCondition keyword;
+    private ProductSearchCondition keywordWithFilters;
+    private ProductSearchCondition infix;
+
+    @Setup
+    public void setUp() {
+        index = new ProductSearchIndex();
+        index.rebuild(ProductFixtures.documents(catalogSize));
+        keyword = ProductSearchCondition.builder().keyword("청년").build();
+        keywordWithFilters = ProductSearchCondition.builder()
+                .keyword("직장인 대출")
+                .type(ProductType.LOAN)
+                .bankName("우리은행")
+                .build();
+        infix = ProductSearchCondition.builder().keyword("적금").build();
+    }
+
+    @Benchmark
+    public List<ProductDocument> keyword() {
+        return index.search(keyword);
+    }
+
+    @Benchmark
+    public List<ProductDocument> keywordWithFilters() {
+        return index.search(keywordWithFilters);
+    }
+
+    @Benchmark
+    public List<ProductDocument> infixKeyword() {
+        return index.search(infix);
+    }
+
+}
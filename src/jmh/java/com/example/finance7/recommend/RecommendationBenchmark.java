@@ -0,0 +1,91 @@
+package com.example.finance7.recommend;
+
+import com.example.finance7.member.entity.Job;
+import com.example.finance7.product.entity.InterestType;
+import com.example.finance7.product.search.ProductDocument;
+import com.example.finance7.recommend.engine.MemberProfile;
+import com.example.finance7.recommend.engine.ProductProfile;
+import com.example.finance7.recommend.engine.Recommendation;
+import com.example.finance7.recommend.engine.RecommendationEngine;
+import com.example.finance7.support.ProductFixtures;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RecommendationBenchmark {
+
+    private static final int MEMBER_SAMPLES = 1_024;
+
+    @Param({"1000", "20000"})
+    private int catalogSize;
+
+    private RecommendationEngine engine;
+    private MemberProfile[] members;
+    private ProductProfile changedProduct;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(7L);
+        List<ProductProfile> products = ProductFixtures.documents(catalogSize).stream()
+                .map(document -> profile(document, random))
+                .collect(Collectors.toList());
+        engine = new RecommendationEngine();
+        engine.loadProducts(products);
+
+        members = new MemberProfile[MEMBER_SAMPLES];
+        for (int i = 0; i < MEMBER_SAMPLES; i++) {
+            members[i] = new MemberProfile(20 + random.nextInt(50), 20_000_000L + random.nextInt(100) * 1_000_000L,
+                    Job.values()[random.nextInt(Job.values().length)], InterestType.values()[random.nextInt(2)]);
+            engine.assignMember((long) i, members[i].segment());
+        }
+        changedProduct = products.get(products.size() / 2);
+    }
+
+    @Benchmark
+    public List<Recommendation> recommendTop10() {
+        return engine.recommend(members[ThreadLocalRandom.current().nextInt(MEMBER_SAMPLES)], null, 10);
+    }
+
+    @Benchmark
+    public void incrementalProductUpdate() {
+        engine.upsertProduct(changedProduct);
+    }
+
+    private static ProductProfile profile(ProductDocument document, Random random) {
+        int minAge = random.nextInt(4) == 0 ? 19 + random.nextInt(20) : 0;
+        return ProductProfile.builder()
+                .id(document.getId())
+                .name(document.getName())
+                .bankName(document.getBankName())
+                .type(document.getType())
+                .interestType(InterestType.values()[random.nextInt(2)])
+                .interestRate(document.getInterestRate())
+                .minAge(minAge == 0 ? null : minAge)
+                .maxAge(minAge == 0 ? null : minAge + 15)
+                .minIncome(random.nextInt(3) == 0 ? 30_000_000L : null)
+                .tags(new HashSet<>(document.getTags()))
+                .build();
+    }
+
+}
@@ -0,0 +1,67 @@
+package com.example.finance7.support;
+
+import com.example.finance7.product.entity.Product;
+import com.example.finance7.product.entity.ProductType;
+import com.example.finance7.product.search.ProductDocument;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * 벤치마크용 가상 상품 데이터. 시드를 고정해 실행마다 같은 카탈로그를 만든다.
+ */
+public final class ProductFixtures {
+
+    private static final String[] BANKS = {"카카오뱅크", "우리은행", "신한은행", "국민은행", "하나은행", "토스뱅크", "농협은행", "기업은행"};
+    private static final String[] NAME_PARTS = {"자유", "정기", "청년", "직장인", "우대", "비대면", "프리미엄", "스마트", "WON", "플러스"};
+    private static final String[] TAGS = {"비대면", "청년", "직장인", "급여이체", "고금리", "사회초년생", "주택", "전세", "캐시백", "공무원"};
+
+    private ProductFixtures() {
+    }
+
+    public static List<Product> products(int count) {
+        Random random = new Random(7L);
+        List<Product> products = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            ProductType type = ProductType.values()[random.nextInt(ProductType.values().length)];
+            products.add(Product.builder()
+                    .name(name(random, type, i))
+                    .bankName(BANKS[random.nextInt(BANKS.length)])
+                    .type(type)
+                    .interestRate(BigDecimal.valueOf(150 + random.nextInt(600), 2))
+                    .tags(List.of(TAGS[random.nextInt(TAGS.length)], TAGS[random.nextInt(TAGS.length)]))
+                    .build());
+        }
+        return products;
+    }
+
+    public static List<ProductDocument> documents(int count) {
+        List<Product> products = products(count);
+        List<ProductDocument> documents = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            Product product = products.get(i);
+            documents.add(new ProductDocument((long) i + 1, product.getName(), product.getBankName(), product.getType(),
+                    product.getInterestRate(), product.getTagList()));
+        }
+        return documents;
+    }
+
+    private static String name(Random random, ProductType type, int sequence) {
+        String suffix;
+        switch (type) {
+            case LOAN:
+                suffix = "신용대출";
+                break;
+            case SAVINGS:
+                suffix = random.nextBoolean() ? "적금" : "예금";
+                break;
+            default:
+                suffix = "카드";
+        }
+        return NAME_PARTS[random.nextInt(NAME_PARTS.length)] + " " + NAME_PARTS[random.nextInt(NAME_PARTS.length)]
+                + suffix + " " + sequence;
+    }
+
+}
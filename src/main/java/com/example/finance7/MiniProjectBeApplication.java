@@ -2,12 +2,29 @@ package com.example.finance7;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
+import org.springframework.context.ConfigurableApplicationContext;
 
 @SpringBootApplication
 public class MiniProjectBeApplication {
 
+    /**
+     * 기동 단계 기록 버퍼 크기. 가득 차면 이후 단계는 기록되지 않는다.
+     */
+    private static final int STARTUP_STEP_CAPACITY = 4096;
+
+    /**
+     * CDS 아카이브 생성용 학습 실행(./gradlew cdsArchive)에서 기동이 끝나면 바로 종료한다.
+     */
+    private static final String EXIT_AFTER_STARTUP = "app.startup.exit-after-ready";
+
     public static void main(String[] args) {
-        SpringApplication.run(MiniProjectBeApplication.class, args);
+        SpringApplication application = new SpringApplication(MiniProjectBeApplication.class);
+        application.setApplicationStartup(new BufferingApplicationStartup(STARTUP_STEP_CAPACITY));
+        ConfigurableApplicationContext context = application.run(args);
+        if (Boolean.getBoolean(EXIT_AFTER_STARTUP)) {
+            System.exit(SpringApplication.exit(context));
+        }
     }
 
 }
@@ -0,0 +1,56 @@
+package com.example.finance7.auth.controller;
+
+import com.example.finance7.auth.dto.EmailAvailabilityResponse;
+import com.example.finance7.auth.dto.LoginRequest;
+import com.example.finance7.auth.dto.SignupRequest;
+import com.example.finance7.auth.dto.TokenResponse;
+import com.example.finance7.auth.service.AuthService;
+import com.example.finance7.auth.token.AuthenticatedMember;
+import com.example.finance7.auth.web.JwtAuthenticationFilter;
+import com.example.finance7.auth.web.LoginMember;
+import com.example.finance7.member.dto.MemberResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestAttribute;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/auth")
+public class AuthController {
+
+    private final AuthService authService;
+
+    @PostMapping("/signup")
+    @ResponseStatus(HttpStatus.CREATED)
+    public MemberResponse signup(@RequestBody SignupRequest request) {
+        return authService.signup(request);
+    }
+
+    /**
+     * 가입 화면의 입력 중 중복 확인. 대부분의 새 이메일은 DB 를 거치지 않고 답한다.
+     */
+    @GetMapping("/email-availability")
+    public EmailAvailabilityResponse checkEmail(@RequestParam String email) {
+        return authService.checkEmail(email);
+    }
+
+    @PostMapping("/login")
+    public TokenResponse login(@RequestBody LoginRequest request) {
+        return authService.login(request);
+    }
+
+    @PostMapping("/logout")
+    @ResponseStatus(HttpStatus.NO_CONTENT)
+    public void logout(@LoginMember AuthenticatedMember member,
+                       @RequestAttribute(JwtAuthenticationFilter.ACCESS_TOKEN) String token) {
+        authService.logout(member, token);
+    }
+
+}
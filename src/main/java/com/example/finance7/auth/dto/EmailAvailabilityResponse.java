@@ -0,0 +1,13 @@
+package com.example.finance7.auth.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class EmailAvailabilityResponse {
+
+    private final String email;
+    private final boolean available;
+
+}
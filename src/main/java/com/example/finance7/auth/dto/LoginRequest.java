@@ -0,0 +1,13 @@
+package com.example.finance7.auth.dto;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+public class LoginRequest {
+
+    private String email;
+    private String password;
+
+}
@@ -0,0 +1,20 @@
+package com.example.finance7.auth.dto;
+
+import com.example.finance7.member.entity.Job;
+import com.example.finance7.product.entity.InterestType;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+public class SignupRequest {
+
+    private String email;
+    private String password;
+    private String name;
+    private int age;
+    private long annualIncome;
+    private Job job;
+    private InterestType preferredInterestType;
+
+}
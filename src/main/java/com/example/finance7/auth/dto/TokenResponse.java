@@ -0,0 +1,18 @@
+package com.example.finance7.auth.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class TokenResponse {
+
+    private final String accessToken;
+    private final String tokenType;
+    private final long expiresIn;
+
+    public static TokenResponse bearer(String accessToken, long expiresInSeconds) {
+        return new TokenResponse(accessToken, "Bearer", expiresInSeconds);
+    }
+
+}
@@ -0,0 +1,93 @@
+package com.example.finance7.auth.service;
+
+import com.example.finance7.auth.dto.EmailAvailabilityResponse;
+import com.example.finance7.auth.dto.LoginRequest;
+import com.example.finance7.auth.dto.SignupRequest;
+import com.example.finance7.auth.dto.TokenResponse;
+import com.example.finance7.auth.token.AuthenticatedMember;
+import com.example.finance7.auth.token.JwtTokenProvider;
+import com.example.finance7.auth.token.TokenAuthenticator;
+import com.example.finance7.auth.token.TokenRevocationRegistry;
+import com.example.finance7.global.error.BusinessException;
+import com.example.finance7.global.error.ErrorCode;
+import com.example.finance7.member.dto.MemberResponse;
+import com.example.finance7.member.email.RegisteredEmailFilter;
+import com.example.finance7.member.entity.Member;
+import com.example.finance7.member.repository.MemberRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.StringUtils;
+
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class AuthService {
+
+    private final MemberRepository memberRepository;
+    private final RegisteredEmailFilter registeredEmailFilter;
+    private final PasswordEncoder passwordEncoder;
+    private final JwtTokenProvider jwtTokenProvider;
+    private final TokenAuthenticator tokenAuthenticator;
+    private final TokenRevocationRegistry tokenRevocationRegistry;
+
+    @Transactional
+    public MemberResponse signup(SignupRequest request) {
+        if (!StringUtils.hasText(request.getEmail()) || !StringUtils.hasText(request.getPassword())) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT, "이메일과 비밀번호는 필수입니다.");
+        }
+        String email = RegisteredEmailFilter.normalize(request.getEmail());
+        if (registeredEmailFilter.isRegistered(email)) {
+            throw new BusinessException(ErrorCode.DUPLICATE_EMAIL);
+        }
+        Member member;
+        try {
+            member = memberRepository.saveAndFlush(Member.builder()
+                    .email(email)
+                    .password(passwordEncoder.encode(request.getPassword()))
+                    .name(request.getName())
+                    .age(request.getAge())
+                    .annualIncome(request.getAnnualIncome())
+                    .job(request.getJob())
+                    .preferredInterestType(request.getPreferredInterestType())
+                    .build());
+        } catch (DataIntegrityViolationException e) {
+            // 필터가 아직 모르는 다른 인스턴스의 가입이나 동시 가입은 유니크 제약에서 걸린다
+            throw new BusinessException(ErrorCode.DUPLICATE_EMAIL);
+        }
+        return MemberResponse.from(member);
+    }
+
+    /**
+     * 필터에서 끝나는 경우 커넥션도 잡지 않도록 트랜잭션 없이 실행한다.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public EmailAvailabilityResponse checkEmail(String email) {
+        if (!StringUtils.hasText(email)) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT, "이메일은 필수입니다.");
+        }
+        return new EmailAvailabilityResponse(email, !registeredEmailFilter.isRegistered(email));
+    }
+
+    public TokenResponse login(LoginRequest request) {
+        Member member = memberRepository.findByEmail(RegisteredEmailFilter.normalize(request.getEmail()))
+                .filter(found -> found.getPassword() != null
+                        && passwordEncoder.matches(request.getPassword(), found.getPassword()))
+                .orElseThrow(() -> new BusinessException(ErrorCode.LOGIN_FAILED));
+        return TokenResponse.bearer(jwtTokenProvider.issue(member.getId()),
+                jwtTokenProvider.getAccessTokenTtl().getSeconds());
+    }
+
+    /**
+     * 폐기 토큰을 저장하므로 읽기 전용 트랜잭션에 두지 않는다. 레플리카 라우팅을 켜면 레플리카로 가기 때문이다.
+     */
+    @Transactional
+    public void logout(AuthenticatedMember member, String token) {
+        tokenRevocationRegistry.revoke(member.getTokenId(), member.getExpiresAt());
+        tokenAuthenticator.evict(token);
+    }
+
+}
@@ -0,0 +1,30 @@
+package com.example.finance7.auth.token;
+
+import com.example.finance7.global.error.BusinessException;
+import com.example.finance7.global.error.ErrorCode;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.time.Instant;
+
+/**
+ * 검증을 마친 토큰의 주체. 요청마다 회원을 DB 에서 읽지 않도록 토큰에 담긴 정보만 가진다.
+ */
+@Getter
+@RequiredArgsConstructor
+public class AuthenticatedMember {
+
+    private final Long memberId;
+    private final String tokenId;
+    private final Instant expiresAt;
+
+    /**
+     * 경로로 받은 회원이 토큰의 주체가 아니면 403 으로 거절한다.
+     */
+    public void requireSelf(Long memberId) {
+        if (!this.memberId.equals(memberId)) {
+            throw new BusinessException(ErrorCode.NOT_SELF);
+        }
+    }
+
+}
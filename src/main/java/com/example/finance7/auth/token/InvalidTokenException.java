@@ -0,0 +1,12 @@
+package com.example.finance7.auth.token;
+
+import com.example.finance7.global.error.BusinessException;
+import com.example.finance7.global.error.ErrorCode;
+
+public class InvalidTokenException extends BusinessException {
+
+    public InvalidTokenException(String message) {
+        super(ErrorCode.INVALID_TOKEN, message);
+    }
+
+}
@@ -0,0 +1,131 @@
+package com.example.finance7.auth.token;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * HS256 JWT 발급/검증. 헤더는 고정값이므로 그대로 비교하고, 서명은 상수 시간으로 비교한다.
+ * <p>
+ * 클레임은 sub(회원 ID), jti(토큰 ID, 로그아웃 시 폐기 단위), iat, exp 만 쓴다.
+ * {@link Mac} 은 스레드 안전하지 않아 초기화된 원본을 복제해 쓴다.
+ */
+@Component
+public class JwtTokenProvider {
+
+    private static final String ALGORITHM = "HmacSHA256";
+    private static final String HEADER = base64Url("{\"alg\":\"HS256\",\"typ\":\"JWT\"}".getBytes(StandardCharsets.UTF_8));
+    private static final int MIN_SECRET_BYTES = 32;
+
+    private final Mac prototype;
+    private final Duration accessTokenTtl;
+    private final ObjectMapper objectMapper;
+    private final Clock clock;
+
+    public JwtTokenProvider(@Value("${app.auth.jwt.secret}") String secret,
+                            @Value("${app.auth.jwt.access-token-ttl:PT1H}") Duration accessTokenTtl,
+                            ObjectMapper objectMapper, Clock clock) {
+        byte[] key = Base64.getDecoder().decode(secret);
+        if (key.length < MIN_SECRET_BYTES) {
+            throw new IllegalStateException("app.auth.jwt.secret 은 Base64 로 인코딩된 32바이트 이상의 키여야 합니다.");
+        }
+        try {
+            this.prototype = Mac.getInstance(ALGORITHM);
+            this.prototype.init(new SecretKeySpec(key, ALGORITHM));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(e);
+        }
+        this.accessTokenTtl = accessTokenTtl;
+        this.objectMapper = objectMapper;
+        this.clock = clock;
+    }
+
+    public String issue(Long memberId) {
+        Instant now = clock.instant();
+        ObjectNode claims = objectMapper.createObjectNode()
+                .put("sub", String.valueOf(memberId))
+                .put("jti", UUID.randomUUID().toString())
+                .put("iat", now.getEpochSecond())
+                .put("exp", now.plus(accessTokenTtl).getEpochSecond());
+        String signingInput = HEADER + '.' + base64Url(claims.toString().getBytes(StandardCharsets.UTF_8));
+        return signingInput + '.' + base64Url(sign(signingInput));
+    }
+
+    /**
+     * 서명과 만료를 확인하고 주체를 돌려준다. 폐기 여부는 확인하지 않는다.
+     */
+    public AuthenticatedMember verify(String token) {
+        int firstDot = token.indexOf('.');
+        int secondDot = token.indexOf('.', firstDot + 1);
+        if (firstDot < 0 || secondDot < 0 || token.indexOf('.', secondDot + 1) >= 0) {
+            throw new InvalidTokenException("토큰 형식이 올바르지 않습니다.");
+        }
+        if (!token.regionMatches(0, HEADER, 0, firstDot) || firstDot != HEADER.length()) {
+            throw new InvalidTokenException("지원하지 않는 토큰 헤더입니다.");
+        }
+        byte[] signature;
+        try {
+            signature = Base64.getUrlDecoder().decode(token.substring(secondDot + 1));
+        } catch (IllegalArgumentException e) {
+            throw new InvalidTokenException("토큰 서명 형식이 올바르지 않습니다.");
+        }
+        if (!MessageDigest.isEqual(sign(token.substring(0, secondDot)), signature)) {
+            throw new InvalidTokenException("토큰 서명이 올바르지 않습니다.");
+        }
+        JsonNode claims = readClaims(token.substring(firstDot + 1, secondDot));
+        Instant expiresAt = Instant.ofEpochSecond(claims.path("exp").asLong());
+        if (!expiresAt.isAfter(clock.instant())) {
+            throw new InvalidTokenException("만료된 토큰입니다.");
+        }
+        String subject = claims.path("sub").asText(null);
+        String tokenId = claims.path("jti").asText(null);
+        if (subject == null || tokenId == null) {
+            throw new InvalidTokenException("토큰 클레임이 올바르지 않습니다.");
+        }
+        try {
+            return new AuthenticatedMember(Long.valueOf(subject), tokenId, expiresAt);
+        } catch (NumberFormatException e) {
+            throw new InvalidTokenException("토큰 주체가 올바르지 않습니다.");
+        }
+    }
+
+    public Duration getAccessTokenTtl() {
+        return accessTokenTtl;
+    }
+
+    private JsonNode readClaims(String encodedPayload) {
+        try {
+            return objectMapper.readTree(Base64.getUrlDecoder().decode(encodedPayload));
+        } catch (IllegalArgumentException | IOException e) {
+            throw new InvalidTokenException("토큰 클레임을 읽을 수 없습니다.");
+        }
+    }
+
+    private byte[] sign(String signingInput) {
+        try {
+            Mac mac = (Mac) prototype.clone();
+            return mac.doFinal(signingInput.getBytes(StandardCharsets.US_ASCII));
+        } catch (CloneNotSupportedException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static String base64Url(byte[] bytes) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+    }
+
+}
@@ -0,0 +1,98 @@
+package com.example.finance7.auth.token;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Base64;
+
+/**
+ * 요청의 토큰을 인증한다. 서명 검증 결과를 토큰의 SHA-256 다이제스트를 키로 남은 유효 시간만큼 캐시해,
+ * 같은 토큰의 두 번째 요청부터는 HMAC 계산과 JSON 파싱 없이 해시 한 번과 맵 조회, 폐기 여부 확인만 한다.
+ * <p>
+ * 살아 있는 토큰 원문을 큰 힙 자료구조에 남기지 않도록 원문 대신 다이제스트를 키로 쓴다.
+ * 폐기 확인은 캐시 적중 여부와 관계없이 매번 한다.
+ */
+@Component
+public class TokenAuthenticator {
+
+    private final JwtTokenProvider jwtTokenProvider;
+    private final TokenRevocationRegistry tokenRevocationRegistry;
+    private final Cache<String, AuthenticatedMember> verified;
+
+    public TokenAuthenticator(JwtTokenProvider jwtTokenProvider, TokenRevocationRegistry tokenRevocationRegistry,
+                              Clock clock, MeterRegistry meterRegistry,
+                              @Value("${app.auth.token-cache.maximum-size:100000}") long maximumSize) {
+        this.jwtTokenProvider = jwtTokenProvider;
+        this.tokenRevocationRegistry = tokenRevocationRegistry;
+        this.verified = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfter(new RemainingLifetime(clock))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, verified, "verifiedTokens");
+    }
+
+    public AuthenticatedMember authenticate(String token) {
+        String key = digest(token);
+        AuthenticatedMember member = verified.getIfPresent(key);
+        if (member == null) {
+            member = jwtTokenProvider.verify(token);
+            verified.put(key, member);
+        }
+        if (tokenRevocationRegistry.isRevoked(member.getTokenId())) {
+            throw new InvalidTokenException("로그아웃된 토큰입니다.");
+        }
+        return member;
+    }
+
+    public void evict(String token) {
+        verified.invalidate(digest(token));
+    }
+
+    private static String digest(String token) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.US_ASCII));
+            return Base64.getEncoder().encodeToString(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static class RemainingLifetime implements Expiry<String, AuthenticatedMember> {
+
+        private final Clock clock;
+
+        RemainingLifetime(Clock clock) {
+            this.clock = clock;
+        }
+
+        @Override
+        public long expireAfterCreate(String key, AuthenticatedMember member, long currentTime) {
+            return Math.max(0, Duration.between(clock.instant(), member.getExpiresAt()).toNanos());
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, AuthenticatedMember member, long currentTime,
+                                      long currentDuration) {
+            return expireAfterCreate(key, member, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, AuthenticatedMember member, long currentTime,
+                                    long currentDuration) {
+            return currentDuration;
+        }
+
+    }
+
+}
@@ -0,0 +1,87 @@
+package com.example.finance7.auth.token;
+
+import com.example.finance7.auth.entity.RevokedToken;
+import com.example.finance7.auth.repository.RevokedTokenRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 만료 전에 폐기된 토큰 목록. 폐기는 DB 에 기록하고, 각 인스턴스는 주기적으로 새 폐기분을 읽어 메모리에 반영한다.
+ * <p>
+ * 요청 경로의 {@link #isRevoked(String)} 는 메모리 맵 조회 한 번이다. 폐기 목록은 만료 전 토큰만 담아 작으므로
+ * 앞에 블룸 필터를 두어도 아낄 비용이 없다.
+ */
+@Slf4j
+@Component
+public class TokenRevocationRegistry {
+
+    /**
+     * 동시에 커밋된 트랜잭션은 ID 순서와 커밋 순서가 다를 수 있어, 직전에 읽은 ID 보다 조금 앞에서부터 다시 읽는다.
+     */
+    private static final long SYNC_ID_OVERLAP = 1000;
+
+    private final RevokedTokenRepository revokedTokenRepository;
+    private final Clock clock;
+    private final Map<String, Instant> revoked = new ConcurrentHashMap<>();
+    private volatile long lastSyncedId;
+
+    public TokenRevocationRegistry(RevokedTokenRepository revokedTokenRepository, Clock clock) {
+        this.revokedTokenRepository = revokedTokenRepository;
+        this.clock = clock;
+    }
+
+    public boolean isRevoked(String tokenId) {
+        return revoked.containsKey(tokenId);
+    }
+
+    @Transactional
+    public void revoke(String tokenId, Instant expiresAt) {
+        if (revoked.containsKey(tokenId)) {
+            return;
+        }
+        revokedTokenRepository.save(new RevokedToken(tokenId, expiresAt));
+        register(tokenId, expiresAt);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${app.auth.revocation.sync-interval:5000}", initialDelay = 5000)
+    @Transactional(readOnly = true)
+    public void sync() {
+        for (RevokedToken token : revokedTokenRepository
+                .findByIdGreaterThanAndExpiresAtAfterOrderByIdAsc(Math.max(0, lastSyncedId - SYNC_ID_OVERLAP),
+                        clock.instant())) {
+            register(token.getTokenId(), token.getExpiresAt());
+            lastSyncedId = Math.max(lastSyncedId, token.getId());
+        }
+    }
+
+    /**
+     * 만료된 폐기 항목을 DB 와 메모리에서 지운다.
+     */
+    @Scheduled(fixedDelayString = "${app.auth.revocation.cleanup-interval:3600000}", initialDelay = 3600000)
+    @Transactional
+    public void cleanup() {
+        Instant now = clock.instant();
+        int deleted = revokedTokenRepository.deleteExpired(now);
+        revoked.values().removeIf(expiresAt -> !expiresAt.isAfter(now));
+        log.info("revoked tokens cleaned up: deleted={}, active={}", deleted, revoked.size());
+    }
+
+    int size() {
+        return revoked.size();
+    }
+
+    private void register(String tokenId, Instant expiresAt) {
+        revoked.put(tokenId, expiresAt);
+    }
+
+}
@@ -0,0 +1,39 @@
+package com.example.finance7.auth.web;
+
+import com.example.finance7.auth.token.AuthenticatedMember;
+import com.example.finance7.global.error.BusinessException;
+import com.example.finance7.global.error.ErrorCode;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.util.Set;
+
+/**
+ * 관리자 API 는 로그인한 회원 중 {@code app.admin.member-ids} 에 등록된 회원만 호출할 수 있다.
+ * 회원 권한 모델이 생기기 전까지는 설정의 회원 ID 목록으로 관리자를 정하며, 목록이 비어 있으면 아무도 호출할 수 없다.
+ */
+@Component
+public class AdminInterceptor implements HandlerInterceptor {
+
+    private final Set<Long> adminMemberIds;
+
+    public AdminInterceptor(@Value("${app.admin.member-ids:}") Set<Long> adminMemberIds) {
+        this.adminMemberIds = Set.copyOf(adminMemberIds);
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        Object member = request.getAttribute(JwtAuthenticationFilter.AUTHENTICATED_MEMBER);
+        if (member == null) {
+            throw new BusinessException(ErrorCode.UNAUTHORIZED);
+        }
+        if (!adminMemberIds.contains(((AuthenticatedMember) member).getMemberId())) {
+            throw new BusinessException(ErrorCode.NOT_ADMIN);
+        }
+        return true;
+    }
+
+}
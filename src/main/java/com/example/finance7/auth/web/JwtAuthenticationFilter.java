@@ -0,0 +1,71 @@
+package com.example.finance7.auth.web;
+
+import com.example.finance7.auth.token.AuthenticatedMember;
+import com.example.finance7.auth.token.InvalidTokenException;
+import com.example.finance7.auth.token.TokenAuthenticator;
+import com.example.finance7.global.error.ErrorCode;
+import com.example.finance7.global.error.ErrorResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Authorization: Bearer 토큰이 있으면 인증해 요청 속성에 담는다. 토큰이 없으면 그대로 통과시키고,
+ * 로그인이 필요한 핸들러는 {@link LoginMember} 인자로 요구한다. 토큰이 잘못되었으면 바로 401 로 응답한다.
+ */
+@Component
+@RequiredArgsConstructor
+@Order(JwtAuthenticationFilter.ORDER)
+public class JwtAuthenticationFilter extends OncePerRequestFilter {
+
+    public static final int ORDER = Ordered.LOWEST_PRECEDENCE - 100;
+
+    public static final String AUTHENTICATED_MEMBER = JwtAuthenticationFilter.class.getName() + ".MEMBER";
+    public static final String ACCESS_TOKEN = JwtAuthenticationFilter.class.getName() + ".TOKEN";
+
+    private static final String BEARER_PREFIX = "Bearer ";
+
+    private final TokenAuthenticator tokenAuthenticator;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        String header = request.getHeader(HttpHeaders.AUTHORIZATION);
+        if (header == null || !header.regionMatches(true, 0, BEARER_PREFIX, 0, BEARER_PREFIX.length())) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+        String token = header.substring(BEARER_PREFIX.length()).trim();
+        AuthenticatedMember member;
+        try {
+            member = tokenAuthenticator.authenticate(token);
+        } catch (InvalidTokenException e) {
+            writeUnauthorized(response, e.getMessage());
+            return;
+        }
+        request.setAttribute(AUTHENTICATED_MEMBER, member);
+        request.setAttribute(ACCESS_TOKEN, token);
+        filterChain.doFilter(request, response);
+    }
+
+    private void writeUnauthorized(HttpServletResponse response, String message) throws IOException {
+        response.setStatus(ErrorCode.INVALID_TOKEN.getStatus().value());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        objectMapper.writeValue(response.getOutputStream(), ErrorResponse.of(ErrorCode.INVALID_TOKEN, message));
+    }
+
+}
@@ -0,0 +1,14 @@
+package com.example.finance7.auth.web;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 인증된 회원을 {@link com.example.finance7.auth.token.AuthenticatedMember} 로 받는다. 토큰이 없으면 401 로 응답한다.
+ */
+@Target(ElementType.PARAMETER)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface LoginMember {
+}
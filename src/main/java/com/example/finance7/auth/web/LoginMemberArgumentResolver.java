@@ -0,0 +1,32 @@
+package com.example.finance7.auth.web;
+
+import com.example.finance7.auth.token.AuthenticatedMember;
+import com.example.finance7.global.error.BusinessException;
+import com.example.finance7.global.error.ErrorCode;
+import org.springframework.core.MethodParameter;
+import org.springframework.web.bind.support.WebDataBinderFactory;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.method.support.HandlerMethodArgumentResolver;
+import org.springframework.web.method.support.ModelAndViewContainer;
+
+public class LoginMemberArgumentResolver implements HandlerMethodArgumentResolver {
+
+    @Override
+    public boolean supportsParameter(MethodParameter parameter) {
+        return parameter.hasParameterAnnotation(LoginMember.class)
+                && AuthenticatedMember.class.isAssignableFrom(parameter.getParameterType());
+    }
+
+    @Override
+    public Object resolveArgument(MethodParameter parameter, ModelAndViewContainer mavContainer,
+                                  NativeWebRequest webRequest, WebDataBinderFactory binderFactory) {
+        Object member = webRequest.getAttribute(JwtAuthenticationFilter.AUTHENTICATED_MEMBER,
+                RequestAttributes.SCOPE_REQUEST);
+        if (member == null) {
+            throw new BusinessException(ErrorCode.UNAUTHORIZED);
+        }
+        return member;
+    }
+
+}
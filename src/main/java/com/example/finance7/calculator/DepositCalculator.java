@@ -0,0 +1,44 @@
+package com.example.finance7.calculator;
+
+import org.springframework.stereotype.Component;
+
+/**
+ * 예금(일시 예치)과 적금(매월 납입)의 세전 만기 이자를 계산한다.
+ */
+@Component
+public class DepositCalculator {
+
+    public long depositInterest(long principal, int annualRateBp, int months, InterestCompounding compounding) {
+        InterestMath.validate(principal, annualRateBp, months);
+        if (compounding == InterestCompounding.SIMPLE) {
+            return Math.multiplyExact(Math.multiplyExact(principal, annualRateBp), months)
+                    / (InterestMath.BP_PER_UNIT * InterestMath.MONTHS_PER_YEAR);
+        }
+        long balance = principal;
+        for (int month = 0; month < months; month++) {
+            balance += InterestMath.monthlyInterest(balance, annualRateBp);
+        }
+        return balance - principal;
+    }
+
+    public long savingsInterest(long monthlyDeposit, int annualRateBp, int months, InterestCompounding compounding) {
+        InterestMath.validate(monthlyDeposit, annualRateBp, months);
+        if (compounding == InterestCompounding.SIMPLE) {
+            // k 번째 납입분은 (months - k + 1) 개월 동안 이자가 붙는다: 합계 = n(n+1)/2 개월
+            long depositMonths = (long) months * (months + 1) / 2;
+            return Math.multiplyExact(Math.multiplyExact(monthlyDeposit, annualRateBp), depositMonths)
+                    / (InterestMath.BP_PER_UNIT * InterestMath.MONTHS_PER_YEAR);
+        }
+        long balance = 0L;
+        for (int month = 0; month < months; month++) {
+            balance += monthlyDeposit;
+            balance += InterestMath.monthlyInterest(balance, annualRateBp);
+        }
+        return balance - monthlyDeposit * months;
+    }
+
+    public long maturityAmount(long principal, int annualRateBp, int months, InterestCompounding compounding) {
+        return principal + depositInterest(principal, annualRateBp, months, compounding);
+    }
+
+}
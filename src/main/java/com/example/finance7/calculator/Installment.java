@@ -0,0 +1,21 @@
+package com.example.finance7.calculator;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public class Installment {
+
+    private final int period;
+    private final long principal;
+    private final long interest;
+    private final long payment;
+    private final long balance;
+
+    static Installment of(RepaymentCursor cursor) {
+        return new Installment(cursor.period(), cursor.principal(), cursor.interest(), cursor.payment(),
+                cursor.balance());
+    }
+
+}
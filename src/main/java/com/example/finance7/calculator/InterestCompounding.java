@@ -0,0 +1,15 @@
+package com.example.finance7.calculator;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum InterestCompounding {
+
+    SIMPLE("단리"),
+    MONTHLY_COMPOUND("월복리");
+
+    private final String description;
+
+}
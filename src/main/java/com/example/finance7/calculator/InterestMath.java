@@ -0,0 +1,45 @@
+package com.example.finance7.calculator;
+
+/**
+ * 금액은 원 단위 long, 연이율은 bp(1bp = 0.01%) 단위 int 로 다룬다.
+ * 이자는 은행 관행대로 원 미만을 절사한다.
+ */
+final class InterestMath {
+
+    static final long BP_PER_UNIT = 10_000L;
+    static final long MONTHS_PER_YEAR = 12L;
+    private static final long MONTHLY_DIVISOR = BP_PER_UNIT * MONTHS_PER_YEAR;
+
+    private InterestMath() {
+    }
+
+    static long monthlyInterest(long balance, int annualRateBp) {
+        return Math.multiplyExact(balance, annualRateBp) / MONTHLY_DIVISOR;
+    }
+
+    static long equalInstallmentPayment(long principal, int annualRateBp, int months) {
+        if (annualRateBp == 0) {
+            return ceilDiv(principal, months);
+        }
+        double monthlyRate = annualRateBp / (double) MONTHLY_DIVISOR;
+        double growth = Math.pow(1 + monthlyRate, months);
+        return (long) Math.ceil(principal * monthlyRate * growth / (growth - 1));
+    }
+
+    static long ceilDiv(long dividend, long divisor) {
+        return -Math.floorDiv(-dividend, divisor);
+    }
+
+    static void validate(long amount, int annualRateBp, int months) {
+        if (amount <= 0) {
+            throw new IllegalArgumentException("금액은 0보다 커야 합니다: " + amount);
+        }
+        if (annualRateBp < 0) {
+            throw new IllegalArgumentException("금리는 음수일 수 없습니다: " + annualRateBp);
+        }
+        if (months <= 0) {
+            throw new IllegalArgumentException("기간은 1개월 이상이어야 합니다: " + months);
+        }
+    }
+
+}
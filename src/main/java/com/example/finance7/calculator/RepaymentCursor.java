@@ -0,0 +1,80 @@
+package com.example.finance7.calculator;
+
+/**
+ * 상환 스케줄을 한 회차씩 계산하는 커서. 회차마다 객체를 만들지 않으므로
+ * 합계만 필요하거나 결과를 바로 직렬화하는 경우 리스트를 만들지 않고 순회할 수 있다.
+ */
+public final class RepaymentCursor {
+
+    private final RepaymentMethod method;
+    private final int annualRateBp;
+    private final int months;
+    private final long basePrincipal;
+    private final long fixedPayment;
+
+    private int period;
+    private long balance;
+    private long principal;
+    private long interest;
+
+    RepaymentCursor(RepaymentMethod method, long loanAmount, int annualRateBp, int months) {
+        InterestMath.validate(loanAmount, annualRateBp, months);
+        this.method = method;
+        this.annualRateBp = annualRateBp;
+        this.months = months;
+        this.balance = loanAmount;
+        this.basePrincipal = loanAmount / months;
+        this.fixedPayment = method == RepaymentMethod.EQUAL_INSTALLMENT
+                ? InterestMath.equalInstallmentPayment(loanAmount, annualRateBp, months)
+                : 0L;
+    }
+
+    public boolean next() {
+        if (period >= months) {
+            return false;
+        }
+        period++;
+        interest = InterestMath.monthlyInterest(balance, annualRateBp);
+        principal = period == months ? balance : scheduledPrincipal();
+        balance -= principal;
+        return true;
+    }
+
+    private long scheduledPrincipal() {
+        switch (method) {
+            case EQUAL_PRINCIPAL:
+                return basePrincipal;
+            case EQUAL_INSTALLMENT:
+                return Math.min(balance, Math.max(0L, fixedPayment - interest));
+            case BULLET:
+                return 0L;
+            default:
+                throw new IllegalStateException("지원하지 않는 상환 방식입니다: " + method);
+        }
+    }
+
+    public int period() {
+        return period;
+    }
+
+    public int months() {
+        return months;
+    }
+
+    public long principal() {
+        return principal;
+    }
+
+    public long interest() {
+        return interest;
+    }
+
+    public long payment() {
+        return principal + interest;
+    }
+
+    public long balance() {
+        return balance;
+    }
+
+}
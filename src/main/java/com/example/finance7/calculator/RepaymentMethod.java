@@ -0,0 +1,16 @@
+package com.example.finance7.calculator;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum RepaymentMethod {
+
+    EQUAL_PRINCIPAL("원금균등분할상환"),
+    EQUAL_INSTALLMENT("원리금균등분할상환"),
+    BULLET("만기일시상환");
+
+    private final String description;
+
+}
@@ -0,0 +1,59 @@
+package com.example.finance7.calculator;
+
+/**
+ * 회차별 값을 원시 배열로 보관하는 상환 스케줄. 인덱스는 0부터 시작하며 회차 번호는 인덱스 + 1 이다.
+ */
+public final class RepaymentSchedule {
+
+    private final long[] principals;
+    private final long[] interests;
+    private final long[] balances;
+    private final long totalInterest;
+
+    private RepaymentSchedule(long[] principals, long[] interests, long[] balances, long totalInterest) {
+        this.principals = principals;
+        this.interests = interests;
+        this.balances = balances;
+        this.totalInterest = totalInterest;
+    }
+
+    static RepaymentSchedule from(RepaymentCursor cursor) {
+        int months = cursor.months();
+        long[] principals = new long[months];
+        long[] interests = new long[months];
+        long[] balances = new long[months];
+        long totalInterest = 0L;
+        for (int i = 0; cursor.next(); i++) {
+            principals[i] = cursor.principal();
+            interests[i] = cursor.interest();
+            balances[i] = cursor.balance();
+            totalInterest += cursor.interest();
+        }
+        return new RepaymentSchedule(principals, interests, balances, totalInterest);
+    }
+
+    public int size() {
+        return principals.length;
+    }
+
+    public long principalAt(int index) {
+        return principals[index];
+    }
+
+    public long interestAt(int index) {
+        return interests[index];
+    }
+
+    public long paymentAt(int index) {
+        return principals[index] + interests[index];
+    }
+
+    public long balanceAt(int index) {
+        return balances[index];
+    }
+
+    public long getTotalInterest() {
+        return totalInterest;
+    }
+
+}
@@ -0,0 +1,47 @@
+package com.example.finance7.calculator;
+
+import org.springframework.stereotype.Component;
+
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+@Component
+public class RepaymentScheduleCalculator {
+
+    public RepaymentCursor cursor(RepaymentMethod method, long loanAmount, int annualRateBp, int months) {
+        return new RepaymentCursor(method, loanAmount, annualRateBp, months);
+    }
+
+    public RepaymentSchedule calculate(RepaymentMethod method, long loanAmount, int annualRateBp, int months) {
+        return RepaymentSchedule.from(cursor(method, loanAmount, annualRateBp, months));
+    }
+
+    public Stream<Installment> stream(RepaymentMethod method, long loanAmount, int annualRateBp, int months) {
+        RepaymentCursor cursor = cursor(method, loanAmount, annualRateBp, months);
+        Spliterator<Installment> spliterator = new Spliterators.AbstractSpliterator<>(months,
+                Spliterator.ORDERED | Spliterator.SIZED | Spliterator.NONNULL | Spliterator.IMMUTABLE) {
+            @Override
+            public boolean tryAdvance(Consumer<? super Installment> action) {
+                if (!cursor.next()) {
+                    return false;
+                }
+                action.accept(Installment.of(cursor));
+                return true;
+            }
+        };
+        return StreamSupport.stream(spliterator, false);
+    }
+
+    public long totalInterest(RepaymentMethod method, long loanAmount, int annualRateBp, int months) {
+        RepaymentCursor cursor = cursor(method, loanAmount, annualRateBp, months);
+        long totalInterest = 0L;
+        while (cursor.next()) {
+            totalInterest += cursor.interest();
+        }
+        return totalInterest;
+    }
+
+}
@@ -0,0 +1,87 @@
+package com.example.finance7.cart.buffer;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 한 회원 장바구니에 쌓인 미반영 변경. 같은 상품에 대한 담기/빼기는 하나의 변경으로 합쳐진다.
+ * {@link CartWriteBuffer} 안에서만 변경되고 밖으로는 복사본만 나간다.
+ */
+public class CartChanges {
+
+    private final Map<Long, Change> changes = new LinkedHashMap<>();
+    private int operations;
+
+    CartChanges add(Long productId, int quantity) {
+        changes.computeIfAbsent(productId, id -> new Change()).delta += quantity;
+        operations++;
+        return this;
+    }
+
+    CartChanges remove(Long productId) {
+        Change change = changes.computeIfAbsent(productId, id -> new Change());
+        change.reset = true;
+        change.delta = 0;
+        operations++;
+        return this;
+    }
+
+    /**
+     * 반영에 실패해 되돌아온 이 변경 뒤에 그 사이 쌓인 {@code newer} 를 잇는다.
+     * 새 변경이 빼기면 이전 변경을 덮고, 담기면 이전 변경에 더한다.
+     */
+    CartChanges andThen(CartChanges newer) {
+        newer.changes.forEach((productId, change) -> {
+            Change merged = changes.computeIfAbsent(productId, id -> new Change());
+            if (change.reset) {
+                merged.reset = true;
+                merged.delta = change.delta;
+            } else {
+                merged.delta += change.delta;
+            }
+        });
+        operations += newer.operations;
+        return this;
+    }
+
+    CartChanges copy() {
+        CartChanges copy = new CartChanges();
+        changes.forEach((productId, change) -> copy.changes.put(productId, change.copy()));
+        copy.operations = operations;
+        return copy;
+    }
+
+    public Map<Long, Change> changes() {
+        return Collections.unmodifiableMap(changes);
+    }
+
+    /**
+     * 합쳐지기 전 요청 수.
+     */
+    public int operations() {
+        return operations;
+    }
+
+    public static class Change {
+
+        private boolean reset;
+        private int delta;
+
+        /**
+         * 현재 수량에 이 변경을 적용한 수량. 빼기 이후의 담기는 0 부터 더한다.
+         */
+        public int applyTo(int currentQuantity) {
+            return (reset ? 0 : currentQuantity) + delta;
+        }
+
+        private Change copy() {
+            Change copy = new Change();
+            copy.reset = reset;
+            copy.delta = delta;
+            return copy;
+        }
+
+    }
+
+}
@@ -0,0 +1,99 @@
+package com.example.finance7.cart.buffer;
+
+import com.example.finance7.global.error.BusinessException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * 장바구니 변경을 메모리에 모았다가 주기적으로 회원 단위 한 번의 쓰기로 반영한다(write-behind).
+ * <p>
+ * 요청 스레드는 DB 를 기다리지 않고 회원별 변경 맵에 합치기만 하므로, 같은 장바구니에 요청이 몰려도 요청 스레드 풀이
+ * 줄을 서지 않는다. 짧은 시간의 담기/빼기 반복은 상품별 최종 변경 하나로 합쳐진다. 반영은 스케줄러 스레드에서
+ * 낙관적 락 재시도로 처리한다. 재시도를 다 쓰고도 실패한 변경은 그 사이 쌓인 변경 앞에 다시 합쳐 다음 주기에 반영하고,
+ * 다시 해도 같은 결과인 오류(업무 규칙 위반, 무결성 제약 위반)일 때만 버리고 cart.flush.failed 지표로 남긴다.
+ * 삭제된 상품에 대한 변경은 {@link CartWriter} 가 건너뛴다. 인스턴스가 내려가기 전에 남은 변경을 모두 반영한다.
+ */
+@Slf4j
+@Component
+public class CartWriteBuffer {
+
+    private final ConcurrentMap<Long, CartChanges> pending = new ConcurrentHashMap<>();
+    private final CartWriter cartWriter;
+    private final Counter coalesced;
+    private final Counter failed;
+    private final Counter requeued;
+
+    public CartWriteBuffer(CartWriter cartWriter, MeterRegistry meterRegistry) {
+        this.cartWriter = cartWriter;
+        Gauge.builder("cart.buffer.pending", pending, ConcurrentMap::size)
+                .description("Members with cart changes not yet flushed")
+                .register(meterRegistry);
+        this.coalesced = Counter.builder("cart.buffer.coalesced")
+                .description("Cart operations merged into another pending change")
+                .register(meterRegistry);
+        this.failed = Counter.builder("cart.flush.failed")
+                .description("Cart flushes dropped after a permanent error")
+                .register(meterRegistry);
+        this.requeued = Counter.builder("cart.flush.requeued")
+                .description("Cart flushes put back to be retried on the next run")
+                .register(meterRegistry);
+    }
+
+    public void add(Long memberId, Long productId, int quantity) {
+        pending.compute(memberId, (id, changes) -> (changes == null ? new CartChanges() : changes)
+                .add(productId, quantity));
+    }
+
+    public void remove(Long memberId, Long productId) {
+        pending.compute(memberId, (id, changes) -> (changes == null ? new CartChanges() : changes)
+                .remove(productId));
+    }
+
+    /**
+     * 회원의 미반영 변경 복사본. 조회 시 DB 상태 위에 덮어 보여 주는 데 쓴다.
+     */
+    public Optional<CartChanges> pending(Long memberId) {
+        CartChanges[] snapshot = new CartChanges[1];
+        pending.computeIfPresent(memberId, (id, changes) -> {
+            snapshot[0] = changes.copy();
+            return changes;
+        });
+        return Optional.ofNullable(snapshot[0]);
+    }
+
+    @PreDestroy
+    @Scheduled(fixedDelayString = "${app.cart.flush-interval:200}")
+    public void flush() {
+        // 실패해 다시 넣은 회원을 같은 주기에 또 꺼내지 않도록 키를 먼저 복사한다
+        for (Long memberId : new ArrayList<>(pending.keySet())) {
+            CartChanges changes = pending.remove(memberId);
+            if (changes == null) {
+                continue;
+            }
+            try {
+                cartWriter.apply(memberId, changes);
+                coalesced.increment(changes.operations() - changes.changes().size());
+            } catch (BusinessException | DataIntegrityViolationException e) {
+                failed.increment();
+                log.error("cart flush dropped: memberId={}, changes={}", memberId, changes.changes().keySet(), e);
+            } catch (RuntimeException e) {
+                requeued.increment();
+                pending.merge(memberId, changes, (newer, failedChanges) -> failedChanges.andThen(newer));
+                log.warn("cart flush failed, will be retried: memberId={}, changes={}",
+                        memberId, changes.changes().keySet(), e);
+            }
+        }
+    }
+
+}
@@ -0,0 +1,49 @@
+package com.example.finance7.cart.buffer;
+
+import com.example.finance7.cart.entity.Cart;
+import com.example.finance7.cart.entity.CartItem;
+import com.example.finance7.cart.repository.CartRepository;
+import com.example.finance7.global.concurrency.OptimisticRetryExecutor;
+import com.example.finance7.product.entity.Product;
+import com.example.finance7.product.repository.ProductRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 합쳐진 변경을 회원 장바구니에 한 트랜잭션으로 반영한다. 다른 인스턴스와 충돌하면 최신 상태를 다시 읽어 재시도한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class CartWriter {
+
+    private final CartRepository cartRepository;
+    private final ProductRepository productRepository;
+    private final OptimisticRetryExecutor optimisticRetryExecutor;
+
+    public void apply(Long memberId, CartChanges pending) {
+        optimisticRetryExecutor.execute(status -> {
+            Cart cart = cartRepository.findForUpdateByMemberId(memberId)
+                    .orElseGet(() -> cartRepository.save(new Cart(memberId)));
+            Set<Long> newProductIds = pending.changes().keySet().stream()
+                    .filter(productId -> cart.findItem(productId).isEmpty())
+                    .collect(Collectors.toSet());
+            Map<Long, Product> newProducts = productRepository.findAllById(newProductIds).stream()
+                    .collect(Collectors.toMap(Product::getId, Function.identity()));
+
+            pending.changes().forEach((productId, change) -> {
+                CartItem item = cart.findItem(productId).orElse(null);
+                Product product = item != null ? item.getProduct() : newProducts.get(productId);
+                if (product != null) {
+                    cart.changeQuantity(product, change.applyTo(item == null ? 0 : item.getQuantity()));
+                }
+            });
+            return null;
+        });
+    }
+
+}
@@ -0,0 +1,35 @@
+package com.example.finance7.cart.controller;
+
+import com.example.finance7.cart.service.CartService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.nio.charset.StandardCharsets;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/admin/carts")
+public class AdminCartController {
+
+    private static final MediaType TEXT_CSV = new MediaType("text", "csv", StandardCharsets.UTF_8);
+
+    private final CartService cartService;
+
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportCarts() {
+        StreamingResponseBody body = cartService::exportCsv;
+        return ResponseEntity.ok()
+                .contentType(TEXT_CSV)
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        ContentDisposition.attachment().filename("carts.csv").build().toString())
+                .body(body);
+    }
+
+}
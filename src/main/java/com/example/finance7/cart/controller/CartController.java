@@ -0,0 +1,46 @@
+package com.example.finance7.cart.controller;
+
+import com.example.finance7.auth.token.AuthenticatedMember;
+import com.example.finance7.auth.web.LoginMember;
+import com.example.finance7.cart.dto.CartItemRequest;
+import com.example.finance7.cart.dto.CartResponse;
+import com.example.finance7.cart.service.CartService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * 로그인한 회원 본인의 장바구니만 다룬다. 담기/빼기는 버퍼에 기록된 뒤 곧 반영되므로 202 Accepted 로 응답한다.
+ */
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/cart")
+public class CartController {
+
+    private final CartService cartService;
+
+    @GetMapping
+    public CartResponse getCart(@LoginMember AuthenticatedMember member) {
+        return cartService.getCart(member.getMemberId());
+    }
+
+    @PostMapping("/items")
+    @ResponseStatus(HttpStatus.ACCEPTED)
+    public void addItem(@LoginMember AuthenticatedMember member, @RequestBody CartItemRequest request) {
+        cartService.addItem(member.getMemberId(), request.getProductId(), request.getQuantity());
+    }
+
+    @DeleteMapping("/items/{productId}")
+    @ResponseStatus(HttpStatus.ACCEPTED)
+    public void removeItem(@LoginMember AuthenticatedMember member, @PathVariable Long productId) {
+        cartService.removeItem(member.getMemberId(), productId);
+    }
+
+}
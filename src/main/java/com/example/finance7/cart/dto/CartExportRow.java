@@ -0,0 +1,34 @@
+package com.example.finance7.cart.dto;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+
+@Getter
+@RequiredArgsConstructor
+public class CartExportRow {
+
+    public static final List<String> HEADER =
+            List.of("memberId", "productId", "productName", "bankName", "quantity", "updatedAt");
+
+    private final Long memberId;
+    private final Long productId;
+    private final String productName;
+    private final String bankName;
+    private final int quantity;
+    private final LocalDateTime updatedAt;
+
+    public List<String> toRecord() {
+        return Arrays.asList(
+                String.valueOf(memberId),
+                String.valueOf(productId),
+                productName,
+                bankName,
+                String.valueOf(quantity),
+                updatedAt == null ? null : updatedAt.toString());
+    }
+
+}
@@ -0,0 +1,15 @@
+package com.example.finance7.cart.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class CartItemRequest {
+
+    private Long productId;
+    private int quantity = 1;
+
+}
@@ -0,0 +1,28 @@
+package com.example.finance7.cart.dto;
+
+import com.example.finance7.product.dto.ProductResponse;
+import com.example.finance7.product.entity.ProductType;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class CartItemResponse {
+
+    private final Long productId;
+    private final String productName;
+    private final String bankName;
+    private final ProductType type;
+    private final int quantity;
+
+    public static CartItemResponse of(ProductResponse product, int quantity) {
+        return CartItemResponse.builder()
+                .productId(product.getId())
+                .productName(product.getName())
+                .bankName(product.getBankName())
+                .type(product.getType())
+                .quantity(quantity)
+                .build();
+    }
+
+}
@@ -0,0 +1,20 @@
+package com.example.finance7.cart.dto;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@RequiredArgsConstructor
+public class CartResponse {
+
+    private final Long memberId;
+    private final List<CartItemResponse> items;
+
+    /**
+     * 아직 DB 에 반영되지 않은 변경이 포함되어 있는지 여부.
+     */
+    private final boolean pending;
+
+}
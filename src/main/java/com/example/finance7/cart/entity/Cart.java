@@ -0,0 +1,82 @@
+package com.example.finance7.cart.entity;
+
+import com.example.finance7.global.entity.BaseTimeEntity;
+import com.example.finance7.product.entity.Product;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import javax.persistence.CascadeType;
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.GeneratedValue;
+import javax.persistence.GenerationType;
+import javax.persistence.Id;
+import javax.persistence.OneToMany;
+import javax.persistence.Table;
+import javax.persistence.Version;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 회원별 장바구니. 여러 탭/기기에서 동시에 바뀌므로 행 잠금 대신 {@code version} 으로 충돌을 감지한다.
+ * 항목만 바뀌어도 버전이 오르도록 변경 시에는 OPTIMISTIC_FORCE_INCREMENT 로 읽는다.
+ */
+@Getter
+@Entity
+@Table(name = "cart")
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class Cart extends BaseTimeEntity {
+
+    public static final int MAX_QUANTITY = 99;
+    public static final int MAX_ITEMS = 100;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "cart_id")
+    private Long id;
+
+    @Column(nullable = false, unique = true)
+    private Long memberId;
+
+    @Version
+    private Long version;
+
+    @OneToMany(mappedBy = "cart", cascade = CascadeType.ALL, orphanRemoval = true)
+    private List<CartItem> items = new ArrayList<>();
+
+    public Cart(Long memberId) {
+        this.memberId = memberId;
+    }
+
+    public List<CartItem> getItems() {
+        return Collections.unmodifiableList(items);
+    }
+
+    public Optional<CartItem> findItem(Long productId) {
+        return items.stream()
+                .filter(item -> item.getProduct().getId().equals(productId))
+                .findFirst();
+    }
+
+    /**
+     * 상품 수량을 정한다. 0 이하면 항목을 뺀다. 수량은 {@link #MAX_QUANTITY} 로 제한하고,
+     * 항목 수가 {@link #MAX_ITEMS} 에 이르면 새 상품은 담지 않는다.
+     */
+    public void changeQuantity(Product product, int quantity) {
+        Optional<CartItem> existing = findItem(product.getId());
+        if (quantity <= 0) {
+            existing.ifPresent(items::remove);
+            return;
+        }
+        int bounded = Math.min(quantity, MAX_QUANTITY);
+        if (existing.isPresent()) {
+            existing.get().changeQuantity(bounded);
+        } else if (items.size() < MAX_ITEMS) {
+            items.add(new CartItem(this, product, bounded));
+        }
+    }
+
+}
@@ -0,0 +1,29 @@
+package com.example.finance7.cart.repository;
+
+import com.example.finance7.cart.dto.CartExportRow;
+import com.example.finance7.cart.entity.CartItem;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+
+import javax.persistence.QueryHint;
+import java.util.List;
+import java.util.stream.Stream;
+
+public interface CartItemRepository extends JpaRepository<CartItem, Long> {
+
+    /**
+     * 내보내기용 장바구니 항목 스트림. 엔티티 대신 행 단위 DTO 로 읽어 영속성 컨텍스트에 아무것도 쌓지 않는다.
+     */
+    @QueryHints(@QueryHint(name = org.hibernate.jpa.QueryHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("select new com.example.finance7.cart.dto.CartExportRow(c.memberId, p.id, p.name, p.bankName, i.quantity, c.updatedAt)"
+            + " from CartItem i join i.cart c join i.product p order by c.memberId, p.id")
+    Stream<CartExportRow> streamExportRows();
+
+    /**
+     * 상품별로 담은 장바구니 수. 상품 자동완성의 인기도로 쓴다.
+     */
+    @Query("select i.product.id as productId, count(i) as count from CartItem i group by i.product.id")
+    List<ProductCartCount> countByProduct();
+
+}
@@ -0,0 +1,23 @@
+package com.example.finance7.cart.repository;
+
+import com.example.finance7.cart.entity.Cart;
+import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+
+import javax.persistence.LockModeType;
+import java.util.Optional;
+
+public interface CartRepository extends JpaRepository<Cart, Long> {
+
+    @EntityGraph(attributePaths = {"items", "items.product"})
+    Optional<Cart> findWithItemsByMemberId(Long memberId);
+
+    /**
+     * 변경용 조회. 항목만 바뀌어도 커밋 시 장바구니 버전을 올려 동시 변경을 충돌로 감지한다.
+     */
+    @Lock(LockModeType.OPTIMISTIC_FORCE_INCREMENT)
+    @EntityGraph(attributePaths = "items")
+    Optional<Cart> findForUpdateByMemberId(Long memberId);
+
+}
@@ -0,0 +1,9 @@
+package com.example.finance7.cart.repository;
+
+public interface ProductCartCount {
+
+    Long getProductId();
+
+    Long getCount();
+
+}
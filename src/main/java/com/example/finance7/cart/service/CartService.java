@@ -0,0 +1,91 @@
+package com.example.finance7.cart.service;
+
+import com.example.finance7.cart.buffer.CartChanges;
+import com.example.finance7.cart.buffer.CartWriteBuffer;
+import com.example.finance7.cart.dto.CartExportRow;
+import com.example.finance7.cart.dto.CartItemResponse;
+import com.example.finance7.cart.dto.CartResponse;
+import com.example.finance7.cart.entity.Cart;
+import com.example.finance7.cart.repository.CartItemRepository;
+import com.example.finance7.cart.repository.CartRepository;
+import com.example.finance7.global.csv.CsvExporter;
+import com.example.finance7.global.error.BusinessException;
+import com.example.finance7.global.error.ErrorCode;
+import com.example.finance7.product.dto.ProductResponse;
+import com.example.finance7.product.ranking.ProductActivity;
+import com.example.finance7.product.ranking.ProductRanking;
+import com.example.finance7.product.service.ProductService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class CartService {
+
+    private final CartRepository cartRepository;
+    private final CartItemRepository cartItemRepository;
+    private final CartWriteBuffer cartWriteBuffer;
+    private final ProductService productService;
+    private final ProductRanking productRanking;
+    private final CsvExporter csvExporter;
+
+    /**
+     * 저장된 장바구니에 아직 반영되지 않은 변경을 덮어 돌려준다.
+     */
+    public CartResponse getCart(Long memberId) {
+        Map<Long, CartItemResponse> items = new LinkedHashMap<>();
+        cartRepository.findWithItemsByMemberId(memberId).ifPresent(cart -> cart.getItems().forEach(item ->
+                items.put(item.getProduct().getId(),
+                        CartItemResponse.of(ProductResponse.from(item.getProduct()), item.getQuantity()))));
+
+        Optional<CartChanges> pending = cartWriteBuffer.pending(memberId);
+        pending.ifPresent(changes -> changes.changes().forEach((productId, change) -> {
+            CartItemResponse current = items.get(productId);
+            int quantity = Math.min(change.applyTo(current == null ? 0 : current.getQuantity()), Cart.MAX_QUANTITY);
+            if (quantity <= 0) {
+                items.remove(productId);
+            } else if (current != null || items.size() < Cart.MAX_ITEMS) {
+                // 담은 뒤 반영 전에 삭제된 상품은 조회 전체를 실패시키지 않고 빼고 보여 준다
+                productService.findProduct(productId).ifPresentOrElse(
+                        product -> items.put(productId, CartItemResponse.of(product, quantity)),
+                        () -> items.remove(productId));
+            }
+        }));
+        return new CartResponse(memberId, new ArrayList<>(items.values()), pending.isPresent());
+    }
+
+    /**
+     * 담기는 버퍼에만 기록하고 바로 돌아간다. 상품 존재 여부는 캐시된 상품 조회로 확인한다.
+     * 담기를 상품 신청으로 보고 인기 순위에 센다. 트랜잭션 없이 실행해 캐시를 채우는 상품 조회가
+     * 읽기 전용 트랜잭션에 합류해 레플리카로 가지 않게 한다.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void addItem(Long memberId, Long productId, int quantity) {
+        if (productId == null || quantity < 1 || quantity > Cart.MAX_QUANTITY) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT,
+                    "수량은 1 이상 " + Cart.MAX_QUANTITY + " 이하여야 합니다.");
+        }
+        ProductResponse product = productService.getProduct(productId);
+        cartWriteBuffer.add(memberId, productId, quantity);
+        productRanking.record(ProductActivity.APPLY, productId, product.getType());
+    }
+
+    public void removeItem(Long memberId, Long productId) {
+        cartWriteBuffer.remove(memberId, productId);
+    }
+
+    public long exportCsv(OutputStream outputStream) {
+        return csvExporter.export(outputStream, CartExportRow.HEADER,
+                cartItemRepository::streamExportRows, CartExportRow::toRecord);
+    }
+
+}
@@ -0,0 +1,100 @@
+package com.example.finance7.global.bloom;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 문자열 집합의 블룸 필터. "없음"은 확실하고 "있을 수 있음"은 정해진 오탐률로 틀릴 수 있으므로,
+ * 있을 수 있다고 답한 경우에만 정확한 저장소를 확인하는 앞단 필터로 쓴다.
+ * <p>
+ * 비트는 {@link AtomicLongArray} 에 두어 여러 스레드가 락 없이 추가/조회할 수 있다. 원소 삭제는 지원하지 않으므로
+ * 지워야 할 원소가 쌓이면 새 필터를 만들어 교체한다. 조회는 객체를 할당하지 않는다.
+ */
+public class BloomFilter {
+
+    private static final long SEED = 0x9E3779B97F4A7C15L;
+    private static final long FNV_PRIME = 0x100000001B3L;
+
+    private final AtomicLongArray bits;
+    private final long bitCount;
+    private final int hashCount;
+
+    private BloomFilter(long bitCount, int hashCount) {
+        int words = (int) Math.max(1, (bitCount + 63) / 64);
+        this.bits = new AtomicLongArray(words);
+        this.bitCount = (long) words * 64;
+        this.hashCount = hashCount;
+    }
+
+    /**
+     * {@code expectedInsertions} 개를 넣었을 때 오탐률이 {@code falsePositiveRate} 이하가 되는 필터를 만든다.
+     */
+    public static BloomFilter create(long expectedInsertions, double falsePositiveRate) {
+        if (expectedInsertions < 1 || falsePositiveRate <= 0 || falsePositiveRate >= 1) {
+            throw new IllegalArgumentException("expectedInsertions 는 1 이상, falsePositiveRate 는 0 과 1 사이여야 합니다.");
+        }
+        double ln2 = Math.log(2);
+        long bitCount = (long) Math.ceil(-expectedInsertions * Math.log(falsePositiveRate) / (ln2 * ln2));
+        int hashCount = Math.max(1, (int) Math.round((double) bitCount / expectedInsertions * ln2));
+        if (bitCount > (long) Integer.MAX_VALUE * 64) {
+            throw new IllegalArgumentException("필터가 너무 큽니다: " + bitCount + " bits");
+        }
+        return new BloomFilter(bitCount, hashCount);
+    }
+
+    public void put(CharSequence value) {
+        long hash = hash(value);
+        long h1 = mix(hash);
+        long h2 = mix(hash ^ SEED) | 1;
+        for (int i = 0; i < hashCount; i++) {
+            long index = Math.floorMod(h1 + i * h2, bitCount);
+            int word = (int) (index >>> 6);
+            long mask = 1L << index;
+            long current = bits.get(word);
+            while ((current & mask) == 0 && !bits.compareAndSet(word, current, current | mask)) {
+                current = bits.get(word);
+            }
+        }
+    }
+
+    public boolean mightContain(CharSequence value) {
+        long hash = hash(value);
+        long h1 = mix(hash);
+        long h2 = mix(hash ^ SEED) | 1;
+        for (int i = 0; i < hashCount; i++) {
+            long index = Math.floorMod(h1 + i * h2, bitCount);
+            if ((bits.get((int) (index >>> 6)) & (1L << index)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public long bitCount() {
+        return bitCount;
+    }
+
+    public int hashCount() {
+        return hashCount;
+    }
+
+    private static long hash(CharSequence value) {
+        long hash = SEED;
+        for (int i = 0; i < value.length(); i++) {
+            hash = (hash ^ value.charAt(i)) * FNV_PRIME;
+        }
+        return hash;
+    }
+
+    /**
+     * MurmurHash3 fmix64 - FNV 결과의 하위 비트 편향을 섞는다.
+     */
+    private static long mix(long hash) {
+        hash ^= hash >>> 33;
+        hash *= 0xFF51AFD7ED558CCDL;
+        hash ^= hash >>> 33;
+        hash *= 0xC4CEB9FE1A85EC53L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+
+}
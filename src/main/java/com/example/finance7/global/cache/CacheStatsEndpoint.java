@@ -0,0 +1,75 @@
+package com.example.finance7.global.cache;
+
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * {@code /actuator/cachestats} - Caffeine 캐시별 적중/미스/축출 통계.
+ */
+@Component
+@RequiredArgsConstructor
+@Endpoint(id = "cachestats")
+public class CacheStatsEndpoint {
+
+    private final CacheManager cacheManager;
+
+    @ReadOperation
+    public Map<String, CacheStatsResponse> caches() {
+        Map<String, CacheStatsResponse> result = new LinkedHashMap<>();
+        for (String cacheName : cacheManager.getCacheNames()) {
+            CacheStatsResponse stats = stats(cacheName);
+            if (stats != null) {
+                result.put(cacheName, stats);
+            }
+        }
+        return result;
+    }
+
+    @ReadOperation
+    public CacheStatsResponse cache(@Selector String cacheName) {
+        return stats(cacheName);
+    }
+
+    private CacheStatsResponse stats(String cacheName) {
+        Cache cache = cacheManager.getCache(cacheName);
+        if (cache == null || !(cache.getNativeCache() instanceof com.github.benmanes.caffeine.cache.Cache)) {
+            return null;
+        }
+        com.github.benmanes.caffeine.cache.Cache<?, ?> nativeCache =
+                (com.github.benmanes.caffeine.cache.Cache<?, ?>) cache.getNativeCache();
+        CacheStats stats = nativeCache.stats();
+        return CacheStatsResponse.builder()
+                .size(nativeCache.estimatedSize())
+                .hitCount(stats.hitCount())
+                .missCount(stats.missCount())
+                .hitRate(stats.hitRate())
+                .evictionCount(stats.evictionCount())
+                .loadSuccessCount(stats.loadSuccessCount())
+                .build();
+    }
+
+    @Getter
+    @Builder
+    public static class CacheStatsResponse {
+
+        private final long size;
+        private final long hitCount;
+        private final long missCount;
+        private final double hitRate;
+        private final long evictionCount;
+        private final long loadSuccessCount;
+
+    }
+
+}
@@ -0,0 +1,29 @@
+package com.example.finance7.global.cache;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.time.Duration;
+
+@Getter
+@RequiredArgsConstructor
+public enum CacheType {
+
+    PRODUCT(CacheType.Names.PRODUCT, 10_000, Duration.ofMinutes(30)),
+    PRODUCT_LIST(CacheType.Names.PRODUCT_LIST, 500, Duration.ofMinutes(10));
+
+    private final String cacheName;
+    private final long maximumSize;
+    private final Duration expireAfterWrite;
+
+    public static final class Names {
+
+        public static final String PRODUCT = "product";
+        public static final String PRODUCT_LIST = "productList";
+
+        private Names() {
+        }
+
+    }
+
+}
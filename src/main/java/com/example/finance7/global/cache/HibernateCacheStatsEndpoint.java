@@ -0,0 +1,70 @@
+package com.example.finance7.global.cache;
+
+import lombok.Builder;
+import lombok.Getter;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.stereotype.Component;
+
+import javax.persistence.EntityManagerFactory;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * {@code /actuator/hibernatecache} - Hibernate 2차 캐시/쿼리 캐시 영역별 적중/미스/적재 통계.
+ */
+@Component
+@Endpoint(id = "hibernatecache")
+public class HibernateCacheStatsEndpoint {
+
+    private final Statistics statistics;
+
+    public HibernateCacheStatsEndpoint(EntityManagerFactory entityManagerFactory) {
+        this.statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @ReadOperation
+    public Map<String, RegionStatsResponse> regions() {
+        Map<String, RegionStatsResponse> result = new LinkedHashMap<>();
+        for (String regionName : statistics.getSecondLevelCacheRegionNames()) {
+            RegionStatsResponse stats = region(regionName);
+            if (stats != null) {
+                result.put(regionName, stats);
+            }
+        }
+        return result;
+    }
+
+    @ReadOperation
+    public RegionStatsResponse region(@Selector String regionName) {
+        CacheRegionStatistics stats = statistics.getCacheRegionStatistics(regionName);
+        if (stats == null) {
+            return null;
+        }
+        long requests = stats.getHitCount() + stats.getMissCount();
+        return RegionStatsResponse.builder()
+                .size(stats.getElementCountInMemory())
+                .hitCount(stats.getHitCount())
+                .missCount(stats.getMissCount())
+                .hitRate(requests == 0 ? 0 : (double) stats.getHitCount() / requests)
+                .putCount(stats.getPutCount())
+                .build();
+    }
+
+    @Getter
+    @Builder
+    public static class RegionStatsResponse {
+
+        private final long size;
+        private final long hitCount;
+        private final long missCount;
+        private final double hitRate;
+        private final long putCount;
+
+    }
+
+}
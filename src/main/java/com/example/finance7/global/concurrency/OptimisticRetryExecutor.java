@@ -0,0 +1,71 @@
+package com.example.finance7.global.concurrency;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 낙관적 락 충돌 시 작업을 새 트랜잭션에서 다시 실행한다. 행 잠금을 잡지 않으므로 충돌한 쪽만 잠깐 기다린다.
+ * <p>
+ * 버전 충돌, 데드락/잠금 대기 실패({@link ConcurrencyFailureException})와 동시에 같은 행을 처음 만들 때의
+ * 유니크 제약 위반도 재시도 대상으로 본다. 재시도 사이에는 지터를 준 지수 백오프를 둬
+ * 충돌한 작업들이 같은 순간에 다시 부딪히지 않게 한다. 최대 횟수를 넘으면 마지막 예외를 그대로 던진다.
+ */
+@Slf4j
+@Component
+public class OptimisticRetryExecutor {
+
+    private final TransactionTemplate transactionTemplate;
+    private final int maxAttempts;
+    private final long initialBackoffMillis;
+    private final Counter retries;
+
+    public OptimisticRetryExecutor(PlatformTransactionManager transactionManager, MeterRegistry meterRegistry,
+                                   @Value("${app.concurrency.optimistic-retry.max-attempts:5}") int maxAttempts,
+                                   @Value("${app.concurrency.optimistic-retry.initial-backoff:10ms}") Duration initialBackoff) {
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.maxAttempts = maxAttempts;
+        this.initialBackoffMillis = initialBackoff.toMillis();
+        this.retries = Counter.builder("optimistic.lock.retries")
+                .description("Transactions retried after an optimistic lock or concurrent insert conflict")
+                .register(meterRegistry);
+    }
+
+    public <T> T execute(TransactionCallback<T> action) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return transactionTemplate.execute(action);
+            } catch (ConcurrencyFailureException | DataIntegrityViolationException e) {
+                if (attempt >= maxAttempts) {
+                    throw e;
+                }
+                retries.increment();
+                log.debug("optimistic conflict, retrying: attempt={}, cause={}", attempt, e.getMessage());
+                backoff(attempt);
+            }
+        }
+    }
+
+    private void backoff(int attempt) {
+        long ceiling = initialBackoffMillis << (attempt - 1);
+        try {
+            Thread.sleep(ThreadLocalRandom.current().nextLong(ceiling / 2, ceiling + 1));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("재시도 대기 중 인터럽트되었습니다.", e);
+        }
+    }
+
+}
@@ -0,0 +1,35 @@
+package com.example.finance7.global.config;
+
+import com.example.finance7.global.cache.CacheType;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.cache.support.SimpleCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+@Configuration
+@EnableCaching
+public class CacheConfig {
+
+    @Bean
+    public CacheManager cacheManager() {
+        List<CaffeineCache> caches = Arrays.stream(CacheType.values())
+                .map(cacheType -> new CaffeineCache(cacheType.getCacheName(), Caffeine.newBuilder()
+                        .maximumSize(cacheType.getMaximumSize())
+                        .expireAfterWrite(cacheType.getExpireAfterWrite())
+                        .recordStats()
+                        .build()))
+                .collect(Collectors.toList());
+
+        SimpleCacheManager cacheManager = new SimpleCacheManager();
+        cacheManager.setCaches(caches);
+        return cacheManager;
+    }
+
+}
@@ -0,0 +1,36 @@
+package com.example.finance7.global.config;
+
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+
+/**
+ * 애플리케이션 DataSource 를 datasource-proxy 로 감싸 등록된 {@link QueryExecutionListener} 에 SQL 실행 정보를 넘긴다.
+ * 라우팅을 켠 경우에도 "dataSource" 빈 하나만 감싸므로 프라이머리/레플리카 구분 없이 측정된다.
+ */
+@Configuration(proxyBeanMethods = false)
+public class DataSourceProxyConfig {
+
+    private static final String DATA_SOURCE_BEAN_NAME = "dataSource";
+
+    @Bean
+    public static BeanPostProcessor dataSourceProxyBeanPostProcessor(ObjectProvider<QueryExecutionListener> listeners) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (!(bean instanceof DataSource) || !DATA_SOURCE_BEAN_NAME.equals(beanName)) {
+                    return bean;
+                }
+                ProxyDataSourceBuilder builder = ProxyDataSourceBuilder.create((DataSource) bean).name(beanName);
+                listeners.orderedStream().forEach(builder::listener);
+                return builder.build();
+            }
+        };
+    }
+
+}
@@ -0,0 +1,24 @@
+package com.example.finance7.global.config;
+
+import org.springframework.boot.LazyInitializationExcludeFilter;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.stereotype.Controller;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+
+/**
+ * spring.main.lazy-initialization=true (fast-startup 프로필)에서도 컨트롤러와 예외 처리기는 미리 만들어
+ * 첫 요청이 빈 생성 비용을 떠안지 않게 한다. @Scheduled 빈은 Boot 가 이미 지연 초기화에서 제외한다.
+ */
+@Configuration
+public class LazyInitializationConfig {
+
+    @Bean
+    public static LazyInitializationExcludeFilter webLayerLazyInitializationExcludeFilter() {
+        return (beanName, beanDefinition, beanType) -> beanType != null
+                && (AnnotatedElementUtils.hasAnnotation(beanType, Controller.class)
+                || AnnotatedElementUtils.hasAnnotation(beanType, ControllerAdvice.class));
+    }
+
+}
@@ -0,0 +1,46 @@
+package com.example.finance7.global.config;
+
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Tags;
+import org.springframework.boot.actuate.metrics.web.servlet.WebMvcTagsContributor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.method.HandlerMethod;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+/**
+ * http.server.requests 에 처리한 컨트롤러 메서드(handler=ProductController.getProducts)를 태그로 붙여
+ * 같은 URI 패턴이라도 메서드별 지연 분포를 볼 수 있게 한다.
+ */
+@Configuration(proxyBeanMethods = false)
+public class MetricsConfig {
+
+    private static final Tag NO_HANDLER = Tag.of("handler", "none");
+
+    @Bean
+    public WebMvcTagsContributor handlerMethodTagsContributor() {
+        return new WebMvcTagsContributor() {
+            @Override
+            public Iterable<Tag> getTags(HttpServletRequest request, HttpServletResponse response, Object handler,
+                                         Throwable exception) {
+                return Tags.of(handlerTag(handler));
+            }
+
+            @Override
+            public Iterable<Tag> getLongRequestTags(HttpServletRequest request, Object handler) {
+                return Tags.of(handlerTag(handler));
+            }
+        };
+    }
+
+    private static Tag handlerTag(Object handler) {
+        if (!(handler instanceof HandlerMethod)) {
+            return NO_HANDLER;
+        }
+        HandlerMethod handlerMethod = (HandlerMethod) handler;
+        return Tag.of("handler", handlerMethod.getBeanType().getSimpleName() + "." + handlerMethod.getMethod().getName());
+    }
+
+}
@@ -0,0 +1,36 @@
+package com.example.finance7.global.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
+import org.springframework.boot.web.embedded.tomcat.TomcatProtocolHandlerCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.support.TaskExecutorAdapter;
+import org.springframework.scheduling.annotation.AsyncAnnotationBeanPostProcessor;
+
+import java.util.concurrent.Executors;
+
+/**
+ * app.threads.virtual.enabled=true 이면 Tomcat 요청 처리와 @Async, MVC 비동기 응답(StreamingResponseBody)을
+ * 요청마다 새 가상 스레드에서 실행한다.
+ * <p>
+ * 동시 요청 수가 플랫폼 스레드 풀 크기에 묶이지 않는 대신 커넥션 풀이 병목이 되므로,
+ * 커넥션 대기 시간(spring.datasource.hikari.connection-timeout)이 사실상 요청 동시성 제한 역할을 한다.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "app.threads.virtual", name = "enabled", havingValue = "true")
+public class VirtualThreadConfig {
+
+    @Bean
+    public TomcatProtocolHandlerCustomizer<?> virtualThreadProtocolHandlerCustomizer() {
+        return protocolHandler -> protocolHandler.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+    }
+
+    @Bean(name = {TaskExecutionAutoConfiguration.APPLICATION_TASK_EXECUTOR_BEAN_NAME,
+            AsyncAnnotationBeanPostProcessor.DEFAULT_TASK_EXECUTOR_BEAN_NAME})
+    public AsyncTaskExecutor applicationTaskExecutor() {
+        return new TaskExecutorAdapter(Executors.newVirtualThreadPerTaskExecutor());
+    }
+
+}
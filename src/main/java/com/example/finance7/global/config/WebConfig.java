@@ -0,0 +1,45 @@
+package com.example.finance7.global.config;
+
+import com.example.finance7.auth.web.AdminInterceptor;
+import com.example.finance7.auth.web.LoginMemberArgumentResolver;
+import com.example.finance7.global.pagination.CursorRequestArgumentResolver;
+import com.example.finance7.product.cache.ProductCatalogETagInterceptor;
+import com.example.finance7.product.cache.ProductCatalogVersion;
+import com.example.finance7.product.ranking.ProductRanking;
+import com.example.finance7.product.ranking.ProductViewInterceptor;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.method.support.HandlerMethodArgumentResolver;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.List;
+
+@Configuration
+@RequiredArgsConstructor
+public class WebConfig implements WebMvcConfigurer {
+
+    private final ProductCatalogVersion productCatalogVersion;
+    private final ProductRanking productRanking;
+    private final AdminInterceptor adminInterceptor;
+
+    @Override
+    public void addArgumentResolvers(List<HandlerMethodArgumentResolver> resolvers) {
+        resolvers.add(new CursorRequestArgumentResolver());
+        resolvers.add(new LoginMemberArgumentResolver());
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(adminInterceptor)
+                .addPathPatterns("/api/admin/**");
+        // 304 로 끝나는 조회도 세도록 ETag 인터셉터보다 먼저 등록한다
+        registry.addInterceptor(new ProductViewInterceptor(productRanking))
+                .addPathPatterns("/api/products/*");
+        registry.addInterceptor(new ProductCatalogETagInterceptor(productCatalogVersion))
+                .addPathPatterns("/api/products", "/api/products/**")
+                // 자동완성 순서와 인기 순위는 카탈로그 버전과 무관하게 조회/신청 집계로 바뀐다
+                .excludePathPatterns("/api/products/autocomplete", "/api/products/rankings");
+    }
+
+}
@@ -0,0 +1,77 @@
+package com.example.finance7.global.csv;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.persistence.EntityManager;
+import java.io.BufferedWriter;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+/**
+ * JPA {@link Stream} 으로 읽은 엔티티를 CSV 로 바로 흘려 쓴다.
+ * <p>
+ * 목록 전체를 메모리에 모으지 않는다. 읽기 전용 트랜잭션 안에서 스트림을 열고 한 건씩 기록한 뒤 detach 하므로
+ * 영속성 컨텍스트가 행 수만큼 커지지 않는다(DTO 프로젝션 행은 애초에 올라가지 않으므로 그대로 둔다).
+ * 스트림을 반환하는 쿼리에는 fetch size 힌트를 주어 드라이버가 결과를
+ * 한 번에 모두 버퍼링하지 않도록 해야 한다.
+ */
+@Slf4j
+@Component
+public class CsvExporter {
+
+    private static final int FLUSH_INTERVAL = 1000;
+
+    private final EntityManager entityManager;
+    private final TransactionTemplate transactionTemplate;
+    private final Map<Class<?>, Boolean> entityTypes = new ConcurrentHashMap<>();
+
+    public CsvExporter(EntityManager entityManager, PlatformTransactionManager transactionManager) {
+        this.entityManager = entityManager;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+    }
+
+    /**
+     * 헤더와 각 행을 {@code outputStream} 에 UTF-8(BOM 포함) CSV 로 쓰고 기록한 행 수를 반환한다.
+     */
+    public <T> long export(OutputStream outputStream, List<String> header,
+                           Supplier<Stream<T>> rows, Function<T, List<String>> recordMapper) {
+        CsvWriter writer = new CsvWriter(new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8)));
+        writer.writeBom();
+        writer.writeRecord(header);
+        Long written = transactionTemplate.execute(status -> {
+            long count = 0;
+            try (Stream<T> stream = rows.get()) {
+                for (T row : (Iterable<T>) stream::iterator) {
+                    writer.writeRecord(recordMapper.apply(row));
+                    if (isEntity(row)) {
+                        entityManager.detach(row);
+                    }
+                    if (++count % FLUSH_INTERVAL == 0) {
+                        writer.flush();
+                    }
+                }
+            }
+            return count;
+        });
+        writer.flush();
+        log.info("csv export finished: rows={}", written);
+        return written == null ? 0 : written;
+    }
+
+    private boolean isEntity(Object row) {
+        return entityTypes.computeIfAbsent(row.getClass(), type -> entityManager.getMetamodel().getEntities().stream()
+                .anyMatch(entity -> entity.getJavaType() == type));
+    }
+
+}
@@ -0,0 +1,126 @@
+package com.example.finance7.global.csv;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * RFC 4180 형식의 CSV 를 한 레코드씩 읽는다. 파일 전체를 메모리에 올리지 않으므로 크기와 무관하게 메모리 사용량이 일정하다.
+ * 큰따옴표로 감싼 필드 안의 쉼표, 줄바꿈, 이스케이프된 큰따옴표("")를 지원한다.
+ * {@link CsvWriter} 가 수식 주입을 막으려고 붙인 앞의 작은따옴표('=..., ''...)는 떼고 돌려준다.
+ */
+public class CsvReader implements Closeable {
+
+    private static final char DELIMITER = ',';
+    private static final char QUOTE = '"';
+    private static final char BOM = '\uFEFF';
+
+    private final BufferedReader reader;
+    private final StringBuilder field = new StringBuilder();
+    private long physicalLine;
+    private long lineNumber;
+    private boolean firstRead = true;
+
+    public CsvReader(Reader reader) {
+        this.reader = reader instanceof BufferedReader ? (BufferedReader) reader : new BufferedReader(reader);
+    }
+
+    /**
+     * 다음 레코드를 읽는다. 더 이상 레코드가 없으면 null 을 반환한다.
+     */
+    public List<String> next() {
+        try {
+            return readRecord();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * 마지막으로 읽은 레코드가 시작된 줄 번호(1부터 시작).
+     */
+    public long getLineNumber() {
+        return lineNumber;
+    }
+
+    private List<String> readRecord() throws IOException {
+        String line = readLine();
+        if (line == null) {
+            return null;
+        }
+        lineNumber = physicalLine;
+        List<String> fields = new ArrayList<>();
+        field.setLength(0);
+        boolean quoted = false;
+        int i = 0;
+        while (true) {
+            if (i >= line.length()) {
+                if (!quoted) {
+                    break;
+                }
+                String continuation = reader.readLine();
+                physicalLine++;
+                if (continuation == null) {
+                    throw new IllegalArgumentException(lineNumber + "번째 줄: 닫히지 않은 따옴표가 있습니다.");
+                }
+                field.append('\n');
+                line = continuation;
+                i = 0;
+                continue;
+            }
+            char c = line.charAt(i++);
+            if (quoted) {
+                if (c == QUOTE && i < line.length() && line.charAt(i) == QUOTE) {
+                    field.append(QUOTE);
+                    i++;
+                } else if (c == QUOTE) {
+                    quoted = false;
+                } else {
+                    field.append(c);
+                }
+            } else if (c == QUOTE && field.length() == 0) {
+                quoted = true;
+            } else if (c == DELIMITER) {
+                fields.add(unescapeFormula(field));
+                field.setLength(0);
+            } else {
+                field.append(c);
+            }
+        }
+        fields.add(unescapeFormula(field));
+        return fields;
+    }
+
+    private static String unescapeFormula(StringBuilder field) {
+        if (field.length() > 1 && field.charAt(0) == CsvWriter.FORMULA_ESCAPE
+                && (CsvWriter.startsFormula(field.charAt(1)) || field.charAt(1) == CsvWriter.FORMULA_ESCAPE)) {
+            return field.substring(1);
+        }
+        return field.toString();
+    }
+
+    private String readLine() throws IOException {
+        String line;
+        do {
+            line = reader.readLine();
+            physicalLine++;
+            if (line != null && firstRead) {
+                firstRead = false;
+                if (!line.isEmpty() && line.charAt(0) == BOM) {
+                    line = line.substring(1);
+                }
+            }
+        } while (line != null && line.isEmpty());
+        return line;
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+}
@@ -0,0 +1,116 @@
+package com.example.finance7.global.csv;
+
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.util.List;
+
+/**
+ * RFC 4180 형식으로 레코드를 한 줄씩 쓴다. 쉼표, 큰따옴표, 줄바꿈이 포함된 필드만 큰따옴표로 감싼다.
+ * <p>
+ * 내보낸 파일은 엑셀에서 열리므로 =, +, -, @, 탭, CR 로 시작하는 값은 수식으로 실행되지 않도록 앞에 작은따옴표를 붙인다
+ * (CSV 수식 주입). 숫자(-1.5 등)는 수식이 아니므로 그대로 쓴다. 원래 작은따옴표로 시작하는 값에도 하나를 더 붙여,
+ * {@link CsvReader} 가 앞의 작은따옴표 하나를 떼면 항상 원래 값이 된다.
+ */
+public class CsvWriter implements Flushable {
+
+    private static final char DELIMITER = ',';
+    private static final char QUOTE = '"';
+    private static final String LINE_SEPARATOR = "\r\n";
+    private static final char BOM = '\uFEFF';
+    static final char FORMULA_ESCAPE = '\'';
+
+    private final Writer writer;
+
+    public CsvWriter(Writer writer) {
+        this.writer = writer;
+    }
+
+    /**
+     * 엑셀이 UTF-8 로 인식하도록 BOM 을 쓴다. 첫 레코드보다 먼저 호출해야 한다.
+     */
+    public void writeBom() {
+        try {
+            writer.write(BOM);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public void writeRecord(List<String> fields) {
+        try {
+            for (int i = 0; i < fields.size(); i++) {
+                if (i > 0) {
+                    writer.write(DELIMITER);
+                }
+                writeField(fields.get(i));
+            }
+            writer.write(LINE_SEPARATOR);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void writeField(String value) throws IOException {
+        if (value == null || value.isEmpty()) {
+            return;
+        }
+        if (value.charAt(0) == FORMULA_ESCAPE || (startsFormula(value.charAt(0)) && !isNumber(value))) {
+            value = FORMULA_ESCAPE + value;
+        }
+        if (!needsQuote(value)) {
+            writer.write(value);
+            return;
+        }
+        writer.write(QUOTE);
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == QUOTE) {
+                writer.write(QUOTE);
+            }
+            writer.write(c);
+        }
+        writer.write(QUOTE);
+    }
+
+    private static boolean needsQuote(String value) {
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == DELIMITER || c == QUOTE || c == '\n' || c == '\r') {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    static boolean startsFormula(char c) {
+        return c == '=' || c == '+' || c == '-' || c == '@' || c == '\t' || c == '\r';
+    }
+
+    private static boolean isNumber(String value) {
+        boolean digit = false;
+        boolean dot = false;
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c >= '0' && c <= '9') {
+                digit = true;
+            } else if (c == '.' && !dot) {
+                dot = true;
+            } else if (i > 0 || (c != '-' && c != '+')) {
+                return false;
+            }
+        }
+        return digit;
+    }
+
+    @Override
+    public void flush() {
+        try {
+            writer.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+}
@@ -0,0 +1,6 @@
+package com.example.finance7.global.datasource;
+
+public enum DataSourceRole {
+    PRIMARY,
+    REPLICA
+}
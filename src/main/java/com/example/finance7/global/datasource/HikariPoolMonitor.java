@@ -0,0 +1,62 @@
+package com.example.finance7.global.datasource;
+
+import com.zaxxer.hikari.HikariConfigMXBean;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.jdbc.DataSourceUnwrapper;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 풀 고갈을 장애 전에 잡기 위해 커넥션을 기다리는 스레드가 생기면 경고 로그와 포화 카운터를 남긴다.
+ * 활성/유휴/대기/획득 시간 지표 자체는 Boot 가 hikaricp.connections.* 로 등록한다.
+ */
+@Slf4j
+@Component
+public class HikariPoolMonitor {
+
+    private final ObjectProvider<DataSource> dataSources;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, Counter> saturationCounters = new ConcurrentHashMap<>();
+
+    public HikariPoolMonitor(ObjectProvider<DataSource> dataSources, MeterRegistry meterRegistry) {
+        this.dataSources = dataSources;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Scheduled(fixedDelayString = "${app.datasource.monitor-interval:5000}")
+    public void check() {
+        // 라우팅 프록시도 프라이머리 풀로 풀리므로 같은 풀을 두 번 검사하지 않게 중복을 제거한다.
+        dataSources.orderedStream()
+                .map(dataSource -> DataSourceUnwrapper.unwrap(dataSource, HikariConfigMXBean.class,
+                        HikariDataSource.class))
+                .filter(Objects::nonNull)
+                .distinct()
+                .forEach(this::check);
+    }
+
+    private void check(HikariDataSource hikari) {
+        HikariPoolMXBean pool = hikari.getHikariPoolMXBean();
+        if (pool == null || pool.getThreadsAwaitingConnection() == 0) {
+            return;
+        }
+        saturationCounters.computeIfAbsent(hikari.getPoolName(), poolName -> Counter.builder("hikaricp.pool.saturated")
+                        .description("Number of checks that found threads waiting for a connection")
+                        .tag("pool", poolName)
+                        .register(meterRegistry))
+                .increment();
+        log.warn("connection pool saturated: pool={}, active={}, idle={}, waiting={}, max={}",
+                hikari.getPoolName(), pool.getActiveConnections(), pool.getIdleConnections(),
+                pool.getThreadsAwaitingConnection(), hikari.getMaximumPoolSize());
+    }
+
+}
@@ -0,0 +1,67 @@
+package com.example.finance7.global.datasource;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+import java.util.List;
+
+/**
+ * 레플리카의 복제 지연(Seconds_Behind_Master)을 주기적으로 확인한다.
+ * 허용치를 넘거나 복제가 멈췄거나 조회에 실패하면 레플리카를 사용 불가로 표시해 읽기를 프라이머리로 돌린다.
+ * 복제 상태가 조회되지 않는 서버(로컬 임베디드 DB 등)는 지연 0 으로 본다.
+ */
+@Slf4j
+public class ReplicaLagMonitor {
+
+    private static final String LAG_COLUMN = "Seconds_Behind_Master";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final String lagQuery;
+    private final long maxLagSeconds;
+    private volatile boolean available;
+    private volatile long lagSeconds = -1;
+
+    public ReplicaLagMonitor(DataSource replica, String lagQuery, long maxLagSeconds, MeterRegistry meterRegistry) {
+        this.jdbcTemplate = new JdbcTemplate(replica);
+        this.jdbcTemplate.setQueryTimeout(1);
+        this.lagQuery = lagQuery;
+        this.maxLagSeconds = maxLagSeconds;
+        Gauge.builder("datasource.replica.lag", this, monitor -> monitor.lagSeconds)
+                .description("Replica lag in seconds, -1 when unknown")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+        Gauge.builder("datasource.replica.available", this, monitor -> monitor.available ? 1 : 0)
+                .description("Whether read-only transactions are routed to the replica")
+                .register(meterRegistry);
+    }
+
+    public boolean isAvailable() {
+        return available;
+    }
+
+    @Scheduled(fixedDelayString = "${app.datasource.replica.lag-check-interval:5000}")
+    public void check() {
+        long lag;
+        try {
+            List<Long> rows = jdbcTemplate.query(lagQuery, (rs, rowNum) -> {
+                long value = rs.getLong(LAG_COLUMN);
+                return rs.wasNull() ? null : value;
+            });
+            lag = rows.isEmpty() ? 0 : rows.get(0) == null ? -1 : rows.get(0);
+        } catch (RuntimeException e) {
+            log.warn("replica lag check failed: {}", e.getMessage());
+            lag = -1;
+        }
+        boolean nowAvailable = lag >= 0 && lag <= maxLagSeconds;
+        if (nowAvailable != available) {
+            log.warn("replica {}: lag={}s, maxLag={}s", nowAvailable ? "enabled" : "disabled", lag, maxLagSeconds);
+        }
+        lagSeconds = lag;
+        available = nowAvailable;
+    }
+
+}
@@ -0,0 +1,34 @@
+package com.example.finance7.global.datasource;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.util.Map;
+
+/**
+ * 읽기 전용 트랜잭션은 레플리카로, 그 외는 프라이머리로 보낸다. 레플리카가 지연되거나 응답하지 않으면 프라이머리로 되돌린다.
+ * <p>
+ * 트랜잭션 매니저는 readOnly 플래그를 동기화 정보에 기록하기 전에 커넥션을 요청하므로, 반드시
+ * {@link org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy} 로 감싸 첫 쿼리 시점에 라우팅되게 해야 한다.
+ */
+public class ReplicationRoutingDataSource extends AbstractRoutingDataSource {
+
+    private final ReplicaLagMonitor replicaLagMonitor;
+
+    public ReplicationRoutingDataSource(DataSource primary, DataSource replica, ReplicaLagMonitor replicaLagMonitor) {
+        this.replicaLagMonitor = replicaLagMonitor;
+        setTargetDataSources(Map.of(DataSourceRole.PRIMARY, primary, DataSourceRole.REPLICA, replica));
+        setDefaultTargetDataSource(primary);
+        afterPropertiesSet();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (TransactionSynchronizationManager.isCurrentTransactionReadOnly() && replicaLagMonitor.isAvailable()) {
+            return DataSourceRole.REPLICA;
+        }
+        return DataSourceRole.PRIMARY;
+    }
+
+}
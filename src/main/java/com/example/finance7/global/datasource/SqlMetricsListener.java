@@ -0,0 +1,75 @@
+package com.example.finance7.global.datasource;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.QueryType;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import net.ttddyy.dsproxy.listener.QueryUtils;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * SQL 실행 시간을 문 종류(select/insert/update/delete/other)별 타이머로 기록하고,
+ * 임계값을 넘은 문은 SQL 과 함께 경고 로그를 남긴다. 배치 실행은 한 번의 실행으로 센다.
+ */
+@Slf4j
+@Component
+public class SqlMetricsListener implements QueryExecutionListener {
+
+    private static final int MAX_LOGGED_SQL_LENGTH = 1000;
+
+    private final Duration slowQueryThreshold;
+    private final Map<QueryType, Timer> timers = new EnumMap<>(QueryType.class);
+    private final Counter slowQueries;
+
+    public SqlMetricsListener(MeterRegistry meterRegistry,
+                              @Value("${app.datasource.slow-query-threshold:300ms}") Duration slowQueryThreshold) {
+        this.slowQueryThreshold = slowQueryThreshold;
+        for (QueryType type : QueryType.values()) {
+            timers.put(type, Timer.builder("jdbc.statement.execution")
+                    .description("JDBC statement execution time")
+                    .tag("type", type.name().toLowerCase())
+                    .register(meterRegistry));
+        }
+        this.slowQueries = Counter.builder("jdbc.statement.slow")
+                .description("Statements slower than app.datasource.slow-query-threshold")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        if (queryInfoList.isEmpty()) {
+            return;
+        }
+        String sql = queryInfoList.get(0).getQuery();
+        long elapsedMillis = execInfo.getElapsedTime();
+        timers.get(QueryUtils.getQueryType(sql)).record(elapsedMillis, TimeUnit.MILLISECONDS);
+        if (elapsedMillis >= slowQueryThreshold.toMillis()) {
+            slowQueries.increment();
+            log.warn("slow query: {} ms, batch={}, batchSize={}, success={}, sql={}", elapsedMillis,
+                    execInfo.isBatch(), execInfo.getBatchSize(), execInfo.isSuccess(), abbreviate(sql));
+        }
+    }
+
+    private static String abbreviate(String sql) {
+        String singleLine = sql.replaceAll("\\s+", " ").trim();
+        return singleLine.length() <= MAX_LOGGED_SQL_LENGTH
+                ? singleLine
+                : singleLine.substring(0, MAX_LOGGED_SQL_LENGTH) + "...";
+    }
+
+}
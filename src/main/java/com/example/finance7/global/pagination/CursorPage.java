@@ -0,0 +1,29 @@
+package com.example.finance7.global.pagination;
+
+import lombok.Getter;
+
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Getter
+public class CursorPage<T> {
+
+    private final List<T> content;
+    private final String nextCursor;
+    private final boolean hasNext;
+    private final Long totalCount;
+
+    public CursorPage(List<T> content, String nextCursor, Long totalCount) {
+        this.content = List.copyOf(content);
+        this.nextCursor = nextCursor;
+        this.hasNext = nextCursor != null;
+        this.totalCount = totalCount;
+    }
+
+    public <R> CursorPage<R> map(Function<? super T, ? extends R> mapper) {
+        List<R> mapped = content.stream().map(mapper).collect(Collectors.toList());
+        return new CursorPage<>(mapped, nextCursor, totalCount);
+    }
+
+}
@@ -0,0 +1,33 @@
+package com.example.finance7.global.pagination;
+
+import lombok.Getter;
+
+@Getter
+public class CursorRequest {
+
+    public static final int DEFAULT_SIZE = 20;
+    public static final int MAX_SIZE = 100;
+
+    private final String cursor;
+    private final int size;
+    private final boolean withTotal;
+
+    public CursorRequest(String cursor, int size, boolean withTotal) {
+        this.cursor = cursor == null || cursor.isBlank() ? null : cursor;
+        this.size = size <= 0 ? DEFAULT_SIZE : Math.min(size, MAX_SIZE);
+        this.withTotal = withTotal;
+    }
+
+    public static CursorRequest first(int size) {
+        return new CursorRequest(null, size, false);
+    }
+
+    public boolean isFirstPage() {
+        return cursor == null;
+    }
+
+    public String cacheKey() {
+        return (cursor == null ? "" : cursor) + ':' + size + ':' + withTotal;
+    }
+
+}
@@ -0,0 +1,38 @@
+package com.example.finance7.global.pagination;
+
+import org.springframework.core.MethodParameter;
+import org.springframework.web.bind.support.WebDataBinderFactory;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.method.support.HandlerMethodArgumentResolver;
+import org.springframework.web.method.support.ModelAndViewContainer;
+
+/**
+ * {@code ?cursor=&size=&withTotal=} 요청 파라미터를 {@link CursorRequest} 로 변환한다.
+ * 전체 건수(COUNT 쿼리)는 {@code withTotal=true} 일 때만 계산한다.
+ */
+public class CursorRequestArgumentResolver implements HandlerMethodArgumentResolver {
+
+    private static final String CURSOR_PARAMETER = "cursor";
+    private static final String SIZE_PARAMETER = "size";
+    private static final String WITH_TOTAL_PARAMETER = "withTotal";
+
+    @Override
+    public boolean supportsParameter(MethodParameter parameter) {
+        return CursorRequest.class.equals(parameter.getParameterType());
+    }
+
+    @Override
+    public CursorRequest resolveArgument(MethodParameter parameter, ModelAndViewContainer mavContainer,
+                                         NativeWebRequest webRequest, WebDataBinderFactory binderFactory) {
+        String size = webRequest.getParameter(SIZE_PARAMETER);
+        int parsedSize;
+        try {
+            parsedSize = size == null ? CursorRequest.DEFAULT_SIZE : Integer.parseInt(size);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("size 는 숫자여야 합니다: " + size, e);
+        }
+        return new CursorRequest(webRequest.getParameter(CURSOR_PARAMETER), parsedSize,
+                Boolean.parseBoolean(webRequest.getParameter(WITH_TOTAL_PARAMETER)));
+    }
+
+}
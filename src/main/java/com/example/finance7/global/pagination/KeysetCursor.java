@@ -0,0 +1,79 @@
+package com.example.finance7.global.pagination;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Sort;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+/**
+ * 마지막으로 내려준 행의 (정렬 키, id) 를 담는 커서. 클라이언트에는 base64url 문자열로만 노출한다.
+ * 정렬 기준이 바뀐 커서로 다음 페이지를 요청하지 못하도록 정렬 속성 이름과 방향도 함께 인코딩한다.
+ * 같은 속성을 반대 방향으로 정렬하는 요청(예: id 오름차순과 최신순)에 커서를 넘기면 페이지를 건너뛰게 된다.
+ */
+@Getter
+@RequiredArgsConstructor
+public class KeysetCursor {
+
+    private static final char SEPARATOR = '|';
+
+    private final String sortAttribute;
+    private final Sort.Direction direction;
+    private final long id;
+    private final String sortValue;
+
+    public String encode() {
+        String raw = sortAttribute + SEPARATOR + direction.name() + SEPARATOR + id + SEPARATOR + sortValue;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static KeysetCursor decode(String encoded, String expectedSortAttribute, Sort.Direction expectedDirection) {
+        String raw;
+        try {
+            raw = new String(Base64.getUrlDecoder().decode(encoded), StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("잘못된 커서입니다.", e);
+        }
+        int first = raw.indexOf(SEPARATOR);
+        int second = first < 0 ? -1 : raw.indexOf(SEPARATOR, first + 1);
+        int third = second < 0 ? -1 : raw.indexOf(SEPARATOR, second + 1);
+        if (third < 0 || !raw.substring(0, first).equals(expectedSortAttribute)
+                || !raw.substring(first + 1, second).equals(expectedDirection.name())) {
+            throw new IllegalArgumentException("잘못된 커서입니다.");
+        }
+        try {
+            return new KeysetCursor(expectedSortAttribute, expectedDirection,
+                    Long.parseLong(raw.substring(second + 1, third)), raw.substring(third + 1));
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("잘못된 커서입니다.", e);
+        }
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    Comparable<Object> sortValueAs(Class<?> type) {
+        Object value;
+        if (type == String.class) {
+            value = sortValue;
+        } else if (type == Long.class || type == long.class) {
+            value = Long.valueOf(sortValue);
+        } else if (type == Integer.class || type == int.class) {
+            value = Integer.valueOf(sortValue);
+        } else if (type == BigDecimal.class) {
+            value = new BigDecimal(sortValue);
+        } else if (type == LocalDateTime.class) {
+            value = LocalDateTime.parse(sortValue);
+        } else if (type == LocalDate.class) {
+            value = LocalDate.parse(sortValue);
+        } else if (type.isEnum()) {
+            value = Enum.valueOf((Class<Enum>) type, sortValue);
+        } else {
+            throw new IllegalArgumentException("커서로 사용할 수 없는 정렬 타입입니다: " + type.getName());
+        }
+        return (Comparable<Object>) value;
+    }
+
+}
@@ -0,0 +1,35 @@
+package com.example.finance7.global.pagination;
+
+import lombok.Builder;
+import lombok.Getter;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+/**
+ * {@code WHERE (sortAttribute, id) > (?, ?) ORDER BY sortAttribute, id LIMIT size + 1} 형태의 조회 조건.
+ * 정렬 속성은 null 을 허용하지 않는 컬럼이어야 한다.
+ */
+@Getter
+@Builder
+public class KeysetQuery<T> {
+
+    private static final String DEFAULT_ID_ATTRIBUTE = "id";
+
+    private final Class<T> domainClass;
+    private final String sortAttribute;
+    @Builder.Default
+    private final Sort.Direction direction = Sort.Direction.ASC;
+    @Builder.Default
+    private final String idAttribute = DEFAULT_ID_ATTRIBUTE;
+    private final Specification<T> specification;
+    private final CursorRequest cursorRequest;
+
+    boolean isAscending() {
+        return direction == Sort.Direction.ASC;
+    }
+
+    boolean sortsById() {
+        return sortAttribute.equals(idAttribute);
+    }
+
+}
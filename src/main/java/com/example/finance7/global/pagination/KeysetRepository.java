@@ -0,0 +1,10 @@
+package com.example.finance7.global.pagination;
+
+/**
+ * Spring Data 리포지토리 프래그먼트. 리포지토리 인터페이스가 상속하면 {@link KeysetRepositoryImpl} 이 연결된다.
+ */
+public interface KeysetRepository<T> {
+
+    CursorPage<T> findPage(KeysetQuery<T> query);
+
+}
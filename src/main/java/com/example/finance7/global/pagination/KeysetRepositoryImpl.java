@@ -0,0 +1,119 @@
+package com.example.finance7.global.pagination;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.BeanWrapper;
+import org.springframework.beans.PropertyAccessorFactory;
+import org.springframework.data.jpa.domain.Specification;
+
+import javax.persistence.EntityManager;
+import javax.persistence.criteria.CriteriaBuilder;
+import javax.persistence.criteria.CriteriaQuery;
+import javax.persistence.criteria.Expression;
+import javax.persistence.criteria.Path;
+import javax.persistence.criteria.Predicate;
+import javax.persistence.criteria.Root;
+import java.util.ArrayList;
+import java.util.List;
+
+@RequiredArgsConstructor
+public class KeysetRepositoryImpl<T> implements KeysetRepository<T> {
+
+    private final EntityManager entityManager;
+
+    @Override
+    public CursorPage<T> findPage(KeysetQuery<T> query) {
+        CursorRequest request = query.getCursorRequest();
+        CriteriaBuilder builder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<T> criteria = builder.createQuery(query.getDomainClass());
+        Root<T> root = criteria.from(query.getDomainClass());
+
+        Path<Object> sortPath = path(root, query.getSortAttribute());
+        Path<Object> idPath = path(root, query.getIdAttribute());
+        List<Predicate> predicates = filters(query.getSpecification(), root, criteria, builder);
+        if (!request.isFirstPage()) {
+            KeysetCursor cursor = KeysetCursor.decode(request.getCursor(), query.getSortAttribute(),
+                    query.getDirection());
+            predicates.add(after(builder, query, sortPath, idPath, cursor));
+        }
+        criteria.select(root)
+                .where(predicates.toArray(new Predicate[0]))
+                .orderBy(query.isAscending() ? builder.asc(sortPath) : builder.desc(sortPath),
+                        query.isAscending() ? builder.asc(idPath) : builder.desc(idPath));
+
+        List<T> rows = entityManager.createQuery(criteria)
+                .setMaxResults(request.getSize() + 1)
+                .getResultList();
+        String nextCursor = null;
+        if (rows.size() > request.getSize()) {
+            rows = rows.subList(0, request.getSize());
+            nextCursor = cursorOf(rows.get(rows.size() - 1), query).encode();
+        }
+        Long totalCount = request.isWithTotal() ? count(query) : null;
+        return new CursorPage<>(rows, nextCursor, totalCount);
+    }
+
+    private Predicate after(CriteriaBuilder builder, KeysetQuery<T> query, Path<Object> sortPath, Path<Object> idPath,
+                            KeysetCursor cursor) {
+        Expression<Long> id = cast(idPath);
+        if (query.sortsById()) {
+            return query.isAscending() ? builder.greaterThan(id, cursor.getId()) : builder.lessThan(id, cursor.getId());
+        }
+        Comparable<Object> sortValue = cursor.sortValueAs(sortPath.getJavaType());
+        Expression<Comparable<Object>> sort = cast(sortPath);
+        if (query.isAscending()) {
+            return builder.or(builder.greaterThan(sort, sortValue),
+                    builder.and(builder.equal(sort, sortValue), builder.greaterThan(id, cursor.getId())));
+        }
+        return builder.or(builder.lessThan(sort, sortValue),
+                builder.and(builder.equal(sort, sortValue), builder.lessThan(id, cursor.getId())));
+    }
+
+    private long count(KeysetQuery<T> query) {
+        CriteriaBuilder builder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> criteria = builder.createQuery(Long.class);
+        Root<T> root = criteria.from(query.getDomainClass());
+        criteria.select(builder.count(root))
+                .where(filters(query.getSpecification(), root, criteria, builder).toArray(new Predicate[0]));
+        return entityManager.createQuery(criteria).getSingleResult();
+    }
+
+    private List<Predicate> filters(Specification<T> specification, Root<T> root, CriteriaQuery<?> criteria,
+                                    CriteriaBuilder builder) {
+        List<Predicate> predicates = new ArrayList<>();
+        if (specification != null) {
+            Predicate predicate = specification.toPredicate(root, criteria, builder);
+            if (predicate != null) {
+                predicates.add(predicate);
+            }
+        }
+        return predicates;
+    }
+
+    private KeysetCursor cursorOf(T row, KeysetQuery<T> query) {
+        BeanWrapper wrapper = PropertyAccessorFactory.forBeanPropertyAccess(row);
+        Object id = wrapper.getPropertyValue(query.getIdAttribute());
+        Object sortValue = wrapper.getPropertyValue(query.getSortAttribute());
+        if (id == null || sortValue == null) {
+            throw new IllegalStateException("키셋 정렬 컬럼은 null 일 수 없습니다: " + query.getSortAttribute());
+        }
+        return new KeysetCursor(query.getSortAttribute(), query.getDirection(), ((Number) id).longValue(),
+                sortValue.toString());
+    }
+
+    private static <X> Path<Object> path(Root<X> root, String attribute) {
+        Path<Object> path = null;
+        for (String part : attribute.split("\\.")) {
+            path = path == null ? root.get(part) : path.get(part);
+        }
+        return path;
+    }
+
+    /**
+     * 경로의 Java 타입만 좁힌다. {@code Path.as()} 는 SQL CAST 를 만들 수 있어 사용하지 않는다.
+     */
+    @SuppressWarnings("unchecked")
+    private static <Y> Expression<Y> cast(Path<Object> path) {
+        return (Expression<Y>) (Expression<?>) path;
+    }
+
+}
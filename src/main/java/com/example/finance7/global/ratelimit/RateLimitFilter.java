@@ -0,0 +1,138 @@
+package com.example.finance7.global.ratelimit;
+
+import com.example.finance7.auth.token.AuthenticatedMember;
+import com.example.finance7.auth.web.JwtAuthenticationFilter;
+import com.example.finance7.global.error.ErrorCode;
+import com.example.finance7.global.error.ErrorResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.UrlPathHelper;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * 비싼 조회 API 의 경로별 요청 한도. 한도를 넘은 요청은 핸들러까지 가지 않고 429 와 Retry-After 로 응답한다.
+ * <p>
+ * 회원 기준 한도를 쓰려면 인증 결과가 필요하므로 {@link JwtAuthenticationFilter} 다음에 실행한다.
+ * 한도가 걸리지 않은 경로는 패턴 비교만 하고 지나간다.
+ * <p>
+ * 경로는 MVC 가 핸들러를 찾을 때처럼 디코딩하고 ';' 매개변수를 떼고 끝의 '/' 하나를 무시해 비교한다.
+ * 원래 URI 로 비교하면 같은 핸들러로 가는 {@code /search/}, {@code /search;x} 요청이 한도를 피해 간다.
+ */
+@Component
+@Order(RateLimitFilter.ORDER)
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    public static final int ORDER = JwtAuthenticationFilter.ORDER + 10;
+
+    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+    private final UrlPathHelper urlPathHelper = new UrlPathHelper();
+    private final boolean enabled;
+    private final List<LimitedRoute> routes;
+    private final ObjectMapper objectMapper;
+
+    public RateLimitFilter(RateLimitProperties properties, ObjectMapper objectMapper, MeterRegistry meterRegistry) {
+        this.enabled = properties.isEnabled();
+        this.objectMapper = objectMapper;
+        this.routes = properties.getRoutes().entrySet().stream()
+                .map(entry -> new LimitedRoute(entry.getKey(), entry.getValue(), meterRegistry))
+                .collect(Collectors.toUnmodifiableList());
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !enabled || routes.isEmpty();
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        LimitedRoute route = match(request);
+        if (route != null) {
+            long waitNanos = route.bucket.tryAcquire(key(route, request));
+            if (waitNanos > 0) {
+                route.rejected.increment();
+                writeTooManyRequests(response, waitNanos);
+                return;
+            }
+        }
+        filterChain.doFilter(request, response);
+    }
+
+    @Scheduled(fixedDelayString = "${app.rate-limit.eviction-interval:60000}")
+    public void evictIdle() {
+        routes.forEach(route -> route.bucket.evictIdle());
+    }
+
+    private LimitedRoute match(HttpServletRequest request) {
+        String path = urlPathHelper.getLookupPathForRequest(request);
+        if (path.length() > 1 && path.endsWith("/")) {
+            path = path.substring(0, path.length() - 1);
+        }
+        for (LimitedRoute route : routes) {
+            if ((route.methods.isEmpty() || route.methods.contains(request.getMethod()))
+                    && pathMatcher.match(route.pattern, path)) {
+                return route;
+            }
+        }
+        return null;
+    }
+
+    private String key(LimitedRoute route, HttpServletRequest request) {
+        if (route.key == RateLimitKey.MEMBER) {
+            Object member = request.getAttribute(JwtAuthenticationFilter.AUTHENTICATED_MEMBER);
+            if (member instanceof AuthenticatedMember) {
+                return "m:" + ((AuthenticatedMember) member).getMemberId();
+            }
+        }
+        return request.getRemoteAddr();
+    }
+
+    private void writeTooManyRequests(HttpServletResponse response, long waitNanos) throws IOException {
+        long retryAfterSeconds = Math.max(1, (waitNanos + TimeUnit.SECONDS.toNanos(1) - 1) / TimeUnit.SECONDS.toNanos(1));
+        response.setStatus(ErrorCode.TOO_MANY_REQUESTS.getStatus().value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        objectMapper.writeValue(response.getOutputStream(),
+                ErrorResponse.of(ErrorCode.TOO_MANY_REQUESTS, ErrorCode.TOO_MANY_REQUESTS.getMessage()));
+    }
+
+    private static class LimitedRoute {
+
+        private final String pattern;
+        private final List<String> methods;
+        private final RateLimitKey key;
+        private final TokenBucket bucket;
+        private final Counter rejected;
+
+        LimitedRoute(String name, RateLimitProperties.Route route, MeterRegistry meterRegistry) {
+            this.pattern = route.getPattern();
+            this.methods = route.getMethods().stream().map(String::toUpperCase).collect(Collectors.toUnmodifiableList());
+            this.key = route.getKey();
+            this.bucket = new TokenBucket(route.getCapacity(), route.getRefillTokens(), route.getRefillPeriod());
+            this.rejected = Counter.builder("http.server.requests.throttled")
+                    .tag("route", name)
+                    .description("Requests rejected by the rate limiter")
+                    .register(meterRegistry);
+        }
+
+    }
+
+}
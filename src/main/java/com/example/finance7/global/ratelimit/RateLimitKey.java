@@ -0,0 +1,8 @@
+package com.example.finance7.global.ratelimit;
+
+/**
+ * 버킷을 나누는 기준. MEMBER 는 로그인하지 않은 요청이면 IP 로 나눈다.
+ */
+public enum RateLimitKey {
+    IP, MEMBER
+}
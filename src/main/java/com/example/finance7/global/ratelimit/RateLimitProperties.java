@@ -0,0 +1,54 @@
+package com.example.finance7.global.ratelimit;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * app.rate-limit.routes.&lt;이름&gt;.* 로 경로별 한도를 정한다. 요청은 선언 순서대로 처음 일치한 경로 하나에만 적용된다.
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties("app.rate-limit")
+public class RateLimitProperties {
+
+    private boolean enabled = true;
+
+    private Map<String, Route> routes = new LinkedHashMap<>();
+
+    @Getter
+    @Setter
+    public static class Route {
+
+        /**
+         * Ant 스타일 경로 패턴 (예: /api/members/{@literal *}/recommendations).
+         */
+        private String pattern;
+
+        /**
+         * 비어 있으면 모든 메서드에 적용한다.
+         */
+        private List<String> methods = new ArrayList<>();
+
+        private RateLimitKey key = RateLimitKey.IP;
+
+        /**
+         * 한 번에 몰아서 허용하는 최대 요청 수.
+         */
+        private long capacity = 20;
+
+        private long refillTokens = 10;
+
+        private Duration refillPeriod = Duration.ofSeconds(1);
+
+    }
+
+}
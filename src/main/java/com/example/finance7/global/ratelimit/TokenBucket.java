@@ -0,0 +1,81 @@
+package com.example.finance7.global.ratelimit;
+
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * 키별 토큰 버킷. 버킷마다 "다음 토큰이 완전히 찰 시각"(GCRA 의 theoretical arrival time) 하나만 {@link AtomicLong} 에
+ * 두고 CAS 로 갱신하므로, 잠금 없이 키마다 독립적으로 동작하고 허용 여부 판단에 객체를 할당하지 않는다.
+ * <p>
+ * {@code capacity} 개까지 몰아서 허용하고, 이후로는 {@code refillPeriod / refillTokens} 마다 하나씩 허용한다.
+ * 키 상태는 키 단위로 잘게 나뉜 {@link ConcurrentHashMap} 에 두어 서로 다른 클라이언트가 같은 상태를 다투지 않는다.
+ * 가득 찬 버킷은 없는 것과 같으므로 {@link #evictIdle()} 로 정리해도 동작이 바뀌지 않는다.
+ */
+public class TokenBucket {
+
+    private final long capacity;
+    private final long emissionInterval;
+    private final long burstTolerance;
+    private final LongSupplier nanoClock;
+    private final ConcurrentMap<String, AtomicLong> states = new ConcurrentHashMap<>();
+
+    public TokenBucket(long capacity, long refillTokens, Duration refillPeriod) {
+        this(capacity, refillTokens, refillPeriod, System::nanoTime);
+    }
+
+    TokenBucket(long capacity, long refillTokens, Duration refillPeriod, LongSupplier nanoClock) {
+        if (capacity < 1 || refillTokens < 1 || refillPeriod.isNegative() || refillPeriod.isZero()) {
+            throw new IllegalArgumentException("capacity, refillTokens, refillPeriod 는 0 보다 커야 합니다.");
+        }
+        this.capacity = capacity;
+        this.emissionInterval = Math.max(1, refillPeriod.toNanos() / refillTokens);
+        this.burstTolerance = emissionInterval * capacity;
+        this.nanoClock = nanoClock;
+    }
+
+    /**
+     * 토큰 하나를 꺼낸다. 허용되면 0, 아니면 다시 시도할 수 있을 때까지 남은 나노초를 돌려준다.
+     */
+    public long tryAcquire(String key) {
+        AtomicLong state = states.get(key);
+        if (state == null) {
+            state = states.computeIfAbsent(key, k -> new AtomicLong(Long.MIN_VALUE));
+        }
+        long now = nanoClock.getAsLong();
+        while (true) {
+            long current = state.get();
+            long arrival = current == Long.MIN_VALUE || current - now < 0 ? now : current;
+            long next = arrival + emissionInterval;
+            long wait = next - now - burstTolerance;
+            if (wait > 0) {
+                return wait;
+            }
+            if (state.compareAndSet(current, next)) {
+                return 0;
+            }
+        }
+    }
+
+    /**
+     * 지금 다시 채워진 상태(가득 찬 버킷)인 키를 지운다.
+     */
+    public void evictIdle() {
+        long now = nanoClock.getAsLong();
+        states.values().removeIf(state -> {
+            long current = state.get();
+            return current == Long.MIN_VALUE || current - now <= 0;
+        });
+    }
+
+    public long getCapacity() {
+        return capacity;
+    }
+
+    public int size() {
+        return states.size();
+    }
+
+}
@@ -0,0 +1,98 @@
+package com.example.finance7.global.sketch;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * long 키의 빈도를 고정 크기 메모리로 세는 count-min sketch. 추정값은 실제보다 작지 않고,
+ * 전체 합이 N 일 때 확률 1 - (1/2)^depth 이상으로 실제보다 2N/width 이하만큼만 크다.
+ * <p>
+ * 카운터는 {@link AtomicLongArray} 에 두어 여러 스레드가 락 없이 더하고 읽는다. 카운터가 선형이므로 다른 스케치를
+ * 더하거나 빼서 여러 시간 구간의 합을 유지할 수 있다. 더하고 빼는 두 스케치는 크기가 같아야 한다.
+ */
+public class CountMinSketch {
+
+    private static final long SEED = 0x9E3779B97F4A7C15L;
+
+    private final AtomicLongArray counters;
+    private final int width;
+    private final int depth;
+    private final int mask;
+
+    /**
+     * @param width 행마다 카운터 수. 2 의 거듭제곱으로 올려 잡는다.
+     * @param depth 해시 함수(행) 수
+     */
+    public CountMinSketch(int width, int depth) {
+        if (width < 1 || width > (1 << 24) || depth < 1 || depth > 16) {
+            throw new IllegalArgumentException("width 는 1 ~ 2^24, depth 는 1 ~ 16 이어야 합니다.");
+        }
+        int rounded = 1;
+        while (rounded < width) {
+            rounded <<= 1;
+        }
+        this.width = rounded;
+        this.depth = depth;
+        this.mask = this.width - 1;
+        this.counters = new AtomicLongArray(this.width * depth);
+    }
+
+    public void add(long key, long count) {
+        long h1 = mix(key);
+        long h2 = mix(key ^ SEED) | 1;
+        for (int row = 0; row < depth; row++) {
+            counters.addAndGet(row * width + (int) ((h1 + row * h2) & mask), count);
+        }
+    }
+
+    public long estimate(long key) {
+        long h1 = mix(key);
+        long h2 = mix(key ^ SEED) | 1;
+        long min = Long.MAX_VALUE;
+        for (int row = 0; row < depth; row++) {
+            min = Math.min(min, counters.get(row * width + (int) ((h1 + row * h2) & mask)));
+        }
+        return min;
+    }
+
+    /**
+     * {@code other} 의 카운터를 이 스케치에서 뺀다. 시간 구간 합에서 만료된 구간을 덜어낼 때 쓴다.
+     */
+    public void subtract(CountMinSketch other) {
+        if (other.width != width || other.depth != depth) {
+            throw new IllegalArgumentException("크기가 다른 스케치는 뺄 수 없습니다.");
+        }
+        for (int i = 0; i < counters.length(); i++) {
+            long value = other.counters.get(i);
+            if (value != 0) {
+                counters.addAndGet(i, -value);
+            }
+        }
+    }
+
+    public void clear() {
+        for (int i = 0; i < counters.length(); i++) {
+            counters.set(i, 0);
+        }
+    }
+
+    public int width() {
+        return width;
+    }
+
+    public int depth() {
+        return depth;
+    }
+
+    /**
+     * MurmurHash3 fmix64.
+     */
+    private static long mix(long hash) {
+        hash ^= hash >>> 33;
+        hash *= 0xFF51AFD7ED558CCDL;
+        hash ^= hash >>> 33;
+        hash *= 0xC4CEB9FE1A85EC53L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+
+}
@@ -0,0 +1,51 @@
+package com.example.finance7.global.startup;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
+import org.springframework.boot.context.metrics.buffering.StartupTimeline;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.metrics.ApplicationStartup;
+import org.springframework.stereotype.Component;
+
+import java.util.Comparator;
+
+/**
+ * 기동이 끝나면 가장 오래 걸린 단계를 로그로 남긴다. 전체 타임라인은 actuator startup 엔드포인트로 조회한다.
+ * 기동 시간 회귀는 Boot 가 등록하는 application.ready.time 지표로 추적한다.
+ */
+@Slf4j
+@Component
+public class StartupTimelineReporter {
+
+    private final int slowestSteps;
+
+    public StartupTimelineReporter(@Value("${app.startup.report-steps:10}") int slowestSteps) {
+        this.slowestSteps = slowestSteps;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void report(ApplicationReadyEvent event) {
+        ApplicationStartup startup = event.getApplicationContext().getApplicationStartup();
+        if (!(startup instanceof BufferingApplicationStartup)) {
+            return;
+        }
+        StartupTimeline timeline = ((BufferingApplicationStartup) startup).getBufferedTimeline();
+        log.info("application ready in {} ms, recorded steps={}", event.getTimeTaken().toMillis(),
+                timeline.getEvents().size());
+        timeline.getEvents().stream()
+                .sorted(Comparator.comparing(StartupTimeline.TimelineEvent::getDuration).reversed())
+                .limit(slowestSteps)
+                .forEach(step -> log.info("  {} ms {} {}", step.getDuration().toMillis(),
+                        step.getStartupStep().getName(), describe(step)));
+    }
+
+    private static String describe(StartupTimeline.TimelineEvent step) {
+        StringBuilder tags = new StringBuilder();
+        step.getStartupStep().getTags()
+                .forEach(tag -> tags.append(tag.getKey()).append('=').append(tag.getValue()).append(' '));
+        return tags.toString().trim();
+    }
+
+}
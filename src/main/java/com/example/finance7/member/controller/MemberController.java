@@ -0,0 +1,38 @@
+package com.example.finance7.member.controller;
+
+import com.example.finance7.auth.token.AuthenticatedMember;
+import com.example.finance7.auth.web.LoginMember;
+import com.example.finance7.member.dto.MemberProfileRequest;
+import com.example.finance7.member.dto.MemberResponse;
+import com.example.finance7.member.service.MemberService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.PatchMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/members")
+public class MemberController {
+
+    private final MemberService memberService;
+
+    @PostMapping
+    @ResponseStatus(HttpStatus.CREATED)
+    public MemberResponse create(@RequestBody MemberProfileRequest request) {
+        return memberService.create(request);
+    }
+
+    @PatchMapping("/{memberId}/profile")
+    public MemberResponse updateProfile(@LoginMember AuthenticatedMember member, @PathVariable Long memberId,
+                                        @RequestBody MemberProfileRequest request) {
+        member.requireSelf(memberId);
+        return memberService.updateProfile(memberId, request);
+    }
+
+}
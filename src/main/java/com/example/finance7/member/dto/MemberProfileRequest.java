@@ -0,0 +1,18 @@
+package com.example.finance7.member.dto;
+
+import com.example.finance7.member.entity.Job;
+import com.example.finance7.product.entity.InterestType;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+public class MemberProfileRequest {
+
+    private String name;
+    private int age;
+    private long annualIncome;
+    private Job job;
+    private InterestType preferredInterestType;
+
+}
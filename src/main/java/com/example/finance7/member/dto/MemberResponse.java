@@ -0,0 +1,31 @@
+package com.example.finance7.member.dto;
+
+import com.example.finance7.member.entity.Job;
+import com.example.finance7.member.entity.Member;
+import com.example.finance7.product.entity.InterestType;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class MemberResponse {
+
+    private final Long id;
+    private final String name;
+    private final int age;
+    private final long annualIncome;
+    private final Job job;
+    private final InterestType preferredInterestType;
+
+    public static MemberResponse from(Member member) {
+        return MemberResponse.builder()
+                .id(member.getId())
+                .name(member.getName())
+                .age(member.getAge())
+                .annualIncome(member.getAnnualIncome())
+                .job(member.getJob())
+                .preferredInterestType(member.getPreferredInterestType())
+                .build();
+    }
+
+}
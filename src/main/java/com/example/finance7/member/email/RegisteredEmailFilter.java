@@ -0,0 +1,133 @@
+package com.example.finance7.member.email;
+
+import com.example.finance7.global.bloom.BloomFilter;
+import com.example.finance7.member.event.MemberChangedEvent;
+import com.example.finance7.member.repository.MemberEmailView;
+import com.example.finance7.member.repository.MemberRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Locale;
+import java.util.stream.Stream;
+
+/**
+ * 가입된 이메일의 블룸 필터. "없음"이면 DB 를 보지 않고 사용 가능하다고 답하고, "있을 수 있음"일 때만 SQL 로 확인한다.
+ * <p>
+ * 기동 시 전체 이메일을 스트리밍 쿼리로 읽어 채우고, 이 인스턴스의 가입은 커밋 직후 바로 넣는다.
+ * 다른 인스턴스의 가입은 주기적으로 새 회원만 읽어 반영하므로 그 주기만큼 "사용 가능"으로 잘못 답할 수 있지만,
+ * 실제 가입은 이메일 유니크 제약이 막는다. 탈퇴한 회원의 이메일은 필터에서 뺄 수 없어 긴 주기로 새로 만든다.
+ */
+@Slf4j
+@Component
+public class RegisteredEmailFilter {
+
+    /**
+     * 동시에 커밋된 트랜잭션은 ID 순서와 커밋 순서가 다를 수 있어, 직전에 읽은 ID 보다 조금 앞에서부터 다시 읽는다.
+     */
+    private static final long SYNC_ID_OVERLAP = 1000;
+
+    private final MemberRepository memberRepository;
+    private final long expectedSize;
+    private final double falsePositiveRate;
+    private final Counter filtered;
+    private final Counter confirmed;
+    private volatile BloomFilter filter;
+    private volatile long lastSyncedId;
+    private volatile boolean ready;
+
+    public RegisteredEmailFilter(MemberRepository memberRepository, MeterRegistry meterRegistry,
+                                 @Value("${app.member.email-filter.expected-size:1000000}") long expectedSize,
+                                 @Value("${app.member.email-filter.false-positive-rate:0.01}") double falsePositiveRate) {
+        this.memberRepository = memberRepository;
+        this.expectedSize = expectedSize;
+        this.falsePositiveRate = falsePositiveRate;
+        this.filter = BloomFilter.create(expectedSize, falsePositiveRate);
+        this.filtered = Counter.builder("member.email.check")
+                .tag("result", "filtered")
+                .description("Email checks answered by the bloom filter alone")
+                .register(meterRegistry);
+        this.confirmed = Counter.builder("member.email.check")
+                .tag("result", "database")
+                .description("Email checks confirmed against the database")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 가입된 이메일이면 true. 필터가 아직 채워지지 않았으면 항상 DB 로 확인한다.
+     */
+    public boolean isRegistered(String email) {
+        String normalized = normalize(email);
+        if (ready && !filter.mightContain(normalized)) {
+            filtered.increment();
+            return false;
+        }
+        confirmed.increment();
+        return memberRepository.existsByEmail(normalized);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onMemberChanged(MemberChangedEvent event) {
+        String email = event.getMember().getEmail();
+        if (!event.isDeleted() && email != null) {
+            filter.put(normalize(email));
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void warmUp() {
+        rebuild();
+        ready = true;
+        log.info("registered email filter loaded: {} bits, {} hashes", filter.bitCount(), filter.hashCount());
+    }
+
+    /**
+     * 마지막으로 읽은 뒤 가입한 회원의 이메일을 필터에 넣는다.
+     */
+    @Scheduled(fixedDelayString = "${app.member.email-filter.sync-interval:5000}", initialDelay = 5000)
+    @Transactional(readOnly = true)
+    public void sync() {
+        BloomFilter current = filter;
+        try (Stream<MemberEmailView> emails = memberRepository.streamEmailsAfter(
+                Math.max(0, lastSyncedId - SYNC_ID_OVERLAP))) {
+            emails.forEach(member -> {
+                current.put(normalize(member.getEmail()));
+                lastSyncedId = Math.max(lastSyncedId, member.getId());
+            });
+        }
+    }
+
+    /**
+     * 전체 이메일로 새 필터를 만들어 교체한다. 교체 중 들어온 가입은 다음 {@link #sync()} 가 다시 넣는다.
+     */
+    @Scheduled(fixedDelayString = "${app.member.email-filter.rebuild-interval:21600000}", initialDelay = 21600000)
+    @Transactional(readOnly = true)
+    public void rebuild() {
+        BloomFilter rebuilt = BloomFilter.create(expectedSize, falsePositiveRate);
+        long maxId = 0;
+        try (Stream<MemberEmailView> emails = memberRepository.streamEmailsAfter(0L)) {
+            for (MemberEmailView member : (Iterable<MemberEmailView>) emails::iterator) {
+                rebuilt.put(normalize(member.getEmail()));
+                maxId = Math.max(maxId, member.getId());
+            }
+        }
+        filter = rebuilt;
+        lastSyncedId = maxId;
+    }
+
+    /**
+     * 저장/조회/필터에 같은 형태를 쓰도록 앞뒤 공백을 없애고 소문자로 바꾼다.
+     */
+    public static String normalize(String email) {
+        return email == null ? null : email.trim().toLowerCase(Locale.ROOT);
+    }
+
+}
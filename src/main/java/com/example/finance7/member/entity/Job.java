@@ -0,0 +1,19 @@
+package com.example.finance7.member.entity;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum Job {
+
+    OFFICE_WORKER("직장인"),
+    PUBLIC_SERVANT("공무원"),
+    SELF_EMPLOYED("자영업자"),
+    FREELANCER("프리랜서"),
+    STUDENT("학생"),
+    UNEMPLOYED("무직");
+
+    private final String description;
+
+}
@@ -0,0 +1,75 @@
+package com.example.finance7.member.entity;
+
+import com.example.finance7.global.entity.BaseTimeEntity;
+import com.example.finance7.product.entity.InterestType;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.EntityListeners;
+import javax.persistence.EnumType;
+import javax.persistence.Enumerated;
+import javax.persistence.GeneratedValue;
+import javax.persistence.GenerationType;
+import javax.persistence.Id;
+import javax.persistence.Table;
+
+@Getter
+@Entity
+@Table(name = "member")
+@EntityListeners(MemberEntityListener.class)
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class Member extends BaseTimeEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "member_id")
+    private Long id;
+
+    @Column(unique = true, length = 100)
+    private String email;
+
+    /**
+     * BCrypt 해시. 관리자가 만든 회원처럼 로그인 정보가 없으면 null.
+     */
+    @Column(length = 60)
+    private String password;
+
+    @Column(nullable = false, length = 30)
+    private String name;
+
+    private int age;
+
+    private long annualIncome;
+
+    @Enumerated(EnumType.STRING)
+    @Column(length = 20)
+    private Job job;
+
+    @Enumerated(EnumType.STRING)
+    @Column(length = 20)
+    private InterestType preferredInterestType;
+
+    @Builder
+    public Member(String email, String password, String name, int age, long annualIncome, Job job,
+                  InterestType preferredInterestType) {
+        this.email = email;
+        this.password = password;
+        this.name = name;
+        this.age = age;
+        this.annualIncome = annualIncome;
+        this.job = job;
+        this.preferredInterestType = preferredInterestType;
+    }
+
+    public void updateProfile(int age, long annualIncome, Job job, InterestType preferredInterestType) {
+        this.age = age;
+        this.annualIncome = annualIncome;
+        this.job = job;
+        this.preferredInterestType = preferredInterestType;
+    }
+
+}
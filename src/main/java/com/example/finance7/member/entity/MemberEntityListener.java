@@ -0,0 +1,33 @@
+package com.example.finance7.member.entity;
+
+import com.example.finance7.member.event.MemberChangedEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+import javax.persistence.PostPersist;
+import javax.persistence.PostRemove;
+import javax.persistence.PostUpdate;
+
+@Component
+@RequiredArgsConstructor
+public class MemberEntityListener {
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    @PostPersist
+    public void onPersist(Member member) {
+        eventPublisher.publishEvent(new MemberChangedEvent(MemberChangedEvent.Type.CREATED, member));
+    }
+
+    @PostUpdate
+    public void onUpdate(Member member) {
+        eventPublisher.publishEvent(new MemberChangedEvent(MemberChangedEvent.Type.UPDATED, member));
+    }
+
+    @PostRemove
+    public void onRemove(Member member) {
+        eventPublisher.publishEvent(new MemberChangedEvent(MemberChangedEvent.Type.DELETED, member));
+    }
+
+}
@@ -0,0 +1,22 @@
+package com.example.finance7.member.event;
+
+import com.example.finance7.member.entity.Member;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public class MemberChangedEvent {
+
+    public enum Type {
+        CREATED, UPDATED, DELETED
+    }
+
+    private final Type type;
+    private final Member member;
+
+    public boolean isDeleted() {
+        return type == Type.DELETED;
+    }
+
+}
@@ -0,0 +1,9 @@
+package com.example.finance7.member.repository;
+
+public interface MemberEmailView {
+
+    Long getId();
+
+    String getEmail();
+
+}
@@ -0,0 +1,32 @@
+package com.example.finance7.member.repository;
+
+import com.example.finance7.member.entity.Member;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import javax.persistence.QueryHint;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+public interface MemberRepository extends JpaRepository<Member, Long> {
+
+    List<MemberSegmentView> findAllBy();
+
+    Optional<Member> findByEmail(String email);
+
+    boolean existsByEmail(String email);
+
+    /**
+     * {@code id} 보다 큰 회원의 이메일을 ID 순으로 흘려보낸다. 트랜잭션 안에서 소비하고 반드시 닫아야 한다.
+     */
+    @QueryHints({
+            @QueryHint(name = org.hibernate.jpa.QueryHints.HINT_FETCH_SIZE, value = "1000"),
+            @QueryHint(name = org.hibernate.jpa.QueryHints.HINT_READONLY, value = "true")
+    })
+    @Query("select m.id as id, m.email as email from Member m where m.id > :id and m.email is not null order by m.id")
+    Stream<MemberEmailView> streamEmailsAfter(@Param("id") Long id);
+
+}
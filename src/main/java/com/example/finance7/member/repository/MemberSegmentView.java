@@ -0,0 +1,15 @@
+package com.example.finance7.member.repository;
+
+import com.example.finance7.member.entity.Job;
+
+public interface MemberSegmentView {
+
+    Long getId();
+
+    int getAge();
+
+    long getAnnualIncome();
+
+    Job getJob();
+
+}
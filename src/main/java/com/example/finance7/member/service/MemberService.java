@@ -0,0 +1,45 @@
+package com.example.finance7.member.service;
+
+import com.example.finance7.global.error.BusinessException;
+import com.example.finance7.global.error.ErrorCode;
+import com.example.finance7.member.dto.MemberProfileRequest;
+import com.example.finance7.member.dto.MemberResponse;
+import com.example.finance7.member.entity.Member;
+import com.example.finance7.member.repository.MemberRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class MemberService {
+
+    private final MemberRepository memberRepository;
+
+    public Member getMember(Long memberId) {
+        return memberRepository.findById(memberId)
+                .orElseThrow(() -> new BusinessException(ErrorCode.MEMBER_NOT_FOUND));
+    }
+
+    @Transactional
+    public MemberResponse create(MemberProfileRequest request) {
+        Member member = memberRepository.save(Member.builder()
+                .name(request.getName())
+                .age(request.getAge())
+                .annualIncome(request.getAnnualIncome())
+                .job(request.getJob())
+                .preferredInterestType(request.getPreferredInterestType())
+                .build());
+        return MemberResponse.from(member);
+    }
+
+    @Transactional
+    public MemberResponse updateProfile(Long memberId, MemberProfileRequest request) {
+        Member member = getMember(memberId);
+        member.updateProfile(request.getAge(), request.getAnnualIncome(), request.getJob(),
+                request.getPreferredInterestType());
+        return MemberResponse.from(member);
+    }
+
+}
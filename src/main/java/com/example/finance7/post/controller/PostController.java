@@ -0,0 +1,74 @@
+package com.example.finance7.post.controller;
+
+import com.example.finance7.auth.token.AuthenticatedMember;
+import com.example.finance7.auth.web.LoginMember;
+import com.example.finance7.post.dto.PostRequest;
+import com.example.finance7.post.dto.PostResponse;
+import com.example.finance7.post.dto.PostSearchResponse;
+import com.example.finance7.post.dto.PostSummaryResponse;
+import com.example.finance7.post.entity.PostType;
+import com.example.finance7.post.service.PostService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/posts")
+public class PostController {
+
+    private final PostService postService;
+
+    @GetMapping("/active")
+    public List<PostSummaryResponse> getActivePosts(
+            @RequestParam(required = false) PostType type,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(defaultValue = "20") int size) {
+        return postService.getActivePosts(type, from, to, size);
+    }
+
+    @GetMapping("/search")
+    public List<PostSearchResponse> search(@RequestParam String keyword,
+                                           @RequestParam(required = false) PostType type,
+                                           @RequestParam(defaultValue = "20") int size) {
+        return postService.search(keyword, type, size);
+    }
+
+    @GetMapping("/{postId}")
+    public PostResponse getPost(@PathVariable Long postId) {
+        return postService.getPost(postId);
+    }
+
+    @PostMapping
+    @ResponseStatus(HttpStatus.CREATED)
+    public PostResponse create(@LoginMember AuthenticatedMember member, @RequestBody PostRequest request) {
+        return postService.create(member.getMemberId(), request);
+    }
+
+    @PutMapping("/{postId}")
+    public PostResponse update(@LoginMember AuthenticatedMember member, @PathVariable Long postId,
+                               @RequestBody PostRequest request) {
+        return postService.update(member.getMemberId(), postId, request);
+    }
+
+    @DeleteMapping("/{postId}")
+    @ResponseStatus(HttpStatus.NO_CONTENT)
+    public void delete(@LoginMember AuthenticatedMember member, @PathVariable Long postId) {
+        postService.delete(member.getMemberId(), postId);
+    }
+
+}
@@ -0,0 +1,30 @@
+package com.example.finance7.post.dto;
+
+import com.example.finance7.post.entity.Period;
+import com.example.finance7.post.entity.PostType;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Getter
+@NoArgsConstructor
+public class PostRequest {
+
+    private PostType type;
+    private String title;
+    private String content;
+    private LocalDateTime startAt;
+    private LocalDateTime endAt;
+
+    /**
+     * 시작/끝이 모두 없으면 기간 없는 게시글이다.
+     */
+    public Period toPeriod() {
+        if (startAt == null && endAt == null) {
+            return null;
+        }
+        return Period.of(startAt, endAt);
+    }
+
+}
@@ -0,0 +1,38 @@
+package com.example.finance7.post.dto;
+
+import com.example.finance7.post.entity.Post;
+import com.example.finance7.post.entity.PostType;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+@Getter
+@Builder
+public class PostResponse {
+
+    private final Long id;
+    private final PostType type;
+    private final String title;
+    private final String content;
+    private final Long writerId;
+    private final LocalDateTime startAt;
+    private final LocalDateTime endAt;
+    private final long viewCount;
+    private final LocalDateTime createdAt;
+
+    public static PostResponse of(Post post, long pendingViews) {
+        return PostResponse.builder()
+                .id(post.getId())
+                .type(post.getType())
+                .title(post.getTitle())
+                .content(post.getContent())
+                .writerId(post.getWriterId())
+                .startAt(post.getPeriod() == null ? null : post.getPeriod().getStartAt())
+                .endAt(post.getPeriod() == null ? null : post.getPeriod().getEndAt())
+                .viewCount(post.getViewCount() + pendingViews)
+                .createdAt(post.getCreatedAt())
+                .build();
+    }
+
+}
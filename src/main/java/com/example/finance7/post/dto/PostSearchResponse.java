@@ -0,0 +1,41 @@
+package com.example.finance7.post.dto;
+
+import com.example.finance7.post.entity.Post;
+import com.example.finance7.post.entity.PostType;
+import com.example.finance7.post.search.PostHighlighter;
+import com.example.finance7.post.search.PostSearchQuery;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 검색 결과. {@code highlightedTitle}, {@code snippet} 은 HTML 이스케이프된 글에 일치 부분만 {@code <em>} 으로 감싼 것이다.
+ */
+@Getter
+@Builder
+public class PostSearchResponse {
+
+    private static final int SNIPPET_LENGTH = 120;
+
+    private final Long id;
+    private final PostType type;
+    private final String title;
+    private final String highlightedTitle;
+    private final String snippet;
+    private final long viewCount;
+    private final LocalDateTime createdAt;
+
+    public static PostSearchResponse of(Post post, PostSearchQuery query, long pendingViews) {
+        return PostSearchResponse.builder()
+                .id(post.getId())
+                .type(post.getType())
+                .title(post.getTitle())
+                .highlightedTitle(PostHighlighter.highlight(post.getTitle(), query.getTokens()))
+                .snippet(PostHighlighter.snippet(post.getContent(), query.getTokens(), SNIPPET_LENGTH))
+                .viewCount(post.getViewCount() + pendingViews)
+                .createdAt(post.getCreatedAt())
+                .build();
+    }
+
+}
@@ -0,0 +1,32 @@
+package com.example.finance7.post.dto;
+
+import com.example.finance7.post.entity.Post;
+import com.example.finance7.post.entity.PostType;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+@Getter
+@Builder
+public class PostSummaryResponse {
+
+    private final Long id;
+    private final PostType type;
+    private final String title;
+    private final LocalDateTime startAt;
+    private final LocalDateTime endAt;
+    private final long viewCount;
+
+    public static PostSummaryResponse of(Post post, long pendingViews) {
+        return PostSummaryResponse.builder()
+                .id(post.getId())
+                .type(post.getType())
+                .title(post.getTitle())
+                .startAt(post.getPeriod() == null ? null : post.getPeriod().getStartAt())
+                .endAt(post.getPeriod() == null ? null : post.getPeriod().getEndAt())
+                .viewCount(post.getViewCount() + pendingViews)
+                .build();
+    }
+
+}
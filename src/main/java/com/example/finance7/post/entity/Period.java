@@ -0,0 +1,49 @@
+package com.example.finance7.post.entity;
+
+import com.example.finance7.global.error.BusinessException;
+import com.example.finance7.global.error.ErrorCode;
+import lombok.AccessLevel;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import javax.persistence.Column;
+import javax.persistence.Embeddable;
+import java.time.LocalDateTime;
+
+/**
+ * 게시 기간. 시작은 포함하고 끝은 포함하지 않는다 [startAt, endAt). 기간이 없는 게시글은 두 컬럼이 모두 null 이다.
+ */
+@Getter
+@Embeddable
+@EqualsAndHashCode
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class Period {
+
+    @Column(name = "start_at")
+    private LocalDateTime startAt;
+
+    @Column(name = "end_at")
+    private LocalDateTime endAt;
+
+    private Period(LocalDateTime startAt, LocalDateTime endAt) {
+        this.startAt = startAt;
+        this.endAt = endAt;
+    }
+
+    public static Period of(LocalDateTime startAt, LocalDateTime endAt) {
+        if (startAt == null || endAt == null || !startAt.isBefore(endAt)) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT, "게시 기간의 시작은 끝보다 앞서야 합니다.");
+        }
+        return new Period(startAt, endAt);
+    }
+
+    public boolean contains(LocalDateTime time) {
+        return !time.isBefore(startAt) && time.isBefore(endAt);
+    }
+
+    public boolean overlaps(LocalDateTime from, LocalDateTime to) {
+        return startAt.isBefore(to) && from.isBefore(endAt);
+    }
+
+}
@@ -0,0 +1,83 @@
+package com.example.finance7.post.entity;
+
+import com.example.finance7.global.entity.BaseTimeEntity;
+import com.example.finance7.post.search.PostNgrams;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import javax.persistence.Column;
+import javax.persistence.Embedded;
+import javax.persistence.Entity;
+import javax.persistence.EntityListeners;
+import javax.persistence.EnumType;
+import javax.persistence.Enumerated;
+import javax.persistence.GeneratedValue;
+import javax.persistence.GenerationType;
+import javax.persistence.Id;
+import javax.persistence.Index;
+import javax.persistence.Lob;
+import javax.persistence.Table;
+
+@Getter
+@Entity
+@Table(name = "post", indexes = @Index(name = "idx_post_type", columnList = "post_type"))
+@EntityListeners(PostEntityListener.class)
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class Post extends BaseTimeEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "post_id")
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "post_type", nullable = false, length = 20)
+    private PostType type;
+
+    @Column(nullable = false, length = 200)
+    private String title;
+
+    @Lob
+    @Column(nullable = false)
+    private String content;
+
+    /**
+     * 제목/본문의 2-gram 토큰. MariaDB FULLTEXT 색인(ftx_post_search_text) 대상이며 제목/본문이 바뀔 때 함께 다시 만든다.
+     */
+    @Lob
+    @Getter(AccessLevel.NONE)
+    @Column(name = "search_text", nullable = false)
+    private String searchText;
+
+    @Column(name = "writer_id")
+    private Long writerId;
+
+    @Embedded
+    private Period period;
+
+    /**
+     * 조회수는 PostViewCounter 가 SQL 로만 더한다. 엔티티 수정이 읽어 둔 옛 값으로 덮어쓰지 않도록 UPDATE 에서 뺀다.
+     */
+    @Column(name = "view_count", nullable = false, updatable = false)
+    private long viewCount;
+
+    @Builder
+    public Post(PostType type, String title, String content, Long writerId, Period period) {
+        this.type = type;
+        this.title = title;
+        this.content = content;
+        this.searchText = PostNgrams.fullTextDocument(title, content);
+        this.writerId = writerId;
+        this.period = period;
+    }
+
+    public void update(String title, String content, Period period) {
+        this.title = title;
+        this.content = content;
+        this.searchText = PostNgrams.fullTextDocument(title, content);
+        this.period = period;
+    }
+
+}
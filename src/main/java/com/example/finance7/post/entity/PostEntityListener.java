@@ -0,0 +1,33 @@
+package com.example.finance7.post.entity;
+
+import com.example.finance7.post.event.PostChangedEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+import javax.persistence.PostPersist;
+import javax.persistence.PostRemove;
+import javax.persistence.PostUpdate;
+
+@Component
+@RequiredArgsConstructor
+public class PostEntityListener {
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    @PostPersist
+    public void onPersist(Post post) {
+        eventPublisher.publishEvent(new PostChangedEvent(PostChangedEvent.Type.CREATED, post));
+    }
+
+    @PostUpdate
+    public void onUpdate(Post post) {
+        eventPublisher.publishEvent(new PostChangedEvent(PostChangedEvent.Type.UPDATED, post));
+    }
+
+    @PostRemove
+    public void onRemove(Post post) {
+        eventPublisher.publishEvent(new PostChangedEvent(PostChangedEvent.Type.DELETED, post));
+    }
+
+}
@@ -0,0 +1,17 @@
+package com.example.finance7.post.entity;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum PostType {
+
+    NOTICE("공지"),
+    EVENT("이벤트"),
+    PROMOTION("프로모션"),
+    FREE("자유");
+
+    private final String description;
+
+}
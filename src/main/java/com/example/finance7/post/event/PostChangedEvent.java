@@ -0,0 +1,22 @@
+package com.example.finance7.post.event;
+
+import com.example.finance7.post.entity.Post;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public class PostChangedEvent {
+
+    public enum Type {
+        CREATED, UPDATED, DELETED
+    }
+
+    private final Type type;
+    private final Post post;
+
+    public boolean isDeleted() {
+        return type == Type.DELETED;
+    }
+
+}
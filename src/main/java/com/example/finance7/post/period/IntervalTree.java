@@ -0,0 +1,148 @@
+package com.example.finance7.post.period;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.LongConsumer;
+
+/**
+ * [start, end) 구간의 불변 색인. 한 시각을 포함하는 구간(stabbing)은 centered interval tree 로,
+ * 시작 시각이 범위 안에 있는 구간은 시작 시각 정렬 배열의 이분 탐색으로 찾는다.
+ * 두 조회를 합치면 [from, to) 와 겹치는 구간을 중복 없이 O(log n + k) 에 모두 찾을 수 있다.
+ */
+final class IntervalTree {
+
+    static final IntervalTree EMPTY = new IntervalTree(new PostInterval[0]);
+
+    private static final Comparator<PostInterval> BY_END_DESC =
+            Comparator.comparingLong(PostInterval::getEnd).reversed();
+
+    private final Node root;
+    private final long[] sortedStarts;
+    private final long[] idsByStart;
+
+    IntervalTree(PostInterval[] intervals) {
+        PostInterval[] byStart = intervals.clone();
+        Arrays.sort(byStart, PostInterval.ORDER);
+        this.sortedStarts = new long[byStart.length];
+        this.idsByStart = new long[byStart.length];
+        for (int i = 0; i < byStart.length; i++) {
+            sortedStarts[i] = byStart[i].getStart();
+            idsByStart[i] = byStart[i].getPostId();
+        }
+        this.root = build(Arrays.asList(byStart));
+    }
+
+    int size() {
+        return idsByStart.length;
+    }
+
+    /**
+     * [from, to) 와 겹치는 구간. from 을 포함하는 구간과 시작 시각이 (from, to) 안에 있는 구간은 서로 겹치지 않는다.
+     */
+    void overlapping(long from, long to, LongConsumer consumer) {
+        if (from >= to) {
+            return;
+        }
+        stab(from, consumer);
+        int index = upperBound(from);
+        for (int i = index; i < sortedStarts.length && sortedStarts[i] < to; i++) {
+            consumer.accept(idsByStart[i]);
+        }
+    }
+
+    /**
+     * start &lt;= time &lt; end 인 구간.
+     */
+    void stab(long time, LongConsumer consumer) {
+        Node node = root;
+        while (node != null) {
+            if (time < node.center) {
+                for (int i = 0; i < node.startsAsc.length && node.startsAsc[i] <= time; i++) {
+                    consumer.accept(node.idsByStartAsc[i]);
+                }
+                node = node.left;
+            } else {
+                for (int i = 0; i < node.endsDesc.length && node.endsDesc[i] > time; i++) {
+                    consumer.accept(node.idsByEndDesc[i]);
+                }
+                node = node.right;
+            }
+        }
+    }
+
+    private int upperBound(long time) {
+        int lo = 0;
+        int hi = sortedStarts.length;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (sortedStarts[mid] <= time) {
+                lo = mid + 1;
+            } else {
+                hi = mid;
+            }
+        }
+        return lo;
+    }
+
+    /**
+     * 시작 시각 순으로 정렬된 구간으로 노드를 만든다. 가운데 구간의 시작 시각을 중심으로 삼아 중심을 포함하는 구간은
+     * 노드에, 중심보다 끝나는 구간은 왼쪽, 중심 이후에 시작하는 구간은 오른쪽에 둔다. 빈 구간(start &gt;= end)이
+     * 없다면 가운데 구간은 중심을 포함하므로 재귀는 항상 끝나고, 양쪽은 각각 절반 이하로 줄어 깊이는 O(log n) 이다.
+     * 빈 구간은 {@link PostPeriodIndex} 가 넣기 전에 걸러 낸다.
+     */
+    private static Node build(List<PostInterval> byStart) {
+        if (byStart.isEmpty()) {
+            return null;
+        }
+        long center = byStart.get(byStart.size() / 2).getStart();
+        List<PostInterval> left = new ArrayList<>();
+        List<PostInterval> right = new ArrayList<>();
+        List<PostInterval> overlapping = new ArrayList<>();
+        for (PostInterval interval : byStart) {
+            if (interval.getEnd() <= center) {
+                left.add(interval);
+            } else if (interval.getStart() > center) {
+                right.add(interval);
+            } else {
+                overlapping.add(interval);
+            }
+        }
+        return new Node(center, overlapping, build(left), build(right));
+    }
+
+    private static final class Node {
+
+        private final long center;
+        private final long[] startsAsc;
+        private final long[] idsByStartAsc;
+        private final long[] endsDesc;
+        private final long[] idsByEndDesc;
+        private final Node left;
+        private final Node right;
+
+        Node(long center, List<PostInterval> overlappingByStart, Node left, Node right) {
+            this.center = center;
+            int size = overlappingByStart.size();
+            this.startsAsc = new long[size];
+            this.idsByStartAsc = new long[size];
+            for (int i = 0; i < size; i++) {
+                startsAsc[i] = overlappingByStart.get(i).getStart();
+                idsByStartAsc[i] = overlappingByStart.get(i).getPostId();
+            }
+            PostInterval[] byEnd = overlappingByStart.toArray(new PostInterval[0]);
+            Arrays.sort(byEnd, BY_END_DESC);
+            this.endsDesc = new long[size];
+            this.idsByEndDesc = new long[size];
+            for (int i = 0; i < size; i++) {
+                endsDesc[i] = byEnd[i].getEnd();
+                idsByEndDesc[i] = byEnd[i].getPostId();
+            }
+            this.left = left;
+            this.right = right;
+        }
+
+    }
+
+}
@@ -0,0 +1,57 @@
+package com.example.finance7.post.period;
+
+import com.example.finance7.post.entity.Period;
+import com.example.finance7.post.entity.Post;
+import com.example.finance7.post.entity.PostType;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.Comparator;
+
+/**
+ * 색인에 넣는 게시 기간. 시각은 LocalDateTime 을 UTC 기준 epoch 밀리초로 바꾼 값이며 [start, end) 이다.
+ */
+@Getter
+@EqualsAndHashCode
+@RequiredArgsConstructor
+public class PostInterval {
+
+    static final Comparator<PostInterval> ORDER = Comparator.comparingLong(PostInterval::getStart)
+            .thenComparingLong(PostInterval::getPostId);
+
+    private final long postId;
+    private final PostType type;
+    private final long start;
+    private final long end;
+
+    /**
+     * 기간이 없는 게시글은 색인하지 않으므로 null 을 돌려준다.
+     */
+    public static PostInterval from(Post post) {
+        Period period = post.getPeriod();
+        if (period == null) {
+            return null;
+        }
+        return of(post.getId(), post.getType(), period.getStartAt(), period.getEndAt());
+    }
+
+    /**
+     * 밀리초로 자르면 시작과 끝이 같아지는 기간(1ms 미만)이나 끝이 시작보다 앞서는 기간은 어느 시각도 포함하지 않으므로
+     * 색인하지 않고 null 을 돌려준다.
+     */
+    public static PostInterval of(long postId, PostType type, LocalDateTime startAt, LocalDateTime endAt) {
+        PostInterval interval = new PostInterval(postId, type, PostPeriodIndex.toMillis(startAt),
+                PostPeriodIndex.toMillis(endAt));
+        return interval.isEmpty() ? null : interval;
+    }
+
+    /**
+     * start &gt;= end 인 빈 구간. {@link IntervalTree} 는 빈 구간을 나눌 수 없으므로 색인에 넣지 않는다.
+     */
+    boolean isEmpty() {
+        return start >= end;
+    }
+
+}
@@ -0,0 +1,283 @@
+package com.example.finance7.post.period;
+
+import com.example.finance7.post.entity.PostType;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongConsumer;
+
+/**
+ * 게시 기간이 있는 게시글의 구간 색인. "지금 게시 중", "이 기간과 겹침" 조회를 DB 범위 검색 없이 O(log n + k) 로 답한다.
+ * <p>
+ * 전체와 게시글 종류별로 {@link IntervalTree} 를 두어 종류 조건도 결과 수에 비례하는 비용으로 거른다.
+ * 트리는 불변이라 조회는 락 없이 읽고, 게시글 변경은 {@code writeLock} 아래에서 새 스냅샷으로 교체한다.
+ * 개별 변경은 트리를 다시 만들지 않고 작은 보류 목록(바뀐 구간과 트리에서 가릴 ID)에만 더하므로 O(k) 이며,
+ * 보류 목록이 {@link #MAX_PENDING} 을 넘으면 그때 한 번 O(n log n) 으로 트리에 합친다.
+ * 조회는 트리 결과에서 가린 ID 를 빼고 보류 목록을 훑어 더하므로 쓰기 직후에도 바로 반영된다.
+ * 빈 구간(start &gt;= end)은 어느 시각도 포함하지 않고 트리를 나눌 수도 없으므로 넣지 않는다.
+ */
+@Component
+public class PostPeriodIndex {
+
+    /**
+     * 트리에 합치기 전까지 쌓아 두는 변경 수. 조회마다 보류 목록을 훑으므로 조회 비용의 상한이기도 하다.
+     */
+    static final int MAX_PENDING = 256;
+
+    private final ReentrantLock writeLock = new ReentrantLock();
+    private final Map<Long, PostInterval> intervals = new HashMap<>();
+    private volatile Trees trees = Trees.EMPTY;
+    private volatile long modifications;
+
+    public void rebuild(Collection<PostInterval> snapshot) {
+        writeLock.lock();
+        try {
+            replace(snapshot);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * {@code snapshot} 을 읽기 시작한 뒤({@link #modifications()} 가 {@code expectedModifications} 이던 때 이후)
+     * 개별 변경이 반영되었다면, 더 오래된 스냅샷으로 덮어쓰지 않도록 교체하지 않고 false 를 돌려준다.
+     */
+    public boolean rebuildIfUnmodified(Collection<PostInterval> snapshot, long expectedModifications) {
+        writeLock.lock();
+        try {
+            if (modifications != expectedModifications) {
+                return false;
+            }
+            replace(snapshot);
+            return true;
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    public long modifications() {
+        return modifications;
+    }
+
+    public void upsert(PostInterval interval) {
+        if (interval.isEmpty()) {
+            delete(interval.getPostId());
+            return;
+        }
+        writeLock.lock();
+        try {
+            if (!interval.equals(intervals.put(interval.getPostId(), interval))) {
+                apply(trees.with(interval));
+                modifications++;
+            }
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    public void delete(Long postId) {
+        writeLock.lock();
+        try {
+            if (intervals.remove(postId) != null) {
+                apply(trees.without(postId));
+                modifications++;
+            }
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * {@code time} 에 게시 중인 게시글 ID. 종류가 null 이면 모든 종류.
+     */
+    public List<Long> activeAt(LocalDateTime time, PostType type) {
+        List<Long> result = new ArrayList<>();
+        trees.stab(toMillis(time), type, result::add);
+        return result;
+    }
+
+    /**
+     * 게시 기간이 [from, to) 와 겹치는 게시글 ID. 종류가 null 이면 모든 종류.
+     */
+    public List<Long> overlapping(LocalDateTime from, LocalDateTime to, PostType type) {
+        List<Long> result = new ArrayList<>();
+        trees.overlapping(toMillis(from), toMillis(to), type, result::add);
+        return result;
+    }
+
+    /**
+     * {@link #activeAt(LocalDateTime, PostType)} 중 시작 시각이 늦은 순(같으면 ID 가 큰 순)으로 앞의 {@code limit} 개.
+     */
+    public List<Long> activeAt(LocalDateTime time, PostType type, int limit) {
+        Trees current = trees;
+        List<Long> result = new ArrayList<>();
+        current.stab(toMillis(time), type, result::add);
+        return current.latest(result, limit);
+    }
+
+    /**
+     * {@link #overlapping(LocalDateTime, LocalDateTime, PostType)} 중 시작 시각이 늦은 순(같으면 ID 가 큰 순)으로 앞의
+     * {@code limit} 개.
+     */
+    public List<Long> overlapping(LocalDateTime from, LocalDateTime to, PostType type, int limit) {
+        Trees current = trees;
+        List<Long> result = new ArrayList<>();
+        current.overlapping(toMillis(from), toMillis(to), type, result::add);
+        return current.latest(result, limit);
+    }
+
+    public int size() {
+        return trees.size();
+    }
+
+    private void apply(Trees next) {
+        trees = next.pendingSize() > MAX_PENDING ? Trees.of(intervals.values()) : next;
+    }
+
+    private void replace(Collection<PostInterval> snapshot) {
+        intervals.clear();
+        for (PostInterval interval : snapshot) {
+            if (!interval.isEmpty()) {
+                intervals.put(interval.getPostId(), interval);
+            }
+        }
+        trees = Trees.of(intervals.values());
+    }
+
+    static long toMillis(LocalDateTime time) {
+        return time.toInstant(ZoneOffset.UTC).toEpochMilli();
+    }
+
+    /**
+     * 마지막으로 만든 트리와 그 뒤의 보류 변경. {@code pending} 은 트리 밖에서 추가되거나 바뀐 구간,
+     * {@code masked} 는 트리에 있지만 바뀌었거나 삭제되어 조회 결과에서 빼야 하는 ID 이다.
+     */
+    private static final class Trees {
+
+        private static final Trees EMPTY = new Trees(IntervalTree.EMPTY, new EnumMap<>(PostType.class), Map.of(),
+                Map.of(), Set.of());
+
+        private final IntervalTree all;
+        private final Map<PostType, IntervalTree> byType;
+        private final Map<Long, PostInterval> byId;
+        private final Map<Long, PostInterval> pending;
+        private final Set<Long> masked;
+
+        private Trees(IntervalTree all, Map<PostType, IntervalTree> byType, Map<Long, PostInterval> byId,
+                      Map<Long, PostInterval> pending, Set<Long> masked) {
+            this.all = all;
+            this.byType = byType;
+            this.byId = byId;
+            this.pending = pending;
+            this.masked = masked;
+        }
+
+        static Trees of(Collection<PostInterval> intervals) {
+            Map<PostType, List<PostInterval>> grouped = new EnumMap<>(PostType.class);
+            Map<Long, PostInterval> byId = new HashMap<>();
+            for (PostInterval interval : intervals) {
+                grouped.computeIfAbsent(interval.getType(), type -> new ArrayList<>()).add(interval);
+                byId.put(interval.getPostId(), interval);
+            }
+            Map<PostType, IntervalTree> byType = new EnumMap<>(PostType.class);
+            grouped.forEach((type, list) -> byType.put(type, new IntervalTree(list.toArray(new PostInterval[0]))));
+            return new Trees(new IntervalTree(intervals.toArray(new PostInterval[0])), byType, byId,
+                    Map.of(), Set.of());
+        }
+
+        Trees with(PostInterval interval) {
+            Map<Long, PostInterval> nextPending = new HashMap<>(pending);
+            nextPending.put(interval.getPostId(), interval);
+            return new Trees(all, byType, byId, nextPending, mask(interval.getPostId()));
+        }
+
+        Trees without(Long postId) {
+            Map<Long, PostInterval> nextPending = new HashMap<>(pending);
+            nextPending.remove(postId);
+            return new Trees(all, byType, byId, nextPending, mask(postId));
+        }
+
+        private Set<Long> mask(Long postId) {
+            if (!byId.containsKey(postId) || masked.contains(postId)) {
+                return masked;
+            }
+            Set<Long> nextMasked = new HashSet<>(masked);
+            nextMasked.add(postId);
+            return nextMasked;
+        }
+
+        int pendingSize() {
+            return pending.size() + masked.size();
+        }
+
+        int size() {
+            return all.size() - masked.size() + pending.size();
+        }
+
+        void stab(long time, PostType type, LongConsumer consumer) {
+            get(type).stab(time, unmasked(consumer));
+            for (PostInterval interval : pending.values()) {
+                if (matches(interval, type) && interval.getStart() <= time && time < interval.getEnd()) {
+                    consumer.accept(interval.getPostId());
+                }
+            }
+        }
+
+        void overlapping(long from, long to, PostType type, LongConsumer consumer) {
+            if (from >= to) {
+                return;
+            }
+            get(type).overlapping(from, to, unmasked(consumer));
+            for (PostInterval interval : pending.values()) {
+                if (matches(interval, type) && interval.getStart() < to && from < interval.getEnd()) {
+                    consumer.accept(interval.getPostId());
+                }
+            }
+        }
+
+        private IntervalTree get(PostType type) {
+            return type == null ? all : byType.getOrDefault(type, IntervalTree.EMPTY);
+        }
+
+        private LongConsumer unmasked(LongConsumer consumer) {
+            if (masked.isEmpty()) {
+                return consumer;
+            }
+            return id -> {
+                if (!masked.contains(id)) {
+                    consumer.accept(id);
+                }
+            };
+        }
+
+        private static boolean matches(PostInterval interval, PostType type) {
+            return type == null || interval.getType() == type;
+        }
+
+        List<Long> latest(List<Long> ids, int limit) {
+            if (ids.size() <= limit) {
+                return ids;
+            }
+            ids.sort(Comparator.comparing(this::find, PostInterval.ORDER.reversed()));
+            return ids.subList(0, limit);
+        }
+
+        private PostInterval find(Long postId) {
+            PostInterval interval = pending.get(postId);
+            return interval != null ? interval : byId.get(postId);
+        }
+
+    }
+
+}
@@ -0,0 +1,72 @@
+package com.example.finance7.post.period;
+
+import com.example.finance7.post.event.PostChangedEvent;
+import com.example.finance7.post.repository.PostPeriodView;
+import com.example.finance7.post.repository.PostRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * 기동 시 게시 기간을 모두 읽어 색인을 만들고, 이 인스턴스의 게시글 변경은 커밋 직후 반영한다.
+ * 다른 인스턴스의 변경은 주기적으로 전체를 다시 읽어 맞춘다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PostPeriodIndexer {
+
+    private final PostRepository postRepository;
+    private final PostPeriodIndex postPeriodIndex;
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void warmUp() {
+        List<PostInterval> intervals = loadIntervals();
+        postPeriodIndex.rebuild(intervals);
+        log.info("post period index loaded: {} posts", intervals.size());
+    }
+
+    /**
+     * 읽는 동안 이 인스턴스의 변경이 반영되었으면 이번 교체는 건너뛴다. 읽은 스냅샷이 그 변경보다 오래되었을 수 있다.
+     */
+    @Scheduled(fixedDelayString = "${app.post.period-index.refresh-interval:300000}", initialDelay = 300000)
+    @Transactional(readOnly = true)
+    public void refresh() {
+        long modifications = postPeriodIndex.modifications();
+        if (!postPeriodIndex.rebuildIfUnmodified(loadIntervals(), modifications)) {
+            log.debug("post period index refresh skipped: modified while loading");
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPostChanged(PostChangedEvent event) {
+        PostInterval interval = event.isDeleted() ? null : PostInterval.from(event.getPost());
+        if (interval == null) {
+            postPeriodIndex.delete(event.getPost().getId());
+        } else {
+            postPeriodIndex.upsert(interval);
+        }
+    }
+
+    private List<PostInterval> loadIntervals() {
+        try (Stream<PostPeriodView> periods = postRepository.streamPeriods()) {
+            return periods
+                    .map(period -> PostInterval.of(period.getId(), period.getType(),
+                            period.getStartAt(), period.getEndAt()))
+                    .filter(Objects::nonNull)
+                    .collect(Collectors.toList());
+        }
+    }
+
+}
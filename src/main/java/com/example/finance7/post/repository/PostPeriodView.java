@@ -0,0 +1,17 @@
+package com.example.finance7.post.repository;
+
+import com.example.finance7.post.entity.PostType;
+
+import java.time.LocalDateTime;
+
+public interface PostPeriodView {
+
+    Long getId();
+
+    PostType getType();
+
+    LocalDateTime getStartAt();
+
+    LocalDateTime getEndAt();
+
+}
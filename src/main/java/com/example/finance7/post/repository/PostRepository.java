@@ -0,0 +1,39 @@
+package com.example.finance7.post.repository;
+
+import com.example.finance7.post.entity.Post;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+
+import javax.persistence.QueryHint;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Stream;
+
+public interface PostRepository extends JpaRepository<Post, Long> {
+
+    List<Post> findByIdIn(Collection<Long> ids, Pageable pageable);
+
+    /**
+     * 게시 기간이 있는 게시글의 기간만 흘려보낸다. 트랜잭션 안에서 소비하고 반드시 닫아야 한다.
+     */
+    @QueryHints({
+            @QueryHint(name = org.hibernate.jpa.QueryHints.HINT_FETCH_SIZE, value = "1000"),
+            @QueryHint(name = org.hibernate.jpa.QueryHints.HINT_READONLY, value = "true")
+    })
+    @Query("select p.id as id, p.type as type, p.period.startAt as startAt, p.period.endAt as endAt"
+            + " from Post p where p.period.startAt is not null")
+    Stream<PostPeriodView> streamPeriods();
+
+    /**
+     * 메모리 검색 색인을 만들 제목/본문을 흘려보낸다. 트랜잭션 안에서 소비하고 반드시 닫아야 한다.
+     */
+    @QueryHints({
+            @QueryHint(name = org.hibernate.jpa.QueryHints.HINT_FETCH_SIZE, value = "1000"),
+            @QueryHint(name = org.hibernate.jpa.QueryHints.HINT_READONLY, value = "true")
+    })
+    @Query("select p.id as id, p.type as type, p.title as title, p.content as content from Post p")
+    Stream<PostTextView> streamTexts();
+
+}
@@ -0,0 +1,15 @@
+package com.example.finance7.post.repository;
+
+import com.example.finance7.post.entity.PostType;
+
+public interface PostTextView {
+
+    Long getId();
+
+    PostType getType();
+
+    String getTitle();
+
+    String getContent();
+
+}
@@ -0,0 +1,65 @@
+package com.example.finance7.post.search;
+
+import com.example.finance7.post.entity.PostType;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * MariaDB FULLTEXT 색인({@value #INDEX_NAME})으로 찾는다. 검색어의 2-gram 을 모두 필수(+) 로 건 BOOLEAN MODE 검색이며,
+ * 관련도는 InnoDB 가 계산한 MATCH 점수다. 색인은 스키마와 함께 관리하며 다음으로 만든다.
+ * <pre>
+ * ALTER TABLE post ADD FULLTEXT INDEX ftx_post_search_text (search_text);
+ * </pre>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class FullTextPostSearchEngine implements PostSearchEngine {
+
+    static final String INDEX_NAME = "ftx_post_search_text";
+
+    private static final String INDEX_EXISTS_SQL = "select count(*) from information_schema.statistics"
+            + " where table_schema = database() and table_name = 'post' and index_name = '" + INDEX_NAME + "'";
+    private static final String MATCH = "match(search_text) against (? in boolean mode)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * FULLTEXT 색인이 없거나 information_schema 를 읽을 수 없는 DB(H2 등)면 false.
+     */
+    public boolean indexExists() {
+        try {
+            Integer count = jdbcTemplate.queryForObject(INDEX_EXISTS_SQL, Integer.class);
+            return count != null && count > 0;
+        } catch (DataAccessException e) {
+            log.debug("full-text index lookup failed", e);
+            return false;
+        }
+    }
+
+    @Override
+    public List<Long> search(PostSearchQuery query, PostType type, int limit) {
+        String expression = query.getGrams().stream()
+                .map(gram -> "+" + PostNgrams.fullTextTerm(gram))
+                .collect(Collectors.joining(" "));
+        StringBuilder sql = new StringBuilder("select post_id from post where ").append(MATCH);
+        List<Object> args = new ArrayList<>();
+        args.add(expression);
+        if (type != null) {
+            sql.append(" and post_type = ?");
+            args.add(type.name());
+        }
+        sql.append(" order by ").append(MATCH).append(" desc, post_id desc limit ?");
+        args.add(expression);
+        args.add(limit);
+        return jdbcTemplate.queryForList(sql.toString(), Long.class, args.toArray());
+    }
+
+}
@@ -0,0 +1,194 @@
+package com.example.finance7.post.search;
+
+import com.example.finance7.post.entity.PostType;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * FULLTEXT 색인을 쓸 수 없을 때(H2, 색인 생성 전) 쓰는 메모리 2-gram 역색인.
+ * <p>
+ * {@code ProductSearchIndex} 와 같이 문서마다 슬롯 번호를 주고 2-gram 별로 제목/본문 슬롯 {@link BitSet} 을 유지한다.
+ * 후보는 검색어의 2-gram 마다 (제목 ∪ 본문) 을 AND 해서 구하고, 점수는 2-gram 의 희소도(idf)를 더하되
+ * 제목에 있는 2-gram 은 {@value #TITLE_WEIGHT} 배로 친다.
+ */
+@Component
+public class NgramPostSearchIndex implements PostSearchEngine {
+
+    private static final int TITLE_WEIGHT = 3;
+    private static final Comparator<Hit> HIT_ORDER = Comparator.comparingDouble(Hit::getScore)
+            .thenComparingLong(Hit::getPostId);
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private final Map<Long, Integer> slotById = new HashMap<>();
+    private PostSearchDocument[] documents = new PostSearchDocument[256];
+    private final BitSet live = new BitSet();
+
+    private final Map<String, BitSet> titlePostings = new HashMap<>();
+    private final Map<String, BitSet> contentPostings = new HashMap<>();
+    private final Map<PostType, BitSet> typePostings = new EnumMap<>(PostType.class);
+
+    public void rebuild(Collection<PostSearchDocument> snapshot) {
+        lock.writeLock().lock();
+        try {
+            slotById.clear();
+            documents = new PostSearchDocument[Math.max(256, snapshot.size() * 2)];
+            live.clear();
+            titlePostings.clear();
+            contentPostings.clear();
+            typePostings.clear();
+            for (PostSearchDocument document : snapshot) {
+                add(document);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void upsert(PostSearchDocument document) {
+        lock.writeLock().lock();
+        try {
+            remove(document.getId());
+            add(document);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void delete(Long postId) {
+        lock.writeLock().lock();
+        try {
+            remove(postId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return slotById.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public List<Long> search(PostSearchQuery query, PostType type, int limit) {
+        lock.readLock().lock();
+        try {
+            BitSet candidates = (BitSet) live.clone();
+            if (type != null) {
+                candidates.and(postingOrEmpty(typePostings.get(type)));
+            }
+            String[] grams = query.getGrams().toArray(new String[0]);
+            double[] idf = new double[grams.length];
+            int total = Math.max(1, slotById.size());
+            for (int i = 0; i < grams.length && !candidates.isEmpty(); i++) {
+                BitSet containing = (BitSet) postingOrEmpty(titlePostings.get(grams[i])).clone();
+                containing.or(postingOrEmpty(contentPostings.get(grams[i])));
+                idf[i] = Math.log(1 + (double) total / Math.max(1, containing.cardinality()));
+                candidates.and(containing);
+            }
+            return topN(candidates, grams, idf, limit);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private List<Long> topN(BitSet candidates, String[] grams, double[] idf, int limit) {
+        BitSet[] titles = new BitSet[grams.length];
+        for (int i = 0; i < grams.length; i++) {
+            titles[i] = postingOrEmpty(titlePostings.get(grams[i]));
+        }
+        PriorityQueue<Hit> heap = new PriorityQueue<>(limit + 1, HIT_ORDER);
+        for (int slot = candidates.nextSetBit(0); slot >= 0; slot = candidates.nextSetBit(slot + 1)) {
+            double score = 0;
+            for (int i = 0; i < grams.length; i++) {
+                score += titles[i].get(slot) ? idf[i] * TITLE_WEIGHT : idf[i];
+            }
+            heap.offer(new Hit(documents[slot].getId(), score));
+            if (heap.size() > limit) {
+                heap.poll();
+            }
+        }
+        Long[] result = new Long[heap.size()];
+        for (int i = result.length - 1; i >= 0; i--) {
+            result[i] = heap.poll().getPostId();
+        }
+        return Arrays.asList(result);
+    }
+
+    private void add(PostSearchDocument document) {
+        int slot = live.nextClearBit(0);
+        if (slot >= documents.length) {
+            documents = Arrays.copyOf(documents, documents.length * 2);
+        }
+        documents[slot] = document;
+        live.set(slot);
+        slotById.put(document.getId(), slot);
+
+        for (String gram : document.getTitleGrams()) {
+            titlePostings.computeIfAbsent(gram, key -> new BitSet()).set(slot);
+        }
+        for (String gram : document.getContentGrams()) {
+            contentPostings.computeIfAbsent(gram, key -> new BitSet()).set(slot);
+        }
+        typePostings.computeIfAbsent(document.getType(), key -> new BitSet()).set(slot);
+    }
+
+    private void remove(Long postId) {
+        Integer slot = slotById.remove(postId);
+        if (slot == null) {
+            return;
+        }
+        PostSearchDocument document = documents[slot];
+        documents[slot] = null;
+        live.clear(slot);
+
+        for (String gram : document.getTitleGrams()) {
+            clear(titlePostings, gram, slot);
+        }
+        for (String gram : document.getContentGrams()) {
+            clear(contentPostings, gram, slot);
+        }
+        clear(typePostings, document.getType(), slot);
+    }
+
+    private static <K> void clear(Map<K, BitSet> postingMap, K key, int slot) {
+        BitSet posting = postingMap.get(key);
+        if (posting == null) {
+            return;
+        }
+        posting.clear(slot);
+        if (posting.isEmpty()) {
+            postingMap.remove(key);
+        }
+    }
+
+    private static BitSet postingOrEmpty(BitSet posting) {
+        return posting == null ? new BitSet() : posting;
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    private static final class Hit {
+
+        private final long postId;
+        private final double score;
+
+    }
+
+}
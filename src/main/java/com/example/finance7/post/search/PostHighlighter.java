@@ -0,0 +1,83 @@
+package com.example.finance7.post.search;
+
+import org.springframework.web.util.HtmlUtils;
+
+import java.util.List;
+
+/**
+ * 검색어가 나온 부분을 {@code <em>} 으로 감싼다. 나머지 글은 HTML 이스케이프하므로 결과를 그대로 화면에 넣어도 된다.
+ */
+public final class PostHighlighter {
+
+    static final String OPEN = "<em>";
+    static final String CLOSE = "</em>";
+    static final String ELLIPSIS = "…";
+
+    private PostHighlighter() {
+    }
+
+    public static String highlight(String text, List<String> tokens) {
+        if (text == null) {
+            return "";
+        }
+        return render(text, matches(text, tokens), 0, text.length());
+    }
+
+    /**
+     * 첫 일치 위치 앞뒤로 최대 {@code length} 글자를 잘라 강조한다. 일치가 없으면 앞부분을 자른다.
+     */
+    public static String snippet(String text, List<String> tokens, int length) {
+        if (text == null) {
+            return "";
+        }
+        boolean[] matched = matches(text, tokens);
+        int first = 0;
+        while (first < text.length() && !matched[first]) {
+            first++;
+        }
+        if (first == text.length()) {
+            first = 0;
+        }
+        int start = Math.max(0, Math.min(first - length / 4, text.length() - length));
+        int end = Math.min(text.length(), start + length);
+        return (start > 0 ? ELLIPSIS : "") + render(text, matched, start, end) + (end < text.length() ? ELLIPSIS : "");
+    }
+
+    private static boolean[] matches(String text, List<String> tokens) {
+        boolean[] matched = new boolean[text.length()];
+        for (String token : tokens) {
+            if (token.isEmpty()) {
+                continue;
+            }
+            for (int i = 0; i + token.length() <= text.length(); i++) {
+                if (text.regionMatches(true, i, token, 0, token.length())) {
+                    for (int j = i; j < i + token.length(); j++) {
+                        matched[j] = true;
+                    }
+                }
+            }
+        }
+        return matched;
+    }
+
+    private static String render(String text, boolean[] matched, int start, int end) {
+        if (start >= end) {
+            return "";
+        }
+        StringBuilder result = new StringBuilder(end - start + 16);
+        int segmentStart = start;
+        for (int i = start; i <= end; i++) {
+            if (i == end || (i > segmentStart && matched[i] != matched[segmentStart])) {
+                String segment = HtmlUtils.htmlEscape(text.substring(segmentStart, i));
+                if (matched[segmentStart]) {
+                    result.append(OPEN).append(segment).append(CLOSE);
+                } else {
+                    result.append(segment);
+                }
+                segmentStart = i;
+            }
+        }
+        return result.toString();
+    }
+
+}
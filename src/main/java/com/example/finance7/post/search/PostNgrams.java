@@ -0,0 +1,87 @@
+package com.example.finance7.post.search;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * 게시글 검색용 2-gram 분해. 한글은 띄어쓰기 없이 붙여 쓰는 경우가 많아 단어 단위 색인으로는 "자유적금" 에서
+ * "적금" 을 찾지 못하므로, 단어마다 연속한 두 글자씩 잘라 색인하고 검색어도 같은 방식으로 잘라 모두 포함한 글을 찾는다.
+ * <p>
+ * MariaDB 의 FULLTEXT 는 n-gram 파서가 없고 기본 최소 토큰 길이(innodb_ft_min_token_size)가 3 이라,
+ * {@code search_text} 컬럼에는 각 2-gram 앞에 {@value #FULL_TEXT_PREFIX} 를 붙인 세 글자 토큰을 공백으로 이어 저장한다.
+ * 접두 문자는 기본 불용어("an", "to" 등)와 겹치지 않게 하는 역할도 한다.
+ */
+public final class PostNgrams {
+
+    static final int GRAM_LENGTH = 2;
+
+    private static final char FULL_TEXT_PREFIX = 'g';
+    /**
+     * FULLTEXT 관련도는 토큰 빈도를 반영하므로 제목의 2-gram 은 여러 번 넣어 제목 일치가 앞에 오게 한다.
+     */
+    private static final int FULL_TEXT_TITLE_WEIGHT = 3;
+
+    private PostNgrams() {
+    }
+
+    public static String fullTextDocument(String title, String content) {
+        StringBuilder document = new StringBuilder();
+        Set<String> titleGrams = grams(title);
+        for (int i = 0; i < FULL_TEXT_TITLE_WEIGHT; i++) {
+            titleGrams.forEach(gram -> appendTerm(document, gram));
+        }
+        grams(content).forEach(gram -> appendTerm(document, gram));
+        return document.toString();
+    }
+
+    static String fullTextTerm(String gram) {
+        return FULL_TEXT_PREFIX + gram;
+    }
+
+    static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        if (text == null) {
+            return tokens;
+        }
+        int start = -1;
+        for (int i = 0; i < text.length(); i++) {
+            if (Character.isLetterOrDigit(text.charAt(i))) {
+                if (start < 0) {
+                    start = i;
+                }
+            } else if (start >= 0) {
+                tokens.add(text.substring(start, i).toLowerCase(Locale.ROOT));
+                start = -1;
+            }
+        }
+        if (start >= 0) {
+            tokens.add(text.substring(start).toLowerCase(Locale.ROOT));
+        }
+        return tokens;
+    }
+
+    static Set<String> grams(String text) {
+        Set<String> grams = new LinkedHashSet<>();
+        for (String token : tokenize(text)) {
+            addGrams(grams, token);
+        }
+        return grams;
+    }
+
+    static void addGrams(Set<String> grams, String token) {
+        for (int i = 0; i + GRAM_LENGTH <= token.length(); i++) {
+            grams.add(token.substring(i, i + GRAM_LENGTH));
+        }
+    }
+
+    private static void appendTerm(StringBuilder document, String gram) {
+        if (document.length() > 0) {
+            document.append(' ');
+        }
+        document.append(fullTextTerm(gram));
+    }
+
+}
@@ -0,0 +1,31 @@
+package com.example.finance7.post.search;
+
+import com.example.finance7.post.entity.Post;
+import com.example.finance7.post.entity.PostType;
+import lombok.Getter;
+
+import java.util.Set;
+
+/**
+ * 메모리 색인에 올리는 게시글. 본문은 들고 있지 않고 2-gram 만 남겨, 삭제/수정 시 지울 색인어를 알 수 있게 한다.
+ */
+@Getter
+public class PostSearchDocument {
+
+    private final Long id;
+    private final PostType type;
+    private final Set<String> titleGrams;
+    private final Set<String> contentGrams;
+
+    public PostSearchDocument(Long id, PostType type, String title, String content) {
+        this.id = id;
+        this.type = type;
+        this.titleGrams = Set.copyOf(PostNgrams.grams(title));
+        this.contentGrams = Set.copyOf(PostNgrams.grams(content));
+    }
+
+    public static PostSearchDocument from(Post post) {
+        return new PostSearchDocument(post.getId(), post.getType(), post.getTitle(), post.getContent());
+    }
+
+}
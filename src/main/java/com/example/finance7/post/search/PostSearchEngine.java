@@ -0,0 +1,14 @@
+package com.example.finance7.post.search;
+
+import com.example.finance7.post.entity.PostType;
+
+import java.util.List;
+
+/**
+ * 검색어의 2-gram 을 모두 가진 게시글 ID 를 관련도 순으로 최대 {@code limit} 개 돌려준다. 종류가 null 이면 모든 종류.
+ */
+public interface PostSearchEngine {
+
+    List<Long> search(PostSearchQuery query, PostType type, int limit);
+
+}
@@ -0,0 +1,82 @@
+package com.example.finance7.post.search;
+
+import com.example.finance7.post.event.PostChangedEvent;
+import com.example.finance7.post.repository.PostRepository;
+import com.example.finance7.post.repository.PostTextView;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * 기동 시 검색 엔진을 고른다. FULLTEXT 색인이 있으면 DB 로 검색하고, 꺼져 있거나 색인이 없으면
+ * 게시글을 모두 읽어 {@link NgramPostSearchIndex} 를 만들고 이후 변경은 커밋 직후 반영한다.
+ * 메모리 색인은 이 인스턴스의 변경만 반영하므로 여러 인스턴스로 운영할 때는 FULLTEXT 색인을 만들어 두어야 한다.
+ */
+@Slf4j
+@Component
+public class PostSearchIndexer {
+
+    private final PostRepository postRepository;
+    private final FullTextPostSearchEngine fullTextEngine;
+    private final NgramPostSearchIndex ngramIndex;
+    private final boolean fullTextEnabled;
+    private volatile PostSearchEngine engine;
+
+    public PostSearchIndexer(PostRepository postRepository, FullTextPostSearchEngine fullTextEngine,
+                             NgramPostSearchIndex ngramIndex,
+                             @Value("${app.post.search.full-text.enabled:true}") boolean fullTextEnabled) {
+        this.postRepository = postRepository;
+        this.fullTextEngine = fullTextEngine;
+        this.ngramIndex = ngramIndex;
+        this.fullTextEnabled = fullTextEnabled;
+        this.engine = ngramIndex;
+    }
+
+    public PostSearchEngine engine() {
+        return engine;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void warmUp() {
+        if (fullTextEnabled && fullTextEngine.indexExists()) {
+            engine = fullTextEngine;
+            ngramIndex.rebuild(List.of());
+            log.info("post search uses full-text index {}", FullTextPostSearchEngine.INDEX_NAME);
+            return;
+        }
+        if (fullTextEnabled) {
+            log.warn("full-text index {} not found on post.search_text, falling back to in-memory n-gram index",
+                    FullTextPostSearchEngine.INDEX_NAME);
+        }
+        List<PostSearchDocument> documents;
+        try (Stream<PostTextView> texts = postRepository.streamTexts()) {
+            documents = texts
+                    .map(text -> new PostSearchDocument(text.getId(), text.getType(), text.getTitle(), text.getContent()))
+                    .collect(Collectors.toList());
+        }
+        ngramIndex.rebuild(documents);
+        log.info("post search index loaded: {} documents", documents.size());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPostChanged(PostChangedEvent event) {
+        if (engine != ngramIndex) {
+            return;
+        }
+        if (event.isDeleted()) {
+            ngramIndex.delete(event.getPost().getId());
+        } else {
+            ngramIndex.upsert(PostSearchDocument.from(event.getPost()));
+        }
+    }
+
+}
@@ -0,0 +1,58 @@
+package com.example.finance7.post.search;
+
+import com.example.finance7.global.error.BusinessException;
+import com.example.finance7.global.error.ErrorCode;
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * 검색어를 단어와 2-gram 으로 나눈 것. 색인은 2-gram 을 모두 가진 글을 후보로 내고,
+ * 2-gram 이 떨어져 있어도 후보가 될 수 있으므로 최종 결과는 {@link #matches} 로 단어가 실제로 들어 있는지 다시 확인한다.
+ */
+@Getter
+public class PostSearchQuery {
+
+    private final List<String> tokens;
+    private final Set<String> grams;
+
+    private PostSearchQuery(List<String> tokens, Set<String> grams) {
+        this.tokens = tokens;
+        this.grams = grams;
+    }
+
+    /**
+     * 한 글자 단어는 2-gram 이 없어 후보를 좁히지 못하므로, 두 글자 이상인 단어가 하나도 없으면 거부한다.
+     */
+    public static PostSearchQuery parse(String keyword) {
+        List<String> tokens = new ArrayList<>(new LinkedHashSet<>(PostNgrams.tokenize(keyword)));
+        Set<String> grams = new LinkedHashSet<>();
+        for (String token : tokens) {
+            PostNgrams.addGrams(grams, token);
+        }
+        if (grams.isEmpty()) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT, "검색어는 두 글자 이상 입력해 주세요.");
+        }
+        return new PostSearchQuery(List.copyOf(tokens), Set.copyOf(grams));
+    }
+
+    public boolean matches(String title, String content) {
+        String normalizedTitle = normalize(title);
+        String normalizedContent = normalize(content);
+        for (String token : tokens) {
+            if (!normalizedTitle.contains(token) && !normalizedContent.contains(token)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static String normalize(String text) {
+        return text == null ? "" : text.toLowerCase(Locale.ROOT);
+    }
+
+}
@@ -0,0 +1,154 @@
+package com.example.finance7.post.service;
+
+import com.example.finance7.global.error.BusinessException;
+import com.example.finance7.global.error.ErrorCode;
+import com.example.finance7.post.dto.PostRequest;
+import com.example.finance7.post.dto.PostResponse;
+import com.example.finance7.post.dto.PostSearchResponse;
+import com.example.finance7.post.dto.PostSummaryResponse;
+import com.example.finance7.post.entity.Post;
+import com.example.finance7.post.entity.PostType;
+import com.example.finance7.post.period.PostPeriodIndex;
+import com.example.finance7.post.repository.PostRepository;
+import com.example.finance7.post.search.PostSearchIndexer;
+import com.example.finance7.post.search.PostSearchQuery;
+import com.example.finance7.post.view.PostViewCounter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.StringUtils;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class PostService {
+
+    private static final Sort LATEST_START = Sort.by(Sort.Order.desc("period.startAt"), Sort.Order.desc("id"));
+    private static final int MAX_SIZE = 50;
+    /**
+     * 2-gram 이 떨어져 있어 걸러지는 후보를 감안해 요청 크기보다 넉넉히 받는다.
+     */
+    private static final int SEARCH_CANDIDATE_FACTOR = 2;
+
+    private final PostRepository postRepository;
+    private final PostViewCounter postViewCounter;
+    private final PostPeriodIndex postPeriodIndex;
+    private final PostSearchIndexer postSearchIndexer;
+
+    /**
+     * 조회수는 바로 쓰지 않고 {@link PostViewCounter} 에 모은다. 응답에는 아직 반영되지 않은 조회수까지 더해 보여 준다.
+     */
+    public PostResponse getPost(Long postId) {
+        Post post = findPost(postId);
+        postViewCounter.increment(postId);
+        return PostResponse.of(post, postViewCounter.pending(postId));
+    }
+
+    /**
+     * 게시 기간이 [from, to) 와 겹치는 게시글. 기간을 주지 않으면 지금 게시 중인 게시글이다.
+     * 대상은 구간 색인에서 ID 로 찾고, 색인이 게시 시작이 늦은 순으로 {@code size} 개까지 추린 ID 만 DB 에서 읽는다.
+     */
+    public List<PostSummaryResponse> getActivePosts(PostType type, LocalDateTime from, LocalDateTime to, int size) {
+        int limit = limit(size);
+        List<Long> ids;
+        if (from == null && to == null) {
+            ids = postPeriodIndex.activeAt(LocalDateTime.now(), type, limit);
+        } else if (from != null && to != null && from.isBefore(to)) {
+            ids = postPeriodIndex.overlapping(from, to, type, limit);
+        } else {
+            throw new BusinessException(ErrorCode.INVALID_INPUT, "조회 기간은 시작과 끝을 함께, 시작이 끝보다 앞서게 주어야 합니다.");
+        }
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        return postRepository.findByIdIn(ids, PageRequest.of(0, limit, LATEST_START)).stream()
+                .map(post -> PostSummaryResponse.of(post, postViewCounter.pending(post.getId())))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * 제목/본문 검색. 검색 엔진(FULLTEXT 또는 메모리 2-gram 색인)이 관련도 순으로 후보 ID 를 주면,
+     * 그 게시글만 읽어 검색어가 실제로 들어 있는지 확인하고 일치 부분을 강조한다. LIKE '%키워드%' 전체 스캔은 하지 않는다.
+     */
+    public List<PostSearchResponse> search(String keyword, PostType type, int size) {
+        PostSearchQuery query = PostSearchQuery.parse(keyword);
+        int limit = limit(size);
+        List<Long> ids = postSearchIndexer.engine().search(query, type, limit * SEARCH_CANDIDATE_FACTOR);
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, Post> posts = postRepository.findAllById(ids).stream()
+                .collect(Collectors.toMap(Post::getId, Function.identity()));
+        List<PostSearchResponse> result = new ArrayList<>(limit);
+        for (Long id : ids) {
+            Post post = posts.get(id);
+            if (post != null && query.matches(post.getTitle(), post.getContent())) {
+                result.add(PostSearchResponse.of(post, query, postViewCounter.pending(id)));
+                if (result.size() == limit) {
+                    break;
+                }
+            }
+        }
+        return result;
+    }
+
+    @Transactional
+    public PostResponse create(Long writerId, PostRequest request) {
+        validate(request);
+        Post post = postRepository.save(Post.builder()
+                .type(request.getType())
+                .title(request.getTitle())
+                .content(request.getContent())
+                .writerId(writerId)
+                .period(request.toPeriod())
+                .build());
+        return PostResponse.of(post, 0);
+    }
+
+    @Transactional
+    public PostResponse update(Long writerId, Long postId, PostRequest request) {
+        validate(request);
+        Post post = findOwnPost(writerId, postId);
+        post.update(request.getTitle(), request.getContent(), request.toPeriod());
+        return PostResponse.of(post, postViewCounter.pending(postId));
+    }
+
+    @Transactional
+    public void delete(Long writerId, Long postId) {
+        postRepository.delete(findOwnPost(writerId, postId));
+    }
+
+    private static int limit(int size) {
+        return Math.max(1, Math.min(size, MAX_SIZE));
+    }
+
+    private Post findPost(Long postId) {
+        return postRepository.findById(postId)
+                .orElseThrow(() -> new BusinessException(ErrorCode.POST_NOT_FOUND));
+    }
+
+    private Post findOwnPost(Long writerId, Long postId) {
+        Post post = findPost(postId);
+        if (!writerId.equals(post.getWriterId())) {
+            throw new BusinessException(ErrorCode.NOT_POST_WRITER);
+        }
+        return post;
+    }
+
+    private void validate(PostRequest request) {
+        if (request.getType() == null || !StringUtils.hasText(request.getTitle())
+                || !StringUtils.hasText(request.getContent())) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT, "게시글 종류, 제목, 내용은 필수입니다.");
+        }
+    }
+
+}
@@ -0,0 +1,182 @@
+package com.example.finance7.post.view;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.annotation.PreDestroy;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 게시글 조회수를 메모리의 {@link LongAdder} 에 모았다가 주기적으로 한 번의 배치 UPDATE 로 더한다.
+ * <p>
+ * 조회 요청은 행 잠금 없이 셀이 나뉜 카운터만 올리므로 인기 게시글에 요청이 몰려도 서로 기다리지 않는다.
+ * 반영은 게시글 ID 순으로 해 여러 인스턴스가 동시에 반영해도 교착 상태가 생기지 않고, 실패하면 꺼낸 값을
+ * 되돌려 다음 주기에 다시 반영한다. 비정상 종료 시에는 마지막 반영 이후 한 주기 분량까지 잃을 수 있다.
+ * <p>
+ * 카운터는 {@code idle-timeout} 동안 조회가 없던 게시글만 맵에서 뺀다. 뺀 카운터를 이미 잡고 있던 요청의 증가분은
+ * 다음 반영 때 한 번 더 꺼내므로, 요청 스레드가 한 주기 넘게 멈추지 않는 한 잃지 않는다.
+ */
+@Slf4j
+@Component
+public class PostViewCounter {
+
+    private static final String INCREMENT_SQL = "update post set view_count = view_count + ? where post_id = ?";
+
+    private final ConcurrentMap<Long, ViewCell> pending = new ConcurrentHashMap<>();
+    private final ReentrantLock flushLock = new ReentrantLock();
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final long idleTimeoutMillis;
+    private final Clock clock;
+    private List<ViewCell> retired = new ArrayList<>();
+    private final Counter flushed;
+    private final Counter failed;
+
+    public PostViewCounter(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager,
+                           MeterRegistry meterRegistry, Clock clock,
+                           @Value("${app.post.view-count.batch-size:500}") int batchSize,
+                           @Value("${app.post.view-count.idle-timeout:60s}") Duration idleTimeout) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+        this.idleTimeoutMillis = idleTimeout.toMillis();
+        this.clock = clock;
+        Gauge.builder("post.views.pending", this, PostViewCounter::pendingViews)
+                .description("Post views counted in memory but not yet written")
+                .register(meterRegistry);
+        this.flushed = Counter.builder("post.views.flushed")
+                .description("Post views written to the database")
+                .register(meterRegistry);
+        this.failed = Counter.builder("post.views.flush.failed")
+                .description("Post view flushes rolled back and retried on the next run")
+                .register(meterRegistry);
+    }
+
+    public void increment(Long postId) {
+        ViewCell cell = pending.get(postId);
+        if (cell == null) {
+            cell = pending.computeIfAbsent(postId, ViewCell::new);
+        }
+        cell.views.increment();
+    }
+
+    /**
+     * 아직 DB 에 반영되지 않은 조회수. 응답에 DB 값과 더해 보여 준다.
+     */
+    public long pending(Long postId) {
+        ViewCell cell = pending.get(postId);
+        return cell == null ? 0 : cell.views.sum();
+    }
+
+    public long pendingViews() {
+        long sum = 0;
+        for (ViewCell cell : pending.values()) {
+            sum += cell.views.sum();
+        }
+        return sum;
+    }
+
+    @PreDestroy
+    @Scheduled(fixedDelayString = "${app.post.view-count.flush-interval:1000}")
+    public void flush() {
+        flushLock.lock();
+        try {
+            write(drain());
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    private void write(List<long[]> increments) {
+        if (increments.isEmpty()) {
+            return;
+        }
+        increments.sort((a, b) -> Long.compare(a[0], b[0]));
+        try {
+            transactionTemplate.executeWithoutResult(status -> jdbcTemplate.batchUpdate(INCREMENT_SQL, increments,
+                    batchSize, (ps, increment) -> {
+                        ps.setLong(1, increment[1]);
+                        ps.setLong(2, increment[0]);
+                    }));
+        } catch (RuntimeException e) {
+            failed.increment();
+            increments.forEach(increment -> add(increment[0], increment[1]));
+            log.warn("post view flush failed, {} posts will be retried", increments.size(), e);
+            return;
+        }
+        flushed.increment(increments.stream().mapToLong(increment -> increment[1]).sum());
+    }
+
+    /**
+     * 쌓인 값을 게시글별로 꺼낸다. 오래 조회가 없던 카운터는 맵에서 빼고, 직전 반영에서 뺀 카운터도 한 번 더 꺼낸다.
+     */
+    private List<long[]> drain() {
+        long now = clock.millis();
+        Map<Long, Long> views = new HashMap<>();
+        for (ViewCell cell : retired) {
+            collect(views, cell.postId, cell.views.sumThenReset());
+        }
+        List<ViewCell> nextRetired = new ArrayList<>();
+        for (ViewCell cell : pending.values()) {
+            long drained = cell.views.sumThenReset();
+            if (drained > 0) {
+                cell.idleSince = 0;
+                collect(views, cell.postId, drained);
+            } else if (cell.idleSince == 0) {
+                cell.idleSince = now;
+            } else if (now - cell.idleSince >= idleTimeoutMillis && pending.remove(cell.postId, cell)) {
+                collect(views, cell.postId, cell.views.sumThenReset());
+                nextRetired.add(cell);
+            }
+        }
+        retired = nextRetired;
+        List<long[]> increments = new ArrayList<>(views.size());
+        views.forEach((postId, count) -> increments.add(new long[]{postId, count}));
+        return increments;
+    }
+
+    private static void collect(Map<Long, Long> views, Long postId, long count) {
+        if (count > 0) {
+            views.merge(postId, count, Long::sum);
+        }
+    }
+
+    private void add(Long postId, long views) {
+        pending.computeIfAbsent(postId, ViewCell::new).views.add(views);
+    }
+
+    private static class ViewCell {
+
+        private final Long postId;
+        private final LongAdder views = new LongAdder();
+
+        /**
+         * 반영 스레드만 읽고 쓴다.
+         */
+        private long idleSince;
+
+        ViewCell(Long postId) {
+            this.postId = postId;
+        }
+
+    }
+
+}
@@ -0,0 +1,110 @@
+package com.example.finance7.product.autocomplete;
+
+/**
+ * 한글 음절을 호환 자모로 풀어 쓴다. 입력 중인 글자("카카옵" 은 "카카오ㅂ" 을 치는 중)도 자모로 풀면 완성된 이름의 접두사가 되므로,
+ * 자동완성 키는 음절 대신 자모 열로 만든다. 겹모음/겹받침은 두 자모로 나누어 "고" 가 "과" 의 접두사가 되게 한다.
+ * <p>
+ * 한글이 아닌 글자는 소문자로만 바꾸고, 공백은 버린다.
+ */
+final class HangulJamo {
+
+    private static final char SYLLABLE_BASE = '가';
+    private static final char SYLLABLE_LAST = '힣';
+    private static final int JUNG_COUNT = 21;
+    private static final int JONG_COUNT = 28;
+
+    private static final String[] CHO = "ㄱ,ㄲ,ㄴ,ㄷ,ㄸ,ㄹ,ㅁ,ㅂ,ㅃ,ㅅ,ㅆ,ㅇ,ㅈ,ㅉ,ㅊ,ㅋ,ㅌ,ㅍ,ㅎ".split(",");
+    private static final String[] JUNG = "ㅏ,ㅐ,ㅑ,ㅒ,ㅓ,ㅔ,ㅕ,ㅖ,ㅗ,ㅗㅏ,ㅗㅐ,ㅗㅣ,ㅛ,ㅜ,ㅜㅓ,ㅜㅔ,ㅜㅣ,ㅠ,ㅡ,ㅡㅣ,ㅣ".split(",");
+    private static final String[] JONG = ",ㄱ,ㄲ,ㄱㅅ,ㄴ,ㄴㅈ,ㄴㅎ,ㄷ,ㄹ,ㄹㄱ,ㄹㅁ,ㄹㅂ,ㄹㅅ,ㄹㅌ,ㄹㅍ,ㄹㅎ,ㅁ,ㅂ,ㅂㅅ,ㅅ,ㅆ,ㅇ,ㅈ,ㅊ,ㅋ,ㅌ,ㅍ,ㅎ".split(",");
+
+    /**
+     * 호환 자모(ㄱ U+3131 ~ ㅣ U+3163) 중 겹자모를 풀어 쓴 형태. 단일 자모는 null.
+     */
+    private static final String[] COMPAT_COMPOUNDS = new String['ㅣ' - 'ㄱ' + 1];
+
+    static {
+        String[] compounds = ("ㄳ=ㄱㅅ,ㄵ=ㄴㅈ,ㄶ=ㄴㅎ,ㄺ=ㄹㄱ,ㄻ=ㄹㅁ,ㄼ=ㄹㅂ,ㄽ=ㄹㅅ,ㄾ=ㄹㅌ,ㄿ=ㄹㅍ,ㅀ=ㄹㅎ,ㅄ=ㅂㅅ,"
+                + "ㅘ=ㅗㅏ,ㅙ=ㅗㅐ,ㅚ=ㅗㅣ,ㅝ=ㅜㅓ,ㅞ=ㅜㅔ,ㅟ=ㅜㅣ,ㅢ=ㅡㅣ").split(",");
+        for (String compound : compounds) {
+            COMPAT_COMPOUNDS[compound.charAt(0) - 'ㄱ'] = compound.substring(2);
+        }
+    }
+
+    private HangulJamo() {
+    }
+
+    /**
+     * 음절은 초성/중성/종성 자모로, 겹자모는 단일 자모로 풀어 쓴다.
+     */
+    static String decompose(CharSequence text) {
+        StringBuilder result = new StringBuilder(text.length() * 3);
+        for (int i = 0; i < text.length(); i++) {
+            char ch = text.charAt(i);
+            if (isSyllable(ch)) {
+                int index = ch - SYLLABLE_BASE;
+                result.append(CHO[index / (JUNG_COUNT * JONG_COUNT)])
+                        .append(JUNG[index % (JUNG_COUNT * JONG_COUNT) / JONG_COUNT])
+                        .append(JONG[index % JONG_COUNT]);
+            } else {
+                appendOther(result, ch);
+            }
+        }
+        return result.toString();
+    }
+
+    /**
+     * 음절은 초성만 남긴다. "카카오뱅크" → "ㅋㅋㅇㅂㅋ".
+     */
+    static String chosung(CharSequence text) {
+        StringBuilder result = new StringBuilder(text.length());
+        for (int i = 0; i < text.length(); i++) {
+            char ch = text.charAt(i);
+            if (isSyllable(ch)) {
+                result.append(CHO[(ch - SYLLABLE_BASE) / (JUNG_COUNT * JONG_COUNT)]);
+            } else {
+                appendOther(result, ch);
+            }
+        }
+        return result.toString();
+    }
+
+    /**
+     * 음절이나 모음 없이 자음 자모만 있는 입력("ㅋㅋㅂㅋ", "wonㅈㄱ")을 초성 검색으로 본다.
+     */
+    static boolean isChosungQuery(CharSequence text) {
+        boolean hasConsonant = false;
+        for (int i = 0; i < text.length(); i++) {
+            char ch = text.charAt(i);
+            if (isSyllable(ch) || isCompatVowel(ch)) {
+                return false;
+            }
+            hasConsonant |= isCompatConsonant(ch);
+        }
+        return hasConsonant;
+    }
+
+    private static void appendOther(StringBuilder result, char ch) {
+        if (Character.isWhitespace(ch)) {
+            return;
+        }
+        if (isCompatConsonant(ch) || isCompatVowel(ch)) {
+            String compound = COMPAT_COMPOUNDS[ch - 'ㄱ'];
+            result.append(compound == null ? String.valueOf(ch) : compound);
+            return;
+        }
+        result.append(Character.toLowerCase(ch));
+    }
+
+    private static boolean isSyllable(char ch) {
+        return ch >= SYLLABLE_BASE && ch <= SYLLABLE_LAST;
+    }
+
+    private static boolean isCompatConsonant(char ch) {
+        return ch >= 'ㄱ' && ch <= 'ㅎ';
+    }
+
+    private static boolean isCompatVowel(char ch) {
+        return ch >= 'ㅏ' && ch <= 'ㅣ';
+    }
+
+}
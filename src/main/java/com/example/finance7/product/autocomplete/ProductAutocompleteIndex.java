@@ -0,0 +1,191 @@
+package com.example.finance7.product.autocomplete;
+
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 상품명/은행명 자동완성 색인. 이름의 각 단어부터 끝까지(공백 제거)와 은행명을 키로, 자모 트라이와 초성 트라이에 함께 넣는다.
+ * <p>
+ * 음절이 섞인 입력("카카오뱅", "카카옵")은 자모로 풀어 자모 트라이에서, 자음만 있는 입력("ㅋㅋㅂㅋ")은 초성 트라이에서 찾는다.
+ * 음절 단위 접두사는 자모 접두사이기도 하므로 음절 트라이를 따로 두지 않는다.
+ * 상품 변경은 그 상품의 키만 빼고 다시 넣어 전체를 다시 만들지 않는다.
+ */
+@Component
+public class ProductAutocompleteIndex {
+
+    public static final int MAX_SUGGESTIONS = 10;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final SuggestionTrie jamoTrie = new SuggestionTrie(MAX_SUGGESTIONS);
+    private final SuggestionTrie chosungTrie = new SuggestionTrie(MAX_SUGGESTIONS);
+    private final Map<Long, ProductSuggestion> suggestions = new HashMap<>();
+
+    public void rebuild(Collection<ProductSuggestion> snapshot) {
+        lock.writeLock().lock();
+        try {
+            jamoTrie.clear();
+            chosungTrie.clear();
+            suggestions.clear();
+            for (ProductSuggestion suggestion : snapshot) {
+                add(suggestion);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 인기도는 주기 집계({@link #updatePopularity})로만 바뀌므로, 이미 있는 상품이면 받은 값 대신 기존 인기도를 유지한다.
+     */
+    public void upsert(ProductSuggestion suggestion) {
+        lock.writeLock().lock();
+        try {
+            ProductSuggestion previous = suggestions.get(suggestion.getId());
+            if (previous != null) {
+                remove(previous);
+                suggestion = suggestion.withPopularity(previous.getPopularity());
+            }
+            add(suggestion);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void delete(Long productId) {
+        lock.writeLock().lock();
+        try {
+            ProductSuggestion previous = suggestions.get(productId);
+            if (previous != null) {
+                remove(previous);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 인기도가 바뀐 상품만 다시 넣는다. 맵에 없는 상품의 인기도는 0 이다.
+     *
+     * @return 인기도가 바뀐 상품 수
+     */
+    public int updatePopularity(Map<Long, Long> popularity) {
+        lock.writeLock().lock();
+        try {
+            int changed = 0;
+            for (ProductSuggestion previous : List.copyOf(suggestions.values())) {
+                long updated = popularity.getOrDefault(previous.getId(), 0L);
+                if (updated != previous.getPopularity()) {
+                    remove(previous);
+                    add(previous.withPopularity(updated));
+                    changed++;
+                }
+            }
+            return changed;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public List<ProductSuggestion> suggest(String query, int limit) {
+        if (query == null || query.isBlank() || limit <= 0) {
+            return List.of();
+        }
+        boolean chosung = HangulJamo.isChosungQuery(query);
+        String key = chosung ? HangulJamo.chosung(query) : HangulJamo.decompose(query);
+        if (key.isEmpty()) {
+            return List.of();
+        }
+        lock.readLock().lock();
+        try {
+            ProductSuggestion[] found = (chosung ? chosungTrie : jamoTrie).find(key);
+            return List.of(found.length <= limit ? found : Arrays.copyOf(found, limit));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return suggestions.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int nodeCount() {
+        lock.readLock().lock();
+        try {
+            return jamoTrie.nodeCount() + chosungTrie.nodeCount();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void add(ProductSuggestion suggestion) {
+        suggestions.put(suggestion.getId(), suggestion);
+        Set<String> keys = keys(suggestion);
+        for (String key : jamoKeys(keys)) {
+            jamoTrie.insert(key, suggestion);
+        }
+        for (String key : chosungKeys(keys)) {
+            chosungTrie.insert(key, suggestion);
+        }
+    }
+
+    private void remove(ProductSuggestion suggestion) {
+        suggestions.remove(suggestion.getId());
+        Set<String> keys = keys(suggestion);
+        for (String key : jamoKeys(keys)) {
+            jamoTrie.remove(key, suggestion);
+        }
+        for (String key : chosungKeys(keys)) {
+            chosungTrie.remove(key, suggestion);
+        }
+    }
+
+    /**
+     * "카카오뱅크 자유 적금" → "카카오뱅크자유적금", "자유적금", "적금" 과 은행명. 이름 중간 단어부터 입력해도 찾을 수 있다.
+     */
+    static Set<String> keys(ProductSuggestion suggestion) {
+        Set<String> keys = new LinkedHashSet<>();
+        String name = suggestion.getName() == null ? "" : suggestion.getName().trim();
+        if (!name.isEmpty()) {
+            String[] words = name.split("\\s+");
+            for (int i = 0; i < words.length; i++) {
+                keys.add(String.join("", Arrays.copyOfRange(words, i, words.length)));
+            }
+        }
+        if (suggestion.getBankName() != null && !suggestion.getBankName().isBlank()) {
+            keys.add(suggestion.getBankName());
+        }
+        return keys;
+    }
+
+    private static Set<String> jamoKeys(Set<String> keys) {
+        Set<String> jamoKeys = new LinkedHashSet<>();
+        for (String key : keys) {
+            jamoKeys.add(HangulJamo.decompose(key));
+        }
+        jamoKeys.remove("");
+        return jamoKeys;
+    }
+
+    private static Set<String> chosungKeys(Set<String> keys) {
+        Set<String> chosungKeys = new LinkedHashSet<>();
+        for (String key : keys) {
+            chosungKeys.add(HangulJamo.chosung(key));
+        }
+        chosungKeys.remove("");
+        return chosungKeys;
+    }
+
+}
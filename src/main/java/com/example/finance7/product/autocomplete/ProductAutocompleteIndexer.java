@@ -0,0 +1,86 @@
+package com.example.finance7.product.autocomplete;
+
+import com.example.finance7.cart.repository.CartItemRepository;
+import com.example.finance7.cart.repository.ProductCartCount;
+import com.example.finance7.product.event.ProductCatalogReloadedEvent;
+import com.example.finance7.product.event.ProductChangedEvent;
+import com.example.finance7.product.event.ProductsImportedEvent;
+import com.example.finance7.product.repository.ProductRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * 기동 시 자동완성 색인을 만들고, 상품 변경은 커밋 직후 그 상품만 반영한다.
+ * 인기도는 상품을 담은 장바구니 수이며 주기적으로 다시 집계해 바뀐 상품만 고친다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ProductAutocompleteIndexer {
+
+    private final ProductRepository productRepository;
+    private final CartItemRepository cartItemRepository;
+    private final ProductAutocompleteIndex productAutocompleteIndex;
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void warmUp() {
+        Map<Long, Long> popularity = loadPopularity();
+        List<ProductSuggestion> suggestions = productRepository.findAll().stream()
+                .map(product -> ProductSuggestion.from(product, popularity.getOrDefault(product.getId(), 0L)))
+                .collect(Collectors.toList());
+        productAutocompleteIndex.rebuild(suggestions);
+        log.info("product autocomplete index loaded: {} products, {} nodes",
+                suggestions.size(), productAutocompleteIndex.nodeCount());
+    }
+
+    @Scheduled(fixedDelayString = "${app.product.autocomplete.popularity-refresh-interval:600000}",
+            initialDelay = 600000)
+    @Transactional(readOnly = true)
+    public void refreshPopularity() {
+        int changed = productAutocompleteIndex.updatePopularity(loadPopularity());
+        log.debug("product autocomplete popularity refreshed: {} products changed", changed);
+    }
+
+    @Order(ProductChangedEvent.REFRESH_ORDER)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProductChanged(ProductChangedEvent event) {
+        if (event.isDeleted()) {
+            productAutocompleteIndex.delete(event.getProduct().getId());
+        } else {
+            productAutocompleteIndex.upsert(ProductSuggestion.from(event.getProduct(), 0L));
+        }
+    }
+
+    @Order(ProductChangedEvent.REFRESH_ORDER)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProductsImported(ProductsImportedEvent event) {
+        event.getProducts().forEach(product -> productAutocompleteIndex.upsert(ProductSuggestion.from(product, 0L)));
+    }
+
+    @Order(ProductChangedEvent.REFRESH_ORDER)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCatalogReloaded(ProductCatalogReloadedEvent event) {
+        Map<Long, Long> popularity = loadPopularity();
+        productAutocompleteIndex.rebuild(event.getProducts().stream()
+                .map(product -> ProductSuggestion.from(product, popularity.getOrDefault(product.getId(), 0L)))
+                .collect(Collectors.toList()));
+    }
+
+    private Map<Long, Long> loadPopularity() {
+        return cartItemRepository.countByProduct().stream()
+                .collect(Collectors.toMap(ProductCartCount::getProductId, ProductCartCount::getCount));
+    }
+
+}
@@ -0,0 +1,42 @@
+package com.example.finance7.product.autocomplete;
+
+import com.example.finance7.product.entity.Product;
+import com.example.finance7.product.entity.ProductType;
+import lombok.Getter;
+
+import java.util.Comparator;
+
+/**
+ * 자동완성 후보. 응답도 이 객체로 바로 만들어 DB 를 다시 읽지 않는다. 인기도가 바뀌면 새 객체로 갈아 끼운다.
+ */
+@Getter
+public class ProductSuggestion {
+
+    static final Comparator<ProductSuggestion> ORDER = Comparator.comparingLong(ProductSuggestion::getPopularity)
+            .reversed()
+            .thenComparing(ProductSuggestion::getId);
+
+    private final Long id;
+    private final String name;
+    private final String bankName;
+    private final ProductType type;
+    private final long popularity;
+
+    public ProductSuggestion(Long id, String name, String bankName, ProductType type, long popularity) {
+        this.id = id;
+        this.name = name;
+        this.bankName = bankName;
+        this.type = type;
+        this.popularity = popularity;
+    }
+
+    public static ProductSuggestion from(Product product, long popularity) {
+        return new ProductSuggestion(product.getId(), product.getName(), product.getBankName(), product.getType(),
+                popularity);
+    }
+
+    ProductSuggestion withPopularity(long popularity) {
+        return new ProductSuggestion(id, name, bankName, type, popularity);
+    }
+
+}
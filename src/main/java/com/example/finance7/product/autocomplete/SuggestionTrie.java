@@ -0,0 +1,239 @@
+package com.example.finance7.product.autocomplete;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 노드마다 그 아래 모든 후보 중 인기 상위 {@code topSize} 개를 들고 있는 트라이. 조회는 접두사를 따라 내려가 그 노드의 목록을
+ * 그대로 돌려주므로 후보 수와 무관하게 접두사 길이만큼의 비용이다.
+ * <p>
+ * 자식은 정렬된 {@code char[]} 와 배열로 두어 노드마다 맵을 만들지 않는다. 키는 앞 {@value #MAX_DEPTH} 글자까지만 노드로 만들고
+ * 나머지는 그 노드의 항목에 전체 키로 남겨, 그보다 긴 입력은 해당 노드의 항목만 걸러 답한다.
+ * <p>
+ * 추가는 경로의 상위 목록에 끼워 넣기만 하면 되고, 삭제는 지운 후보가 상위 목록에 있던 노드만 아래에서부터 자식 목록을 합쳐 다시 만든다.
+ * 어떤 노드의 상위 목록에 없는 후보는 조상의 상위 목록에도 그 노드를 거쳐 들어갈 수 없으므로 거기서 멈춘다.
+ * 동기화하지 않으므로 호출하는 쪽에서 잠가야 한다.
+ */
+final class SuggestionTrie {
+
+    static final int MAX_DEPTH = 16;
+
+    private static final char[] NO_LABELS = new char[0];
+    private static final Node[] NO_CHILDREN = new Node[0];
+    private static final Entry[] NO_ENTRIES = new Entry[0];
+    private static final ProductSuggestion[] NO_SUGGESTIONS = new ProductSuggestion[0];
+
+    private final int topSize;
+    private Node root = new Node();
+    private int nodeCount = 1;
+
+    SuggestionTrie(int topSize) {
+        this.topSize = topSize;
+    }
+
+    void clear() {
+        root = new Node();
+        nodeCount = 1;
+    }
+
+    int nodeCount() {
+        return nodeCount;
+    }
+
+    void insert(String key, ProductSuggestion suggestion) {
+        int depth = Math.min(key.length(), MAX_DEPTH);
+        Node node = root;
+        node.top = withSuggestion(node.top, suggestion);
+        for (int i = 0; i < depth; i++) {
+            Node child = node.child(key.charAt(i));
+            if (child == null) {
+                child = node.addChild(key.charAt(i));
+                nodeCount++;
+            }
+            node = child;
+            node.top = withSuggestion(node.top, suggestion);
+        }
+        node.entries = Arrays.copyOf(node.entries, node.entries.length + 1);
+        node.entries[node.entries.length - 1] = new Entry(key, suggestion);
+    }
+
+    void remove(String key, ProductSuggestion suggestion) {
+        int depth = Math.min(key.length(), MAX_DEPTH);
+        Node[] path = new Node[depth + 1];
+        path[0] = root;
+        for (int i = 0; i < depth; i++) {
+            path[i + 1] = path[i].child(key.charAt(i));
+            if (path[i + 1] == null) {
+                return;
+            }
+        }
+        if (!path[depth].removeEntry(key, suggestion)) {
+            return;
+        }
+        for (int i = depth; i >= 0; i--) {
+            Node node = path[i];
+            if (i > 0 && node.isEmpty()) {
+                path[i - 1].removeChild(key.charAt(i - 1));
+                nodeCount--;
+            } else if (contains(node.top, suggestion)) {
+                node.top = recompute(node);
+            } else {
+                break;
+            }
+        }
+    }
+
+    /**
+     * 인기순 상위 후보. 돌려준 배열은 트라이가 계속 쓰므로 호출하는 쪽이 고치면 안 된다.
+     */
+    ProductSuggestion[] find(String prefix) {
+        int depth = Math.min(prefix.length(), MAX_DEPTH);
+        Node node = root;
+        for (int i = 0; i < depth && node != null; i++) {
+            node = node.child(prefix.charAt(i));
+        }
+        if (node == null) {
+            return NO_SUGGESTIONS;
+        }
+        if (prefix.length() <= MAX_DEPTH) {
+            return node.top;
+        }
+        List<ProductSuggestion> matched = new ArrayList<>();
+        for (Entry entry : node.entries) {
+            if (entry.key.startsWith(prefix)) {
+                matched.add(entry.suggestion);
+            }
+        }
+        return best(matched);
+    }
+
+    private ProductSuggestion[] withSuggestion(ProductSuggestion[] top, ProductSuggestion suggestion) {
+        int position = 0;
+        for (ProductSuggestion current : top) {
+            if (current.getId().equals(suggestion.getId())) {
+                return top;
+            }
+            if (ProductSuggestion.ORDER.compare(current, suggestion) < 0) {
+                position++;
+            }
+        }
+        if (position >= topSize) {
+            return top;
+        }
+        ProductSuggestion[] updated = new ProductSuggestion[Math.min(top.length + 1, topSize)];
+        System.arraycopy(top, 0, updated, 0, position);
+        updated[position] = suggestion;
+        System.arraycopy(top, position, updated, position + 1, updated.length - position - 1);
+        return updated;
+    }
+
+    private ProductSuggestion[] recompute(Node node) {
+        List<ProductSuggestion> candidates = new ArrayList<>();
+        for (Entry entry : node.entries) {
+            candidates.add(entry.suggestion);
+        }
+        for (Node child : node.children) {
+            candidates.addAll(Arrays.asList(child.top));
+        }
+        return best(candidates);
+    }
+
+    private ProductSuggestion[] best(List<ProductSuggestion> candidates) {
+        candidates.sort(ProductSuggestion.ORDER);
+        List<ProductSuggestion> result = new ArrayList<>(topSize);
+        Set<Long> seen = new HashSet<>();
+        for (ProductSuggestion candidate : candidates) {
+            if (result.size() == topSize) {
+                break;
+            }
+            if (seen.add(candidate.getId())) {
+                result.add(candidate);
+            }
+        }
+        return result.toArray(NO_SUGGESTIONS);
+    }
+
+    private static boolean contains(ProductSuggestion[] top, ProductSuggestion suggestion) {
+        for (ProductSuggestion current : top) {
+            if (current == suggestion) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static final class Node {
+
+        private char[] labels = NO_LABELS;
+        private Node[] children = NO_CHILDREN;
+        private Entry[] entries = NO_ENTRIES;
+        private ProductSuggestion[] top = NO_SUGGESTIONS;
+
+        Node child(char label) {
+            int index = Arrays.binarySearch(labels, label);
+            return index >= 0 ? children[index] : null;
+        }
+
+        Node addChild(char label) {
+            int index = -Arrays.binarySearch(labels, label) - 1;
+            char[] newLabels = new char[labels.length + 1];
+            Node[] newChildren = new Node[children.length + 1];
+            System.arraycopy(labels, 0, newLabels, 0, index);
+            System.arraycopy(children, 0, newChildren, 0, index);
+            System.arraycopy(labels, index, newLabels, index + 1, labels.length - index);
+            System.arraycopy(children, index, newChildren, index + 1, children.length - index);
+            Node child = new Node();
+            newLabels[index] = label;
+            newChildren[index] = child;
+            labels = newLabels;
+            children = newChildren;
+            return child;
+        }
+
+        void removeChild(char label) {
+            int index = Arrays.binarySearch(labels, label);
+            char[] newLabels = new char[labels.length - 1];
+            Node[] newChildren = new Node[children.length - 1];
+            System.arraycopy(labels, 0, newLabels, 0, index);
+            System.arraycopy(children, 0, newChildren, 0, index);
+            System.arraycopy(labels, index + 1, newLabels, index, labels.length - index - 1);
+            System.arraycopy(children, index + 1, newChildren, index, children.length - index - 1);
+            labels = newLabels.length == 0 ? NO_LABELS : newLabels;
+            children = newChildren.length == 0 ? NO_CHILDREN : newChildren;
+        }
+
+        boolean removeEntry(String key, ProductSuggestion suggestion) {
+            for (int i = 0; i < entries.length; i++) {
+                if (entries[i].suggestion == suggestion && entries[i].key.equals(key)) {
+                    Entry[] updated = new Entry[entries.length - 1];
+                    System.arraycopy(entries, 0, updated, 0, i);
+                    System.arraycopy(entries, i + 1, updated, i, entries.length - i - 1);
+                    entries = updated.length == 0 ? NO_ENTRIES : updated;
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        boolean isEmpty() {
+            return entries.length == 0 && children.length == 0;
+        }
+
+    }
+
+    private static final class Entry {
+
+        private final String key;
+        private final ProductSuggestion suggestion;
+
+        private Entry(String key, ProductSuggestion suggestion) {
+            this.key = key;
+            this.suggestion = suggestion;
+        }
+
+    }
+
+}
@@ -0,0 +1,30 @@
+package com.example.finance7.product.bulk;
+
+/**
+ * 제휴 기관 상품 파일의 컬럼 순서. 첫 줄은 이 순서의 헤더여야 한다.
+ */
+enum ProductCsvColumn {
+
+    NAME("name"),
+    BANK_NAME("bankName"),
+    TYPE("type"),
+    INTEREST_TYPE("interestType"),
+    INTEREST_RATE("interestRate"),
+    MIN_AGE("minAge"),
+    MAX_AGE("maxAge"),
+    MIN_INCOME("minIncome"),
+    TAGS("tags");
+
+    static final String TAG_SEPARATOR = ";";
+
+    private final String header;
+
+    ProductCsvColumn(String header) {
+        this.header = header;
+    }
+
+    String header() {
+        return header;
+    }
+
+}
@@ -0,0 +1,83 @@
+package com.example.finance7.product.bulk;
+
+import com.example.finance7.product.entity.InterestType;
+import com.example.finance7.product.entity.Product;
+import com.example.finance7.product.entity.ProductType;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+final class ProductCsvMapper {
+
+    private static final ProductCsvColumn[] COLUMNS = ProductCsvColumn.values();
+
+    private ProductCsvMapper() {
+    }
+
+    static void validateHeader(List<String> header) {
+        if (header == null || header.size() != COLUMNS.length) {
+            throw new IllegalArgumentException("헤더 컬럼 수가 맞지 않습니다: " + header);
+        }
+        for (ProductCsvColumn column : COLUMNS) {
+            if (!column.header().equalsIgnoreCase(header.get(column.ordinal()).trim())) {
+                throw new IllegalArgumentException("헤더 순서가 맞지 않습니다. 기대값: " + String.join(",", header()));
+            }
+        }
+    }
+
+    static List<String> header() {
+        return Arrays.stream(COLUMNS).map(ProductCsvColumn::header).collect(Collectors.toList());
+    }
+
+    static List<String> toRecord(Product product) {
+        return Arrays.asList(
+                product.getName(),
+                product.getBankName(),
+                product.getType().name(),
+                product.getInterestType() == null ? null : product.getInterestType().name(),
+                product.getInterestRate() == null ? null : product.getInterestRate().toPlainString(),
+                product.getMinAge() == null ? null : product.getMinAge().toString(),
+                product.getMaxAge() == null ? null : product.getMaxAge().toString(),
+                product.getMinIncome() == null ? null : product.getMinIncome().toString(),
+                String.join(ProductCsvColumn.TAG_SEPARATOR, product.getTagList()));
+    }
+
+    static Product toProduct(List<String> record) {
+        if (record.size() != COLUMNS.length) {
+            throw new IllegalArgumentException("컬럼 수가 맞지 않습니다: " + record.size());
+        }
+        String interestType = optional(record, ProductCsvColumn.INTEREST_TYPE);
+        String interestRate = optional(record, ProductCsvColumn.INTEREST_RATE);
+        String minAge = optional(record, ProductCsvColumn.MIN_AGE);
+        String maxAge = optional(record, ProductCsvColumn.MAX_AGE);
+        String minIncome = optional(record, ProductCsvColumn.MIN_INCOME);
+        String tags = optional(record, ProductCsvColumn.TAGS);
+        return Product.builder()
+                .name(required(record, ProductCsvColumn.NAME))
+                .bankName(required(record, ProductCsvColumn.BANK_NAME))
+                .type(ProductType.valueOf(required(record, ProductCsvColumn.TYPE)))
+                .interestType(interestType == null ? null : InterestType.valueOf(interestType))
+                .interestRate(interestRate == null ? null : new BigDecimal(interestRate))
+                .minAge(minAge == null ? null : Integer.valueOf(minAge))
+                .maxAge(maxAge == null ? null : Integer.valueOf(maxAge))
+                .minIncome(minIncome == null ? null : Long.valueOf(minIncome))
+                .tags(tags == null ? List.of() : Arrays.asList(tags.split(ProductCsvColumn.TAG_SEPARATOR)))
+                .build();
+    }
+
+    private static String required(List<String> record, ProductCsvColumn column) {
+        String value = optional(record, column);
+        if (value == null) {
+            throw new IllegalArgumentException(column.header() + " 값이 비어 있습니다.");
+        }
+        return value;
+    }
+
+    private static String optional(List<String> record, ProductCsvColumn column) {
+        String value = record.get(column.ordinal()).trim();
+        return value.isEmpty() ? null : value;
+    }
+
+}
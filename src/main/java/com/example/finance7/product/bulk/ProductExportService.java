@@ -0,0 +1,25 @@
+package com.example.finance7.product.bulk;
+
+import com.example.finance7.global.csv.CsvExporter;
+import com.example.finance7.product.repository.ProductRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.io.OutputStream;
+
+/**
+ * 전체 상품을 가져오기와 같은 컬럼 순서의 CSV 로 내보낸다. 내보낸 파일은 그대로 다시 가져올 수 있다.
+ */
+@Service
+@RequiredArgsConstructor
+public class ProductExportService {
+
+    private final CsvExporter csvExporter;
+    private final ProductRepository productRepository;
+
+    public long exportCsv(OutputStream outputStream) {
+        return csvExporter.export(outputStream, ProductCsvMapper.header(),
+                productRepository::streamAll, ProductCsvMapper::toRecord);
+    }
+
+}
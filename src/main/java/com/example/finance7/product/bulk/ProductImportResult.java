@@ -0,0 +1,17 @@
+package com.example.finance7.product.bulk;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@RequiredArgsConstructor
+public class ProductImportResult {
+
+    private final long totalRows;
+    private final long importedRows;
+    private final long failedRows;
+    private final List<String> errors;
+
+}
@@ -0,0 +1,140 @@
+package com.example.finance7.product.bulk;
+
+import com.example.finance7.global.csv.CsvReader;
+import com.example.finance7.product.entity.Product;
+import com.example.finance7.product.entity.ProductEntityListener;
+import com.example.finance7.product.event.ProductsImportedEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 상품 파일을 한 줄씩 읽어 청크 단위 트랜잭션으로 저장한다.
+ * <p>
+ * 청크마다 flush/clear 하므로 영속성 컨텍스트가 청크 크기 이상 쌓이지 않는다. 행마다 상품 변경 이벤트를 내면
+ * 캐시 비우기와 추천 후보 재계산이 행 수만큼 반복되므로, 행 단위 이벤트는 끄고 청크마다 {@link ProductsImportedEvent}
+ * 하나로 알린다.
+ * 상품 ID 는 시퀀스(allocationSize 50)로 미리 할당되어 Hibernate JDBC 배치(hibernate.jdbc.batch_size)가 적용된다.
+ * 저장에 실패한 청크는 그 줄 범위를 오류로 남기고 다음 청크로 넘어간다. 앞선 청크는 이미 커밋되었으므로
+ * 결과의 오류 목록에 있는 줄만 다시 올리면 된다.
+ */
+@Slf4j
+@Service
+public class ProductImportService {
+
+    private static final int MAX_REPORTED_ERRORS = 100;
+
+    private final EntityManager entityManager;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final int chunkSize;
+
+    public ProductImportService(EntityManager entityManager, ApplicationEventPublisher eventPublisher,
+                                PlatformTransactionManager transactionManager,
+                                @Value("${app.product.import.chunk-size:1000}") int chunkSize) {
+        this.entityManager = entityManager;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.chunkSize = chunkSize;
+    }
+
+    public ProductImportResult importCsv(InputStream inputStream) {
+        long totalRows = 0;
+        long importedRows = 0;
+        List<String> errors = new ArrayList<>();
+        List<Product> chunk = new ArrayList<>(chunkSize);
+        long firstLine = 0;
+        long lastLine = 0;
+
+        try (CsvReader reader = new CsvReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8))) {
+            ProductCsvMapper.validateHeader(reader.next());
+            while (true) {
+                List<String> record;
+                try {
+                    record = reader.next();
+                } catch (IllegalArgumentException e) {
+                    // 닫히지 않은 따옴표는 파일 끝까지 읽고 실패하므로 더 읽을 줄이 없다. 모은 청크는 저장하고 결과로 알린다.
+                    totalRows++;
+                    errors.add(e.getMessage());
+                    break;
+                }
+                if (record == null) {
+                    break;
+                }
+                totalRows++;
+                try {
+                    Product product = ProductCsvMapper.toProduct(record);
+                    if (chunk.isEmpty()) {
+                        firstLine = reader.getLineNumber();
+                    }
+                    chunk.add(product);
+                    lastLine = reader.getLineNumber();
+                } catch (IllegalArgumentException e) {
+                    if (errors.size() < MAX_REPORTED_ERRORS) {
+                        errors.add(reader.getLineNumber() + "번째 줄: " + e.getMessage());
+                    }
+                    continue;
+                }
+                if (chunk.size() >= chunkSize) {
+                    importedRows += save(chunk, firstLine, lastLine, errors);
+                }
+            }
+            importedRows += save(chunk, firstLine, lastLine, errors);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        log.info("product import finished: total={}, imported={}", totalRows, importedRows);
+        return new ProductImportResult(totalRows, importedRows, totalRows - importedRows, errors);
+    }
+
+    /**
+     * 청크를 한 트랜잭션으로 저장하고 저장한 행 수를 돌려준다. 실패하면 청크 전체가 롤백되므로 줄 범위를 오류로 남기고 0 을 돌려준다.
+     * 청크 실패는 다시 올릴 범위를 알려야 하므로 오류 개수 제한과 무관하게 남긴다.
+     */
+    private int save(List<Product> chunk, long firstLine, long lastLine, List<String> errors) {
+        if (chunk.isEmpty()) {
+            return 0;
+        }
+        int size = chunk.size();
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                ProductEntityListener.withoutEvents(() -> {
+                    chunk.forEach(entityManager::persist);
+                    entityManager.flush();
+                });
+                eventPublisher.publishEvent(new ProductsImportedEvent(List.copyOf(chunk)));
+                entityManager.clear();
+            });
+            return size;
+        } catch (DataAccessException | PersistenceException e) {
+            log.warn("product import chunk failed: lines {}-{}", firstLine, lastLine, e);
+            errors.add(firstLine + "~" + lastLine + "번째 줄: 저장하지 못했습니다. " + rootMessage(e));
+            return 0;
+        } finally {
+            chunk.clear();
+        }
+    }
+
+    private static String rootMessage(Throwable e) {
+        Throwable root = e;
+        while (root.getCause() != null && root.getCause() != root) {
+            root = root.getCause();
+        }
+        return root.getMessage();
+    }
+
+}
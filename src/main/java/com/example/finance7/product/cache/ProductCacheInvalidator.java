@@ -0,0 +1,92 @@
+package com.example.finance7.product.cache;
+
+import com.example.finance7.global.cache.CacheType;
+import com.example.finance7.product.entity.Product;
+import com.example.finance7.product.event.ProductCatalogReloadedEvent;
+import com.example.finance7.product.event.ProductChangedEvent;
+import com.example.finance7.product.event.ProductsImportedEvent;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.core.annotation.Order;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * 상품 엔티티 리스너가 발행한 변경 이벤트를 받아 커밋 직후 상품 캐시를 비운다.
+ * 목록 캐시는 어떤 조건의 목록에 포함되는지 알 수 없으므로 전체를 비운다.
+ * <p>
+ * 커밋 전에 이전 값을 읽은 조회가 커밋 직후의 비우기보다 늦게 캐시에 넣으면 그 값이 만료 시간 내내 남는다.
+ * 그래서 {@code re-evict-delay} 뒤에 한 번 더 비우고 카탈로그 버전을 올려, 그 사이 이전 본문을 받은 클라이언트도
+ * 다시 받게 한다. 지연은 조회 한 건이 걸리는 시간과 레플리카 허용 지연보다 길게 잡는다.
+ * 다른 인스턴스의 변경({@link ProductCatalogReloadedEvent})은 어느 상품인지 모르므로 상품 캐시 전체를 비운다.
+ */
+@Component
+public class ProductCacheInvalidator {
+
+    private final CacheManager cacheManager;
+    private final ProductCatalogVersion catalogVersion;
+    private final TaskScheduler taskScheduler;
+    private final Duration reEvictDelay;
+
+    public ProductCacheInvalidator(CacheManager cacheManager, ProductCatalogVersion catalogVersion,
+                                   TaskScheduler taskScheduler,
+                                   @Value("${app.product.cache.re-evict-delay:10s}") Duration reEvictDelay) {
+        this.cacheManager = cacheManager;
+        this.catalogVersion = catalogVersion;
+        this.taskScheduler = taskScheduler;
+        this.reEvictDelay = reEvictDelay;
+    }
+
+    @Order(ProductChangedEvent.REFRESH_ORDER)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProductChanged(ProductChangedEvent event) {
+        invalidate(List.of(event.getProduct().getId()));
+    }
+
+    @Order(ProductChangedEvent.REFRESH_ORDER)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProductsImported(ProductsImportedEvent event) {
+        invalidate(event.getProducts().stream().map(Product::getId).collect(Collectors.toList()));
+    }
+
+    @Order(ProductChangedEvent.REFRESH_ORDER)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCatalogReloaded(ProductCatalogReloadedEvent event) {
+        invalidate(null);
+    }
+
+    /**
+     * {@code productIds} 가 null 이면 상품 캐시 전체를 비운다.
+     */
+    private void invalidate(Collection<Long> productIds) {
+        evict(productIds);
+        taskScheduler.schedule(() -> {
+            evict(productIds);
+            catalogVersion.increment();
+        }, Instant.now().plus(reEvictDelay));
+    }
+
+    private void evict(Collection<Long> productIds) {
+        Cache productCache = cacheManager.getCache(CacheType.Names.PRODUCT);
+        if (productCache != null) {
+            if (productIds == null) {
+                productCache.clear();
+            } else {
+                productIds.forEach(productCache::evict);
+            }
+        }
+        Cache productListCache = cacheManager.getCache(CacheType.Names.PRODUCT_LIST);
+        if (productListCache != null) {
+            productListCache.clear();
+        }
+    }
+
+}
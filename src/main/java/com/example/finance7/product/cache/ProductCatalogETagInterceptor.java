@@ -0,0 +1,35 @@
+package com.example.finance7.product.cache;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+/**
+ * 상품 카탈로그 조회에 카탈로그 버전으로 만든 ETag/Last-Modified 를 붙인다.
+ * 클라이언트가 가진 버전이 최신이면 핸들러를 호출하지 않고 바로 304 로 끝내 조회와 직렬화를 모두 건너뛴다.
+ * 응답은 캐시하되 매번 재검증하도록 no-cache 로 내보낸다.
+ */
+@RequiredArgsConstructor
+public class ProductCatalogETagInterceptor implements HandlerInterceptor {
+
+    private static final String CACHE_CONTROL = CacheControl.noCache().getHeaderValue();
+
+    private final ProductCatalogVersion catalogVersion;
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (!HttpMethod.GET.matches(request.getMethod()) && !HttpMethod.HEAD.matches(request.getMethod())) {
+            return true;
+        }
+        response.setHeader(HttpHeaders.CACHE_CONTROL, CACHE_CONTROL);
+        return !new ServletWebRequest(request, response)
+                .checkNotModified(catalogVersion.etag(), catalogVersion.lastModified());
+    }
+
+}
@@ -0,0 +1,64 @@
+package com.example.finance7.product.cache;
+
+import com.example.finance7.product.entity.Product;
+import com.example.finance7.product.event.ProductCatalogReloadedEvent;
+import com.example.finance7.product.repository.ProductCatalogFingerprint;
+import com.example.finance7.product.repository.ProductRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * 다른 인스턴스의 상품 변경을 맞춘다. 상품 변경 이벤트는 쓴 인스턴스에서만 발행되므로, 주기적으로 상품 수와
+ * 마지막 수정 시각({@link ProductCatalogFingerprint})을 읽어 달라졌으면 상품 전체를 다시 읽어
+ * {@link ProductCatalogReloadedEvent} 로 알린다. 캐시 비우기, 검색/자동완성/추천 색인 재구성, 카탈로그 버전 올리기는
+ * 커밋 이벤트와 같은 리스너 순서로 처리된다.
+ * <p>
+ * 이 인스턴스의 변경도 지문을 바꾸므로 다음 주기에 한 번 더 다시 읽는다. 상품은 조회보다 훨씬 드물게 바뀌어 감수한다.
+ * 레플리카 지연만큼 오래된 스냅샷으로 색인을 덮어쓰지 않도록 읽기 전용이 아닌 트랜잭션으로 프라이머리에서 읽는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ProductCatalogSynchronizer {
+
+    private final ProductRepository productRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    private volatile ProductCatalogFingerprint lastSeen;
+
+    /**
+     * 색인들이 기동 시 상품을 읽기 전에 지문을 남긴다. 그 사이 바뀐 것은 다음 주기에 다시 읽는다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @Transactional
+    public void init() {
+        lastSeen = productRepository.fingerprint();
+    }
+
+    @Scheduled(fixedDelayString = "${app.product.catalog-sync.interval:5000}",
+            initialDelayString = "${app.product.catalog-sync.interval:5000}")
+    @Transactional
+    public void synchronize() {
+        ProductCatalogFingerprint current = productRepository.fingerprint();
+        if (current.equals(lastSeen)) {
+            return;
+        }
+        List<Product> products = productRepository.findAll();
+        eventPublisher.publishEvent(new ProductCatalogReloadedEvent(products));
+        lastSeen = current;
+        log.info("product catalog reloaded: {} products, last updated at {}",
+                current.getCount(), current.getLastUpdatedAt());
+    }
+
+}
@@ -0,0 +1,100 @@
+package com.example.finance7.product.cache;
+
+import com.example.finance7.product.event.ProductCatalogReloadedEvent;
+import com.example.finance7.product.event.ProductChangedEvent;
+import com.example.finance7.product.event.ProductsImportedEvent;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Clock;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 상품 카탈로그의 버전. 상품이 바뀌어 커밋될 때마다 올라가며, 카탈로그 응답의 ETag/Last-Modified 를 여기서 만든다.
+ * 응답 본문을 해시하지 않으므로 조건부 요청은 직렬화 없이 버전 비교만으로 304 를 돌려줄 수 있다.
+ * 버전은 같은 커밋의 캐시 비우기와 색인 갱신이 모두 끝난 뒤에 올린다({@link ProductChangedEvent#VERSION_ORDER}).
+ * <p>
+ * 버전은 인스턴스 메모리에만 있어 ETag 에 기동 시각을 함께 넣는다. 재기동했거나 다른 인스턴스가 응답하면
+ * ETag 가 달라져 한 번 더 내려받는다. 다른 인스턴스에서 커밋된 변경은 {@link ProductCatalogSynchronizer} 가
+ * 다음 동기화 주기에 반영하며 그때 버전을 올린다. 그 주기 동안에는 이 인스턴스가 이전 데이터에 304 를 줄 수 있다.
+ */
+@Component
+public class ProductCatalogVersion {
+
+    private final Clock clock;
+    private final String instancePrefix;
+    private final AtomicReference<State> state;
+
+    public ProductCatalogVersion(Clock clock) {
+        this.clock = clock;
+        long startedAt = clock.millis();
+        this.instancePrefix = Long.toString(startedAt, 36) + '-';
+        this.state = new AtomicReference<>(new State(0, ceilToSecond(startedAt), etag(0)));
+    }
+
+    @Order(ProductChangedEvent.VERSION_ORDER)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProductChanged(ProductChangedEvent event) {
+        increment();
+    }
+
+    @Order(ProductChangedEvent.VERSION_ORDER)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProductsImported(ProductsImportedEvent event) {
+        increment();
+    }
+
+    @Order(ProductChangedEvent.VERSION_ORDER)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCatalogReloaded(ProductCatalogReloadedEvent event) {
+        increment();
+    }
+
+    /**
+     * If-Modified-Since 는 초 단위라 Last-Modified 는 초 단위로 올려 잡고, 같은 초에 여러 번 바뀌어도 이전 값보다
+     * 반드시 1초 이상 늦게 한다. 그러지 않으면 같은 초에 앞선 응답을 받은 클라이언트가 바뀐 데이터에 304 를 받는다.
+     */
+    public void increment() {
+        state.updateAndGet(current -> new State(current.version + 1,
+                Math.max(ceilToSecond(clock.millis()), current.lastModified + 1000), etag(current.version + 1)));
+    }
+
+    public long version() {
+        return state.get().version;
+    }
+
+    /**
+     * 같은 데이터라도 압축 여부에 따라 바이트가 달라지므로 약한 검증자(W/)로 만든다.
+     */
+    public String etag() {
+        return state.get().etag;
+    }
+
+    public long lastModified() {
+        return state.get().lastModified;
+    }
+
+    private static long ceilToSecond(long millis) {
+        return (millis + 999) / 1000 * 1000;
+    }
+
+    private String etag(long version) {
+        return "W/\"" + instancePrefix + version + '"';
+    }
+
+    private static class State {
+
+        private final long version;
+        private final long lastModified;
+        private final String etag;
+
+        State(long version, long lastModified, String etag) {
+            this.version = version;
+            this.lastModified = lastModified;
+            this.etag = etag;
+        }
+
+    }
+
+}
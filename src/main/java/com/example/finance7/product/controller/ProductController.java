@@ -0,0 +1,70 @@
+package com.example.finance7.product.controller;
+
+import com.example.finance7.global.pagination.CursorPage;
+import com.example.finance7.global.pagination.CursorRequest;
+import com.example.finance7.product.autocomplete.ProductSuggestion;
+import com.example.finance7.product.dto.ProductRankingResponse;
+import com.example.finance7.product.dto.ProductResponse;
+import com.example.finance7.product.entity.ProductSortType;
+import com.example.finance7.product.entity.ProductType;
+import com.example.finance7.product.ranking.ProductActivity;
+import com.example.finance7.product.ranking.RankingWindow;
+import com.example.finance7.product.search.ProductSearchCondition;
+import com.example.finance7.product.service.ProductService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/products")
+public class ProductController {
+
+    private final ProductService productService;
+
+    @GetMapping
+    public CursorPage<ProductResponse> getProducts(@RequestParam(required = false) ProductType type,
+                                                   @RequestParam(defaultValue = "ID") ProductSortType sort,
+                                                   CursorRequest cursorRequest) {
+        return productService.getProducts(type, sort, cursorRequest);
+    }
+
+    @GetMapping("/{productId}")
+    public ProductResponse getProduct(@PathVariable Long productId) {
+        return productService.getProduct(productId);
+    }
+
+    @GetMapping("/search")
+    public List<ProductResponse> search(@RequestParam(required = false) String keyword,
+                                        @RequestParam(required = false) ProductType type,
+                                        @RequestParam(required = false) String bankName,
+                                        @RequestParam(defaultValue = "20") int size) {
+        ProductSearchCondition condition = ProductSearchCondition.builder()
+                .keyword(keyword)
+                .type(type)
+                .bankName(bankName)
+                .size(size)
+                .build();
+        return productService.search(condition);
+    }
+
+    @GetMapping("/autocomplete")
+    public List<ProductSuggestion> autocomplete(@RequestParam String query,
+                                                @RequestParam(defaultValue = "10") int size) {
+        return productService.autocomplete(query, size);
+    }
+
+    @GetMapping("/rankings")
+    public List<ProductRankingResponse> getRankings(@RequestParam(defaultValue = "VIEW") ProductActivity activity,
+                                                    @RequestParam(defaultValue = "HOUR") RankingWindow window,
+                                                    @RequestParam(required = false) ProductType type,
+                                                    @RequestParam(defaultValue = "10") int size) {
+        return productService.getRankings(activity, window, type, size);
+    }
+
+}
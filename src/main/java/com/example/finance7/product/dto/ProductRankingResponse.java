@@ -0,0 +1,14 @@
+package com.example.finance7.product.dto;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public class ProductRankingResponse {
+
+    private final int rank;
+    private final long score;
+    private final ProductResponse product;
+
+}
@@ -0,0 +1,45 @@
+package com.example.finance7.product.dto;
+
+import com.example.finance7.product.entity.Product;
+import com.example.finance7.product.entity.ProductType;
+import com.example.finance7.product.search.ProductDocument;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+@Getter
+@Builder
+public class ProductResponse {
+
+    private final Long id;
+    private final String name;
+    private final String bankName;
+    private final ProductType type;
+    private final BigDecimal interestRate;
+    private final List<String> tags;
+
+    public static ProductResponse from(Product product) {
+        return ProductResponse.builder()
+                .id(product.getId())
+                .name(product.getName())
+                .bankName(product.getBankName())
+                .type(product.getType())
+                .interestRate(product.getInterestRate())
+                .tags(product.getTagList())
+                .build();
+    }
+
+    public static ProductResponse from(ProductDocument document) {
+        return ProductResponse.builder()
+                .id(document.getId())
+                .name(document.getName())
+                .bankName(document.getBankName())
+                .type(document.getType())
+                .interestRate(document.getInterestRate())
+                .tags(document.getTags())
+                .build();
+    }
+
+}
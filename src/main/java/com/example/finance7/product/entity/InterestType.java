@@ -0,0 +1,15 @@
+package com.example.finance7.product.entity;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum InterestType {
+
+    FIXED("고정금리"),
+    VARIABLE("변동금리");
+
+    private final String description;
+
+}
@@ -0,0 +1,114 @@
+package com.example.finance7.product.entity;
+
+import com.example.finance7.global.entity.BaseTimeEntity;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.EntityListeners;
+import javax.persistence.EnumType;
+import javax.persistence.Enumerated;
+import javax.persistence.GeneratedValue;
+import javax.persistence.GenerationType;
+import javax.persistence.Id;
+import javax.persistence.Index;
+import javax.persistence.SequenceGenerator;
+import javax.persistence.Table;
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+@Getter
+@Entity
+@Table(name = "product", indexes = @Index(name = "idx_product_type", columnList = "product_type"))
+@EntityListeners(ProductEntityListener.class)
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class Product extends BaseTimeEntity {
+
+    private static final String TAG_DELIMITER = ",";
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "product_seq_generator")
+    @SequenceGenerator(name = "product_seq_generator", sequenceName = "product_seq", allocationSize = 50)
+    @Column(name = "product_id")
+    private Long id;
+
+    @Column(nullable = false, length = 100)
+    private String name;
+
+    @Column(nullable = false, length = 50)
+    private String bankName;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "product_type", nullable = false, length = 20)
+    private ProductType type;
+
+    @Enumerated(EnumType.STRING)
+    @Column(length = 20)
+    private InterestType interestType;
+
+    @Column(precision = 5, scale = 2)
+    private BigDecimal interestRate;
+
+    private Integer minAge;
+
+    private Integer maxAge;
+
+    private Long minIncome;
+
+    @Column(length = 500)
+    private String tags;
+
+    @Builder
+    public Product(String name, String bankName, ProductType type, InterestType interestType, BigDecimal interestRate,
+                   List<String> tags, Integer minAge, Integer maxAge, Long minIncome) {
+        this.name = name;
+        this.bankName = bankName;
+        this.type = type;
+        this.interestType = interestType;
+        this.interestRate = interestRate;
+        this.tags = joinTags(tags);
+        this.minAge = minAge;
+        this.maxAge = maxAge;
+        this.minIncome = minIncome;
+    }
+
+    public void update(String name, String bankName, ProductType type, InterestType interestType,
+                       BigDecimal interestRate, List<String> tags) {
+        this.name = name;
+        this.bankName = bankName;
+        this.type = type;
+        this.interestType = interestType;
+        this.interestRate = interestRate;
+        this.tags = joinTags(tags);
+    }
+
+    public void changeEligibility(Integer minAge, Integer maxAge, Long minIncome) {
+        this.minAge = minAge;
+        this.maxAge = maxAge;
+        this.minIncome = minIncome;
+    }
+
+    public List<String> getTagList() {
+        if (tags == null || tags.isEmpty()) {
+            return Collections.emptyList();
+        }
+        return Arrays.asList(tags.split(TAG_DELIMITER));
+    }
+
+    private static String joinTags(List<String> tags) {
+        if (tags == null || tags.isEmpty()) {
+            return null;
+        }
+        return tags.stream()
+                .map(String::trim)
+                .filter(tag -> !tag.isEmpty())
+                .collect(Collectors.joining(TAG_DELIMITER));
+    }
+
+}
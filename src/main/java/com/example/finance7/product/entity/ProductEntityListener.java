@@ -0,0 +1,62 @@
+package com.example.finance7.product.entity;
+
+import com.example.finance7.product.event.ProductChangedEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+import javax.persistence.PostPersist;
+import javax.persistence.PostRemove;
+import javax.persistence.PostUpdate;
+
+/**
+ * Hibernate 가 Spring 빈으로 생성하는 엔티티 리스너.
+ * 변경 사항은 이벤트로만 발행하고, 실제 반영은 커밋 이후 {@code @TransactionalEventListener} 가 처리한다.
+ * 대량 적재는 {@link #withoutEvents(Runnable)} 안에서 저장하고 변경을 모아 한 번에 알린다.
+ */
+@Component
+@RequiredArgsConstructor
+public class ProductEntityListener {
+
+    /**
+     * Hibernate 가 리스너 인스턴스를 빈과 따로 만들 수 있어 억제 여부는 스레드 단위 정적 상태로 둔다.
+     */
+    private static final ThreadLocal<Boolean> SUPPRESSED = new ThreadLocal<>();
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * 이 스레드에서 {@code action} 이 실행되는 동안(flush 포함) 행 단위 변경 이벤트를 내지 않는다.
+     * 호출한 쪽이 바뀐 상품을 직접 알려야 한다.
+     */
+    public static void withoutEvents(Runnable action) {
+        SUPPRESSED.set(Boolean.TRUE);
+        try {
+            action.run();
+        } finally {
+            SUPPRESSED.remove();
+        }
+    }
+
+    @PostPersist
+    public void onPersist(Product product) {
+        publish(new ProductChangedEvent(ProductChangedEvent.Type.CREATED, product));
+    }
+
+    @PostUpdate
+    public void onUpdate(Product product) {
+        publish(new ProductChangedEvent(ProductChangedEvent.Type.UPDATED, product));
+    }
+
+    @PostRemove
+    public void onRemove(Product product) {
+        publish(new ProductChangedEvent(ProductChangedEvent.Type.DELETED, product));
+    }
+
+    private void publish(ProductChangedEvent event) {
+        if (SUPPRESSED.get() == null) {
+            eventPublisher.publishEvent(event);
+        }
+    }
+
+}
@@ -0,0 +1,75 @@
+package com.example.finance7.product.entity;
+
+import com.example.finance7.product.ranking.ProductActivity;
+import com.example.finance7.product.ranking.RankingWindow;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.EnumType;
+import javax.persistence.Enumerated;
+import javax.persistence.GeneratedValue;
+import javax.persistence.GenerationType;
+import javax.persistence.Id;
+import javax.persistence.Index;
+import javax.persistence.SequenceGenerator;
+import javax.persistence.Table;
+import java.time.LocalDateTime;
+
+/**
+ * 주기적으로 남기는 상품 순위. 재기동 직후 메모리 집계가 비어 있을 때 최근 스냅샷으로 대신 답하고, 순위 이력으로도 쓴다.
+ */
+@Getter
+@Entity
+@Table(name = "product_ranking_snapshot",
+        indexes = @Index(name = "idx_product_ranking_snapshot_capture", columnList = "activity, ranking_window, captured_at"))
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ProductRankingSnapshot {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "product_ranking_snapshot_seq_generator")
+    @SequenceGenerator(name = "product_ranking_snapshot_seq_generator", sequenceName = "product_ranking_snapshot_seq",
+            allocationSize = 50)
+    @Column(name = "snapshot_id")
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private ProductActivity activity;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "ranking_window", nullable = false, length = 20)
+    private RankingWindow window;
+
+    @Column(name = "product_id", nullable = false)
+    private Long productId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "product_type", nullable = false, length = 20)
+    private ProductType type;
+
+    @Column(name = "ranking", nullable = false)
+    private int rank;
+
+    @Column(nullable = false)
+    private long score;
+
+    @Column(name = "captured_at", nullable = false)
+    private LocalDateTime capturedAt;
+
+    @Builder
+    public ProductRankingSnapshot(ProductActivity activity, RankingWindow window, Long productId, ProductType type,
+                                  int rank, long score, LocalDateTime capturedAt) {
+        this.activity = activity;
+        this.window = window;
+        this.productId = productId;
+        this.type = type;
+        this.rank = rank;
+        this.score = score;
+        this.capturedAt = capturedAt;
+    }
+
+}
@@ -0,0 +1,18 @@
+package com.example.finance7.product.entity;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Sort;
+
+@Getter
+@RequiredArgsConstructor
+public enum ProductSortType {
+
+    ID("id", Sort.Direction.ASC),
+    LATEST("id", Sort.Direction.DESC),
+    NAME("name", Sort.Direction.ASC);
+
+    private final String attribute;
+    private final Sort.Direction direction;
+
+}
@@ -0,0 +1,16 @@
+package com.example.finance7.product.entity;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum ProductType {
+
+    LOAN("대출"),
+    SAVINGS("예적금"),
+    CARD("카드");
+
+    private final String description;
+
+}
@@ -0,0 +1,20 @@
+package com.example.finance7.product.event;
+
+import com.example.finance7.product.entity.Product;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 다른 인스턴스의 변경을 맞추려고 상품 전체를 다시 읽었다. 리스너는 바뀐 상품을 알 수 없으므로 캐시를 모두 비우고
+ * 색인을 이 스냅샷으로 다시 만든다. 리스너 순서는 {@link ProductChangedEvent#REFRESH_ORDER},
+ * {@link ProductChangedEvent#VERSION_ORDER} 를 따른다.
+ */
+@Getter
+@RequiredArgsConstructor
+public class ProductCatalogReloadedEvent {
+
+    private final List<Product> products;
+
+}
@@ -0,0 +1,30 @@
+package com.example.finance7.product.event;
+
+import com.example.finance7.product.entity.Product;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.Ordered;
+
+@Getter
+@RequiredArgsConstructor
+public class ProductChangedEvent {
+
+    /**
+     * 캐시를 비우고 색인을 고치는 리스너의 순서. 카탈로그 버전은 이 리스너들이 모두 끝난 뒤({@link #VERSION_ORDER}) 올린다.
+     * 버전이 먼저 오르면 그 사이 요청이 새 ETag 와 이전 본문을 함께 받아 다음 변경까지 304 로 붙잡는다.
+     */
+    public static final int REFRESH_ORDER = 0;
+    public static final int VERSION_ORDER = Ordered.LOWEST_PRECEDENCE;
+
+    public enum Type {
+        CREATED, UPDATED, DELETED
+    }
+
+    private final Type type;
+    private final Product product;
+
+    public boolean isDeleted() {
+        return type == Type.DELETED;
+    }
+
+}
@@ -0,0 +1,20 @@
+package com.example.finance7.product.event;
+
+import com.example.finance7.product.entity.Product;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 대량 적재에서 한 청크로 함께 저장된 새 상품들. 적재 중에는 행마다 {@link ProductChangedEvent} 를 내지 않고
+ * 청크마다 이 이벤트 하나로 알려, 캐시와 색인이 청크 단위로 한 번씩만 갱신되게 한다.
+ * 리스너 순서는 {@link ProductChangedEvent#REFRESH_ORDER}, {@link ProductChangedEvent#VERSION_ORDER} 를 따른다.
+ */
+@Getter
+@RequiredArgsConstructor
+public class ProductsImportedEvent {
+
+    private final List<Product> products;
+
+}
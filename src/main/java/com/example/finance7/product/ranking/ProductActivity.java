@@ -0,0 +1,15 @@
+package com.example.finance7.product.ranking;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum ProductActivity {
+
+    VIEW("조회"),
+    APPLY("신청");
+
+    private final String description;
+
+}
@@ -0,0 +1,149 @@
+package com.example.finance7.product.ranking;
+
+import com.example.finance7.product.entity.ProductType;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 최근 1시간/1일 동안 많이 조회/신청된 상품 순위. 이벤트 테이블을 GROUP BY 하는 대신 이벤트가 들어올 때
+ * 구간별 {@link SlidingWindowCounter} 에 세고, 상품 유형별 {@link TopKCandidates} 로 순위 후보만 추린다.
+ * <p>
+ * 기록은 스케치 카운터 몇 개를 원자적으로 올리고 후보 여부만 확인하므로 요청 경로에서 락을 거의 잡지 않는다.
+ * 전체 순위는 유형별 후보를 합쳐 만든다. 상위 N 은 반드시 어느 한 유형의 상위 N 안에 있기 때문이다.
+ * 메모리는 (활동 수 × 구간별 버킷 수) 개의 스케치(width × depth × 8 바이트)로 고정이다.
+ * <p>
+ * 상세 조회처럼 상품 ID 만 아는 기록을 위해 상품 ID → 유형 표를 함께 둔다. 표는 {@link ProductRankingIndexer} 가
+ * 상품 변경 이벤트로 맞추므로 요청 경로에서 상품을 조회하지 않는다.
+ */
+@Component
+public class ProductRanking {
+
+    public static final int MAX_SIZE = 20;
+
+    private static final int CANDIDATES_PER_TYPE = MAX_SIZE * 5;
+    private static final ProductType[] TYPES = ProductType.values();
+
+    private final Map<ProductActivity, Map<RankingWindow, Tracker>> trackers = new EnumMap<>(ProductActivity.class);
+    private final Map<Long, ProductType> types = new ConcurrentHashMap<>();
+    private long ticks;
+
+    public ProductRanking(@Value("${app.product.ranking.sketch-width:2048}") int width,
+                          @Value("${app.product.ranking.sketch-depth:4}") int depth) {
+        for (ProductActivity activity : ProductActivity.values()) {
+            Map<RankingWindow, Tracker> byWindow = new EnumMap<>(RankingWindow.class);
+            for (RankingWindow window : RankingWindow.values()) {
+                byWindow.put(window, new Tracker(new SlidingWindowCounter(window.getBucketCount(), width, depth)));
+            }
+            trackers.put(activity, byWindow);
+        }
+    }
+
+    public void record(ProductActivity activity, Long productId, ProductType type) {
+        if (productId == null || type == null) {
+            return;
+        }
+        for (Tracker tracker : trackers.get(activity).values()) {
+            tracker.record(productId, type);
+        }
+    }
+
+    /**
+     * 유형 표에서 상품 유형을 찾아 기록한다. 표에 없는(없거나 삭제된) 상품은 세지 않는다.
+     */
+    public void record(ProductActivity activity, Long productId) {
+        if (productId == null) {
+            return;
+        }
+        record(activity, productId, types.get(productId));
+    }
+
+    public void putType(Long productId, ProductType type) {
+        types.put(productId, type);
+    }
+
+    public void removeType(Long productId) {
+        types.remove(productId);
+    }
+
+    /**
+     * 유형 표를 통째로 바꾼다. 비운 뒤 채우지 않고 빠진 상품만 지운 뒤 덮어써, 그 사이 기록이 있는 상품을 놓치지 않게 한다.
+     */
+    public void replaceTypes(Map<Long, ProductType> snapshot) {
+        types.keySet().retainAll(snapshot.keySet());
+        types.putAll(snapshot);
+    }
+
+    /**
+     * 구간 안에서 많이 일어난 순으로 최대 {@code size} 개. 유형이 null 이면 모든 유형.
+     */
+    public List<RankedProduct> top(ProductActivity activity, RankingWindow window, ProductType type, int size) {
+        Tracker tracker = trackers.get(activity).get(window);
+        List<RankedProduct> ranked = new ArrayList<>();
+        for (ProductType candidateType : TYPES) {
+            if (type != null && type != candidateType) {
+                continue;
+            }
+            for (Long productId : tracker.candidates[candidateType.ordinal()].ids()) {
+                long score = tracker.counter.estimate(productId);
+                if (score > 0) {
+                    ranked.add(new RankedProduct(productId, candidateType, score));
+                }
+            }
+        }
+        ranked.sort(RankedProduct.ORDER);
+        return ranked.size() <= size ? ranked : List.copyOf(ranked.subList(0, size));
+    }
+
+    /**
+     * 1분마다 버킷 길이가 찬 구간을 한 칸씩 민다. 스케줄러 한 스레드에서만 불린다.
+     */
+    @Scheduled(fixedRate = 60_000, initialDelay = 60_000)
+    public void tick() {
+        ticks++;
+        for (RankingWindow window : RankingWindow.values()) {
+            if (ticks % window.getBucketMinutes() == 0) {
+                advance(window);
+            }
+        }
+    }
+
+    void advance(RankingWindow window) {
+        for (Map<RankingWindow, Tracker> byWindow : trackers.values()) {
+            byWindow.get(window).advance();
+        }
+    }
+
+    private static final class Tracker {
+
+        private final SlidingWindowCounter counter;
+        private final TopKCandidates[] candidates = new TopKCandidates[TYPES.length];
+
+        private Tracker(SlidingWindowCounter counter) {
+            this.counter = counter;
+            for (int i = 0; i < candidates.length; i++) {
+                candidates[i] = new TopKCandidates(CANDIDATES_PER_TYPE);
+            }
+        }
+
+        void record(long productId, ProductType type) {
+            counter.add(productId);
+            candidates[type.ordinal()].offer(productId, counter.estimate(productId), counter::estimate);
+        }
+
+        void advance() {
+            counter.advance();
+            for (TopKCandidates candidate : candidates) {
+                candidate.prune(counter::estimate);
+            }
+        }
+
+    }
+
+}
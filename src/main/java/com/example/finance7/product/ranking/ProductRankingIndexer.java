@@ -0,0 +1,68 @@
+package com.example.finance7.product.ranking;
+
+import com.example.finance7.product.entity.Product;
+import com.example.finance7.product.entity.ProductType;
+import com.example.finance7.product.event.ProductCatalogReloadedEvent;
+import com.example.finance7.product.event.ProductChangedEvent;
+import com.example.finance7.product.event.ProductsImportedEvent;
+import com.example.finance7.product.repository.ProductRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * {@link ProductRanking} 의 상품 ID → 유형 표를 상품 변경에 맞춘다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ProductRankingIndexer {
+
+    private final ProductRepository productRepository;
+    private final ProductRanking productRanking;
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void warmUp() {
+        Map<Long, ProductType> types = types(productRepository.findAll());
+        productRanking.replaceTypes(types);
+        log.info("product ranking types loaded: {} products", types.size());
+    }
+
+    @Order(ProductChangedEvent.REFRESH_ORDER)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProductChanged(ProductChangedEvent event) {
+        Product product = event.getProduct();
+        if (event.isDeleted()) {
+            productRanking.removeType(product.getId());
+        } else {
+            productRanking.putType(product.getId(), product.getType());
+        }
+    }
+
+    @Order(ProductChangedEvent.REFRESH_ORDER)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProductsImported(ProductsImportedEvent event) {
+        event.getProducts().forEach(product -> productRanking.putType(product.getId(), product.getType()));
+    }
+
+    @Order(ProductChangedEvent.REFRESH_ORDER)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCatalogReloaded(ProductCatalogReloadedEvent event) {
+        productRanking.replaceTypes(types(event.getProducts()));
+    }
+
+    private static Map<Long, ProductType> types(List<Product> products) {
+        return products.stream().collect(Collectors.toMap(Product::getId, Product::getType));
+    }
+
+}
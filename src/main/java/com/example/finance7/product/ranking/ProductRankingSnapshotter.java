@@ -0,0 +1,81 @@
+package com.example.finance7.product.ranking;
+
+import com.example.finance7.product.entity.ProductRankingSnapshot;
+import com.example.finance7.product.entity.ProductType;
+import com.example.finance7.product.repository.ProductRankingSnapshotRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * 메모리 순위를 주기적으로 DB 에 남긴다. 한 번에 활동/구간/상품 유형마다 상위 {@link ProductRanking#MAX_SIZE} 개씩이다.
+ * 재기동 직후처럼 메모리 집계가 비어 있으면 구간 길이 안에 남긴 가장 최근 스냅샷으로 대신 답한다.
+ */
+@Slf4j
+@Component
+public class ProductRankingSnapshotter {
+
+    private final ProductRanking productRanking;
+    private final ProductRankingSnapshotRepository snapshotRepository;
+    private final Duration retention;
+
+    public ProductRankingSnapshotter(ProductRanking productRanking,
+                                     ProductRankingSnapshotRepository snapshotRepository,
+                                     @Value("${app.product.ranking.snapshot-retention:7d}") Duration retention) {
+        this.productRanking = productRanking;
+        this.snapshotRepository = snapshotRepository;
+        this.retention = retention;
+    }
+
+    @Scheduled(fixedDelayString = "${app.product.ranking.snapshot-interval:600000}", initialDelay = 600000)
+    @Transactional
+    public void snapshot() {
+        LocalDateTime capturedAt = LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS);
+        List<ProductRankingSnapshot> snapshots = new ArrayList<>();
+        for (ProductActivity activity : ProductActivity.values()) {
+            for (RankingWindow window : RankingWindow.values()) {
+                for (ProductType type : ProductType.values()) {
+                    List<RankedProduct> ranked = productRanking.top(activity, window, type, ProductRanking.MAX_SIZE);
+                    for (int i = 0; i < ranked.size(); i++) {
+                        snapshots.add(ProductRankingSnapshot.builder()
+                                .activity(activity)
+                                .window(window)
+                                .productId(ranked.get(i).getProductId())
+                                .type(type)
+                                .rank(i + 1)
+                                .score(ranked.get(i).getScore())
+                                .capturedAt(capturedAt)
+                                .build());
+                    }
+                }
+            }
+        }
+        snapshotRepository.saveAll(snapshots);
+        int deleted = snapshotRepository.deleteCapturedBefore(capturedAt.minus(retention));
+        log.debug("product ranking snapshot saved: {} rows, {} expired rows deleted", snapshots.size(), deleted);
+    }
+
+    @Transactional(readOnly = true)
+    public List<RankedProduct> latest(ProductActivity activity, RankingWindow window, ProductType type, int size) {
+        LocalDateTime capturedAt = snapshotRepository.findLatestCapturedAt(activity, window);
+        if (capturedAt == null || capturedAt.isBefore(LocalDateTime.now().minus(window.duration()))) {
+            return List.of();
+        }
+        return snapshotRepository.findByActivityAndWindowAndCapturedAt(activity, window, capturedAt).stream()
+                .filter(snapshot -> type == null || snapshot.getType() == type)
+                .map(snapshot -> new RankedProduct(snapshot.getProductId(), snapshot.getType(), snapshot.getScore()))
+                .sorted(RankedProduct.ORDER)
+                .limit(size)
+                .collect(Collectors.toList());
+    }
+
+}
@@ -0,0 +1,48 @@
+package com.example.finance7.product.ranking;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.util.Map;
+
+/**
+ * 상품 상세 조회를 인기 순위에 센다. 카탈로그 ETag 인터셉터가 304 로 핸들러를 건너뛰어도 조회는 세어야 하므로
+ * 그보다 먼저 등록한다. 상품 유형은 {@link ProductRanking} 의 유형 표에서 찾으므로 상품을 조회하지 않고,
+ * 표에 없는 상품은 세지 않고 핸들러에 맡긴다.
+ */
+@RequiredArgsConstructor
+public class ProductViewInterceptor implements HandlerInterceptor {
+
+    private static final String PRODUCT_ID = "productId";
+
+    private final ProductRanking productRanking;
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (!HttpMethod.GET.matches(request.getMethod())) {
+            return true;
+        }
+        productRanking.record(ProductActivity.VIEW, productId(request));
+        return true;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Long productId(HttpServletRequest request) {
+        Map<String, String> variables =
+                (Map<String, String>) request.getAttribute(HandlerMapping.URI_TEMPLATE_VARIABLES_ATTRIBUTE);
+        String value = variables == null ? null : variables.get(PRODUCT_ID);
+        if (value == null) {
+            return null;
+        }
+        try {
+            return Long.valueOf(value);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+}
@@ -0,0 +1,24 @@
+package com.example.finance7.product.ranking;
+
+import com.example.finance7.product.entity.ProductType;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.Comparator;
+
+@Getter
+@RequiredArgsConstructor
+public class RankedProduct {
+
+    static final Comparator<RankedProduct> ORDER = Comparator.comparingLong(RankedProduct::getScore)
+            .reversed()
+            .thenComparing(RankedProduct::getProductId);
+
+    private final Long productId;
+    private final ProductType type;
+    /**
+     * 구간 안의 추정 횟수. count-min sketch 추정이라 실제보다 작지 않다.
+     */
+    private final long score;
+
+}
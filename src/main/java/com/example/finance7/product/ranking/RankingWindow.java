@@ -0,0 +1,26 @@
+package com.example.finance7.product.ranking;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.time.Duration;
+
+/**
+ * 순위 집계 구간. 구간을 {@code bucketCount} 개의 버킷으로 나누고 버킷 하나가 {@code bucketMinutes} 분을 맡는다.
+ * 버킷 단위로 밀려나므로 실제 집계 범위는 구간 길이보다 최대 버킷 하나만큼 짧을 수 있다.
+ */
+@Getter
+@RequiredArgsConstructor
+public enum RankingWindow {
+
+    HOUR(60, 1),
+    DAY(24, 60);
+
+    private final int bucketCount;
+    private final int bucketMinutes;
+
+    public Duration duration() {
+        return Duration.ofMinutes((long) bucketCount * bucketMinutes);
+    }
+
+}
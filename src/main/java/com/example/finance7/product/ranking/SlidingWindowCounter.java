@@ -0,0 +1,42 @@
+package com.example.finance7.product.ranking;
+
+import com.example.finance7.global.sketch.CountMinSketch;
+
+/**
+ * 시간 버킷마다 count-min sketch 를 두고, 살아 있는 버킷의 합을 {@code total} 스케치로 따로 유지한다.
+ * 조회는 합계 스케치 한 번으로 끝나고, 버킷이 밀려날 때만 그 버킷을 합계에서 뺀다.
+ * <p>
+ * 더하기/조회는 락 없이 여러 스레드가 부르고, {@link #advance()} 는 스케줄러 한 스레드만 부른다.
+ * 비우는 버킷은 현재 버킷 바로 다음(가장 오래된) 버킷이라 쓰는 중인 버킷과 겹치지 않는다.
+ */
+final class SlidingWindowCounter {
+
+    private final CountMinSketch[] buckets;
+    private final CountMinSketch total;
+    private volatile int current;
+
+    SlidingWindowCounter(int bucketCount, int width, int depth) {
+        this.buckets = new CountMinSketch[bucketCount];
+        for (int i = 0; i < bucketCount; i++) {
+            buckets[i] = new CountMinSketch(width, depth);
+        }
+        this.total = new CountMinSketch(width, depth);
+    }
+
+    void add(long key) {
+        buckets[current].add(key, 1);
+        total.add(key, 1);
+    }
+
+    long estimate(long key) {
+        return total.estimate(key);
+    }
+
+    void advance() {
+        int next = (current + 1) % buckets.length;
+        total.subtract(buckets[next]);
+        buckets[next].clear();
+        current = next;
+    }
+
+}
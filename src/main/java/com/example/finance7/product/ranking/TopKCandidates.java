@@ -0,0 +1,89 @@
+package com.example.finance7.product.ranking;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongUnaryOperator;
+
+/**
+ * 순위에 오를 수 있는 상품 ID 후보. 점수는 들고 있지 않고 필요할 때 스케치에서 다시 추정한다.
+ * <p>
+ * 이미 후보이거나, 후보가 꽉 찼는데 추정값이 가장 약한 후보({@code admissionThreshold}) 이하인 상품은 락 없이 돌아간다.
+ * 그 밖의 경우에만 락을 잡고 가장 약한 후보와 바꾼다. 후보 수를 보여 줄 순위보다 넉넉히 잡아
+ * 추정 오차나 구간 이동으로 순서가 뒤바뀌어도 실제 상위 상품이 후보에서 빠지지 않게 한다.
+ */
+final class TopKCandidates {
+
+    private final int capacity;
+    private final Set<Long> ids = ConcurrentHashMap.newKeySet();
+    private final ReentrantLock lock = new ReentrantLock();
+    private volatile long admissionThreshold;
+
+    TopKCandidates(int capacity) {
+        this.capacity = capacity;
+    }
+
+    void offer(long productId, long estimate, LongUnaryOperator estimator) {
+        if (ids.contains(productId) || (ids.size() >= capacity && estimate <= admissionThreshold)) {
+            return;
+        }
+        lock.lock();
+        try {
+            if (ids.contains(productId)) {
+                return;
+            }
+            if (ids.size() < capacity) {
+                ids.add(productId);
+                return;
+            }
+            long weakestId = -1;
+            long weakest = Long.MAX_VALUE;
+            long secondWeakest = Long.MAX_VALUE;
+            for (long id : ids) {
+                long current = estimator.applyAsLong(id);
+                if (current < weakest) {
+                    secondWeakest = weakest;
+                    weakest = current;
+                    weakestId = id;
+                } else if (current < secondWeakest) {
+                    secondWeakest = current;
+                }
+            }
+            if (estimate > weakest) {
+                ids.remove(weakestId);
+                ids.add(productId);
+                admissionThreshold = Math.min(estimate, secondWeakest);
+            } else {
+                admissionThreshold = weakest;
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 구간이 밀려 추정값이 줄어든 뒤 부른다. 0 이 된 후보를 빼고 가장 약한 후보 기준을 다시 잡는다.
+     */
+    void prune(LongUnaryOperator estimator) {
+        lock.lock();
+        try {
+            long weakest = Long.MAX_VALUE;
+            for (Long id : ids) {
+                long current = estimator.applyAsLong(id);
+                if (current == 0) {
+                    ids.remove(id);
+                } else {
+                    weakest = Math.min(weakest, current);
+                }
+            }
+            admissionThreshold = ids.size() < capacity ? 0 : weakest;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    Set<Long> ids() {
+        return ids;
+    }
+
+}
@@ -0,0 +1,22 @@
+package com.example.finance7.product.repository;
+
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+import java.time.LocalDateTime;
+
+/**
+ * 상품 수와 마지막 수정 시각. 추가/수정은 수정 시각을, 삭제는 상품 수를 바꾸므로 이 값이 같으면 카탈로그가 그대로다.
+ */
+@Getter
+@ToString
+@EqualsAndHashCode
+@RequiredArgsConstructor
+public class ProductCatalogFingerprint {
+
+    private final long count;
+    private final LocalDateTime lastUpdatedAt;
+
+}
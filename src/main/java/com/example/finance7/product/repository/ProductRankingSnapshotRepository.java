@@ -0,0 +1,28 @@
+package com.example.finance7.product.repository;
+
+import com.example.finance7.product.entity.ProductRankingSnapshot;
+import com.example.finance7.product.ranking.ProductActivity;
+import com.example.finance7.product.ranking.RankingWindow;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface ProductRankingSnapshotRepository extends JpaRepository<ProductRankingSnapshot, Long> {
+
+    @Query("select max(s.capturedAt) from ProductRankingSnapshot s"
+            + " where s.activity = :activity and s.window = :window")
+    LocalDateTime findLatestCapturedAt(@Param("activity") ProductActivity activity,
+                                       @Param("window") RankingWindow window);
+
+    List<ProductRankingSnapshot> findByActivityAndWindowAndCapturedAt(ProductActivity activity, RankingWindow window,
+                                                                      LocalDateTime capturedAt);
+
+    @Modifying
+    @Query("delete from ProductRankingSnapshot s where s.capturedAt < :before")
+    int deleteCapturedBefore(@Param("before") LocalDateTime before);
+
+}
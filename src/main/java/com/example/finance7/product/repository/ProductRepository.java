@@ -0,0 +1,29 @@
+package com.example.finance7.product.repository;
+
+import com.example.finance7.global.pagination.KeysetRepository;
+import com.example.finance7.product.entity.Product;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+
+import javax.persistence.QueryHint;
+import java.util.stream.Stream;
+
+public interface ProductRepository extends JpaRepository<Product, Long>, KeysetRepository<Product> {
+
+    /**
+     * 내보내기용 전체 상품 스트림. 트랜잭션 안에서 소비하고 반드시 닫아야 한다.
+     * fetch size 를 주면 MariaDB 드라이버가 결과를 한 번에 모두 받지 않고 나누어 읽는다.
+     */
+    @QueryHints({
+            @QueryHint(name = org.hibernate.jpa.QueryHints.HINT_FETCH_SIZE, value = "1000"),
+            @QueryHint(name = org.hibernate.jpa.QueryHints.HINT_READONLY, value = "true")
+    })
+    @Query("select p from Product p order by p.id")
+    Stream<Product> streamAll();
+
+    @Query("select new com.example.finance7.product.repository.ProductCatalogFingerprint(count(p), max(p.updatedAt))"
+            + " from Product p")
+    ProductCatalogFingerprint fingerprint();
+
+}
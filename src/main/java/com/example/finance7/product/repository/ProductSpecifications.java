@@ -0,0 +1,16 @@
+package com.example.finance7.product.repository;
+
+import com.example.finance7.product.entity.Product;
+import com.example.finance7.product.entity.ProductType;
+import org.springframework.data.jpa.domain.Specification;
+
+public final class ProductSpecifications {
+
+    private ProductSpecifications() {
+    }
+
+    public static Specification<Product> typeEquals(ProductType type) {
+        return (root, query, builder) -> type == null ? null : builder.equal(root.get("type"), type);
+    }
+
+}
@@ -0,0 +1,84 @@
+package com.example.finance7.product.search;
+
+import com.example.finance7.product.entity.Product;
+import com.example.finance7.product.entity.ProductType;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * 색인에 올라가는 상품의 불변 스냅샷. 검색 응답은 이 객체만으로 만들어지므로 DB 를 다시 조회하지 않는다.
+ */
+@Getter
+public class ProductDocument {
+
+    private final Long id;
+    private final String name;
+    private final String bankName;
+    private final ProductType type;
+    private final BigDecimal interestRate;
+    private final List<String> tags;
+
+    private final String normalizedName;
+    private final String normalizedBankName;
+    private final String normalizedCategory;
+    private final String normalizedTags;
+
+    public ProductDocument(Long id, String name, String bankName, ProductType type, BigDecimal interestRate,
+                           List<String> tags) {
+        this.id = id;
+        this.name = name;
+        this.bankName = bankName;
+        this.type = type;
+        this.interestRate = interestRate;
+        this.tags = List.copyOf(tags);
+        this.normalizedName = normalize(name);
+        this.normalizedBankName = normalize(bankName);
+        this.normalizedCategory = type == null ? "" : normalize(type.name() + " " + type.getDescription());
+        this.normalizedTags = normalize(String.join(" ", tags));
+    }
+
+    public static ProductDocument from(Product product) {
+        return new ProductDocument(product.getId(), product.getName(), product.getBankName(), product.getType(),
+                product.getInterestRate(), product.getTagList());
+    }
+
+    Set<String> terms() {
+        Set<String> terms = ProductTokenizer.indexTerms(name);
+        terms.addAll(ProductTokenizer.indexTerms(bankName));
+        terms.addAll(ProductTokenizer.indexTerms(normalizedCategory));
+        terms.addAll(ProductTokenizer.indexTerms(normalizedTags));
+        return terms;
+    }
+
+    String bankKey() {
+        return normalizedBankName;
+    }
+
+    int score(List<String> queryTokens) {
+        int score = 0;
+        for (String token : queryTokens) {
+            if (normalizedName.contains(token)) {
+                score += normalizedName.startsWith(token) ? 4 : 3;
+            }
+            if (normalizedBankName.contains(token)) {
+                score += 2;
+            }
+            if (normalizedTags.contains(token)) {
+                score += 2;
+            }
+            if (normalizedCategory.contains(token)) {
+                score += 1;
+            }
+        }
+        return score;
+    }
+
+    private static String normalize(String text) {
+        return text == null ? "" : text.toLowerCase(Locale.ROOT);
+    }
+
+}
@@ -0,0 +1,26 @@
+package com.example.finance7.product.search;
+
+import com.example.finance7.product.entity.ProductType;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class ProductSearchCondition {
+
+    public static final int DEFAULT_SIZE = 20;
+    public static final int MAX_SIZE = 100;
+
+    private final String keyword;
+    private final ProductType type;
+    private final String bankName;
+    private final int size;
+
+    public int limit() {
+        if (size <= 0) {
+            return DEFAULT_SIZE;
+        }
+        return Math.min(size, MAX_SIZE);
+    }
+
+}
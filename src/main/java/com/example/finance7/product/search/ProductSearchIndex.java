@@ -0,0 +1,195 @@
+package com.example.finance7.product.search;
+
+import com.example.finance7.product.entity.ProductType;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.PriorityQueue;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 상품 역색인. 문서마다 고정 슬롯 번호를 부여하고, 색인어/은행/상품 유형별로 슬롯 {@link BitSet} 을 유지한다.
+ * 조회는 BitSet AND 연산으로 후보를 좁힌 뒤 상위 N 개만 점수로 정렬한다.
+ * 쓰기는 상품 변경 이벤트마다 한 건씩 반영되므로 read-write lock 으로 충분하다.
+ */
+@Component
+public class ProductSearchIndex {
+
+    private static final Comparator<Hit> HIT_ORDER = Comparator.comparingInt(Hit::getScore)
+            .thenComparing(hit -> hit.getDocument().getId(), Comparator.reverseOrder());
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private final Map<Long, Integer> slotById = new HashMap<>();
+    private ProductDocument[] documents = new ProductDocument[256];
+    private final BitSet live = new BitSet();
+
+    private final NavigableMap<String, BitSet> postings = new TreeMap<>();
+    private final Map<ProductType, BitSet> typePostings = new EnumMap<>(ProductType.class);
+    private final Map<String, BitSet> bankPostings = new HashMap<>();
+
+    public void rebuild(Collection<ProductDocument> snapshot) {
+        lock.writeLock().lock();
+        try {
+            slotById.clear();
+            documents = new ProductDocument[Math.max(256, snapshot.size() * 2)];
+            live.clear();
+            postings.clear();
+            typePostings.clear();
+            bankPostings.clear();
+            for (ProductDocument document : snapshot) {
+                add(document);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void upsert(ProductDocument document) {
+        lock.writeLock().lock();
+        try {
+            remove(document.getId());
+            add(document);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void delete(Long productId) {
+        lock.writeLock().lock();
+        try {
+            remove(productId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return slotById.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public List<ProductDocument> search(ProductSearchCondition condition) {
+        List<String> queryTokens = ProductTokenizer.tokenize(condition.getKeyword());
+        lock.readLock().lock();
+        try {
+            BitSet candidates = (BitSet) live.clone();
+            if (condition.getType() != null) {
+                candidates.and(postingOrEmpty(typePostings.get(condition.getType())));
+            }
+            if (condition.getBankName() != null && !condition.getBankName().isBlank()) {
+                candidates.and(postingOrEmpty(bankPostings.get(condition.getBankName().trim().toLowerCase(Locale.ROOT))));
+            }
+            for (String token : queryTokens) {
+                if (candidates.isEmpty()) {
+                    break;
+                }
+                candidates.and(prefixUnion(token));
+            }
+            return topN(candidates, queryTokens, condition.limit());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private List<ProductDocument> topN(BitSet candidates, List<String> queryTokens, int limit) {
+        PriorityQueue<Hit> heap = new PriorityQueue<>(limit + 1, HIT_ORDER);
+        for (int slot = candidates.nextSetBit(0); slot >= 0; slot = candidates.nextSetBit(slot + 1)) {
+            ProductDocument document = documents[slot];
+            heap.offer(new Hit(document, document.score(queryTokens)));
+            if (heap.size() > limit) {
+                heap.poll();
+            }
+        }
+        ProductDocument[] result = new ProductDocument[heap.size()];
+        for (int i = result.length - 1; i >= 0; i--) {
+            result[i] = heap.poll().getDocument();
+        }
+        return Arrays.asList(result);
+    }
+
+    private BitSet prefixUnion(String prefix) {
+        BitSet union = new BitSet();
+        for (BitSet posting : postings.subMap(prefix, true, prefix + Character.MAX_VALUE, false).values()) {
+            union.or(posting);
+        }
+        return union;
+    }
+
+    private void add(ProductDocument document) {
+        int slot = live.nextClearBit(0);
+        if (slot >= documents.length) {
+            documents = Arrays.copyOf(documents, documents.length * 2);
+        }
+        documents[slot] = document;
+        live.set(slot);
+        slotById.put(document.getId(), slot);
+
+        for (String term : document.terms()) {
+            postings.computeIfAbsent(term, key -> new BitSet()).set(slot);
+        }
+        if (document.getType() != null) {
+            typePostings.computeIfAbsent(document.getType(), key -> new BitSet()).set(slot);
+        }
+        bankPostings.computeIfAbsent(document.bankKey(), key -> new BitSet()).set(slot);
+    }
+
+    private void remove(Long productId) {
+        Integer slot = slotById.remove(productId);
+        if (slot == null) {
+            return;
+        }
+        ProductDocument document = documents[slot];
+        documents[slot] = null;
+        live.clear(slot);
+
+        for (String term : document.terms()) {
+            clear(postings, term, slot);
+        }
+        if (document.getType() != null) {
+            clear(typePostings, document.getType(), slot);
+        }
+        clear(bankPostings, document.bankKey(), slot);
+    }
+
+    private static <K> void clear(Map<K, BitSet> postingMap, K key, int slot) {
+        BitSet posting = postingMap.get(key);
+        if (posting == null) {
+            return;
+        }
+        posting.clear(slot);
+        if (posting.isEmpty()) {
+            postingMap.remove(key);
+        }
+    }
+
+    private static BitSet postingOrEmpty(BitSet posting) {
+        return posting == null ? new BitSet() : posting;
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    private static final class Hit {
+
+        private final ProductDocument document;
+        private final int score;
+
+    }
+
+}
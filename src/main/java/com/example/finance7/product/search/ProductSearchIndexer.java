@@ -0,0 +1,61 @@
+package com.example.finance7.product.search;
+
+import com.example.finance7.product.event.ProductCatalogReloadedEvent;
+import com.example.finance7.product.event.ProductChangedEvent;
+import com.example.finance7.product.event.ProductsImportedEvent;
+import com.example.finance7.product.repository.ProductRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ProductSearchIndexer {
+
+    private final ProductRepository productRepository;
+    private final ProductSearchIndex productSearchIndex;
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void warmUp() {
+        List<ProductDocument> documents = productRepository.findAll().stream()
+                .map(ProductDocument::from)
+                .collect(Collectors.toList());
+        productSearchIndex.rebuild(documents);
+        log.info("product search index loaded: {} documents", documents.size());
+    }
+
+    @Order(ProductChangedEvent.REFRESH_ORDER)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProductChanged(ProductChangedEvent event) {
+        if (event.isDeleted()) {
+            productSearchIndex.delete(event.getProduct().getId());
+        } else {
+            productSearchIndex.upsert(ProductDocument.from(event.getProduct()));
+        }
+    }
+
+    @Order(ProductChangedEvent.REFRESH_ORDER)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProductsImported(ProductsImportedEvent event) {
+        event.getProducts().forEach(product -> productSearchIndex.upsert(ProductDocument.from(product)));
+    }
+
+    @Order(ProductChangedEvent.REFRESH_ORDER)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCatalogReloaded(ProductCatalogReloadedEvent event) {
+        productSearchIndex.rebuild(event.getProducts().stream()
+                .map(ProductDocument::from)
+                .collect(Collectors.toList()));
+    }
+
+}
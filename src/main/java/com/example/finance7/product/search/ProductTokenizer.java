@@ -0,0 +1,54 @@
+package com.example.finance7.product.search;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * 공백/기호 기준으로 토큰을 나누고 소문자로 정규화한다.
+ * 한글 상품명은 띄어쓰기 없이 붙어 있는 경우가 많아("카카오뱅크자유적금") 색인 시 각 토큰의 접미사도 함께 넣어
+ * 접두사 조회만으로 부분 일치(LIKE '%키워드%')를 흉내 낸다.
+ */
+final class ProductTokenizer {
+
+    private static final int MIN_SUFFIX_LENGTH = 2;
+
+    private ProductTokenizer() {
+    }
+
+    static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        if (text == null) {
+            return tokens;
+        }
+        int start = -1;
+        for (int i = 0; i < text.length(); i++) {
+            if (Character.isLetterOrDigit(text.charAt(i))) {
+                if (start < 0) {
+                    start = i;
+                }
+            } else if (start >= 0) {
+                tokens.add(text.substring(start, i).toLowerCase(Locale.ROOT));
+                start = -1;
+            }
+        }
+        if (start >= 0) {
+            tokens.add(text.substring(start).toLowerCase(Locale.ROOT));
+        }
+        return tokens;
+    }
+
+    static Set<String> indexTerms(String text) {
+        Set<String> terms = new LinkedHashSet<>();
+        for (String token : tokenize(text)) {
+            terms.add(token);
+            for (int i = 1; i <= token.length() - MIN_SUFFIX_LENGTH; i++) {
+                terms.add(token.substring(i));
+            }
+        }
+        return terms;
+    }
+
+}
@@ -0,0 +1,125 @@
+package com.example.finance7.product.service;
+
+import com.example.finance7.global.cache.CacheType;
+import com.example.finance7.global.error.BusinessException;
+import com.example.finance7.global.error.ErrorCode;
+import com.example.finance7.global.pagination.CursorPage;
+import com.example.finance7.global.pagination.CursorRequest;
+import com.example.finance7.global.pagination.KeysetQuery;
+import com.example.finance7.product.autocomplete.ProductAutocompleteIndex;
+import com.example.finance7.product.autocomplete.ProductSuggestion;
+import com.example.finance7.product.dto.ProductRankingResponse;
+import com.example.finance7.product.dto.ProductResponse;
+import com.example.finance7.product.entity.Product;
+import com.example.finance7.product.entity.ProductSortType;
+import com.example.finance7.product.entity.ProductType;
+import com.example.finance7.product.ranking.ProductActivity;
+import com.example.finance7.product.ranking.ProductRanking;
+import com.example.finance7.product.ranking.ProductRankingSnapshotter;
+import com.example.finance7.product.ranking.RankedProduct;
+import com.example.finance7.product.ranking.RankingWindow;
+import com.example.finance7.product.repository.ProductRepository;
+import com.example.finance7.product.repository.ProductSpecifications;
+import com.example.finance7.product.search.ProductSearchCondition;
+import com.example.finance7.product.search.ProductSearchIndex;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class ProductService {
+
+    private final ProductRepository productRepository;
+    private final ProductSearchIndex productSearchIndex;
+    private final ProductAutocompleteIndex productAutocompleteIndex;
+    private final ProductRanking productRanking;
+    private final ProductRankingSnapshotter productRankingSnapshotter;
+
+    /**
+     * 캐시를 채우는 조회는 프라이머리에서 읽는다. 레플리카에서 읽으면 커밋 직후 비운 캐시에
+     * 아직 복제되지 않은 이전 값이 다시 들어가 만료 시간 내내 남는다.
+     */
+    @Cacheable(cacheNames = CacheType.Names.PRODUCT, key = "#productId")
+    @Transactional
+    public ProductResponse getProduct(Long productId) {
+        return productRepository.findById(productId)
+                .map(ProductResponse::from)
+                .orElseThrow(() -> new BusinessException(ErrorCode.PRODUCT_NOT_FOUND));
+    }
+
+    /**
+     * 없으면 예외 대신 빈 값을 돌려주는 {@link #getProduct(Long)}. 다른 트랜잭션 안에서 불려도 예외로
+     * 그 트랜잭션을 롤백 전용으로 만들지 않는다. 같은 캐시를 쓰며, 없는 상품은 캐시하지 않는다.
+     */
+    @Cacheable(cacheNames = CacheType.Names.PRODUCT, key = "#productId", unless = "#result == null")
+    @Transactional
+    public Optional<ProductResponse> findProduct(Long productId) {
+        return productRepository.findById(productId).map(ProductResponse::from);
+    }
+
+    @Cacheable(cacheNames = CacheType.Names.PRODUCT_LIST,
+            key = "(#type == null ? 'ALL' : #type.name()) + ':' + #sortType.name() + ':' + #request.cacheKey()")
+    @Transactional
+    public CursorPage<ProductResponse> getProducts(ProductType type, ProductSortType sortType, CursorRequest request) {
+        KeysetQuery<Product> query = KeysetQuery.<Product>builder()
+                .domainClass(Product.class)
+                .sortAttribute(sortType.getAttribute())
+                .direction(sortType.getDirection())
+                .specification(ProductSpecifications.typeEquals(type))
+                .cursorRequest(request)
+                .build();
+        return productRepository.findPage(query).map(ProductResponse::from);
+    }
+
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public List<ProductResponse> search(ProductSearchCondition condition) {
+        return productSearchIndex.search(condition).stream()
+                .map(ProductResponse::from)
+                .collect(Collectors.toList());
+    }
+
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public List<ProductSuggestion> autocomplete(String query, int size) {
+        return productAutocompleteIndex.suggest(query, Math.min(size, ProductAutocompleteIndex.MAX_SUGGESTIONS));
+    }
+
+    /**
+     * 최근 구간의 인기 상품. 메모리 집계가 비어 있으면(재기동 직후) 구간 안에 남긴 최근 스냅샷으로 답한다.
+     * 순위에 오른 상품만 한 번에 읽고, 그새 삭제된 상품은 건너뛴다.
+     */
+    public List<ProductRankingResponse> getRankings(ProductActivity activity, RankingWindow window, ProductType type,
+                                                    int size) {
+        int limit = Math.max(1, Math.min(size, ProductRanking.MAX_SIZE));
+        List<RankedProduct> ranked = productRanking.top(activity, window, type, limit);
+        if (ranked.isEmpty()) {
+            ranked = productRankingSnapshotter.latest(activity, window, type, limit);
+        }
+        if (ranked.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, Product> products = productRepository.findAllById(
+                        ranked.stream().map(RankedProduct::getProductId).collect(Collectors.toList())).stream()
+                .collect(Collectors.toMap(Product::getId, Function.identity()));
+        List<ProductRankingResponse> result = new ArrayList<>(ranked.size());
+        for (RankedProduct rankedProduct : ranked) {
+            Product product = products.get(rankedProduct.getProductId());
+            if (product != null) {
+                result.add(new ProductRankingResponse(result.size() + 1, rankedProduct.getScore(),
+                        ProductResponse.from(product)));
+            }
+        }
+        return result;
+    }
+
+}
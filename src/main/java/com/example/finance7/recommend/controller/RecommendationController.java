@@ -0,0 +1,31 @@
+package com.example.finance7.recommend.controller;
+
+import com.example.finance7.auth.token.AuthenticatedMember;
+import com.example.finance7.auth.web.LoginMember;
+import com.example.finance7.product.entity.ProductType;
+import com.example.finance7.recommend.dto.RecommendationResponse;
+import com.example.finance7.recommend.service.RecommendationService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@RequiredArgsConstructor
+public class RecommendationController {
+
+    private final RecommendationService recommendationService;
+
+    @GetMapping("/api/members/{memberId}/recommendations")
+    public List<RecommendationResponse> recommend(@LoginMember AuthenticatedMember member,
+                                                  @PathVariable Long memberId,
+                                                  @RequestParam(required = false) ProductType type,
+                                                  @RequestParam(defaultValue = "10") int size) {
+        member.requireSelf(memberId);
+        return recommendationService.recommend(memberId, type, size);
+    }
+
+}
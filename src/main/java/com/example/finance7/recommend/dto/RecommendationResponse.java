@@ -0,0 +1,37 @@
+package com.example.finance7.recommend.dto;
+
+import com.example.finance7.product.entity.InterestType;
+import com.example.finance7.product.entity.ProductType;
+import com.example.finance7.recommend.engine.ProductProfile;
+import com.example.finance7.recommend.engine.Recommendation;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+
+@Getter
+@Builder
+public class RecommendationResponse {
+
+    private final Long productId;
+    private final String name;
+    private final String bankName;
+    private final ProductType type;
+    private final InterestType interestType;
+    private final BigDecimal interestRate;
+    private final double score;
+
+    public static RecommendationResponse from(Recommendation recommendation) {
+        ProductProfile product = recommendation.getProduct();
+        return RecommendationResponse.builder()
+                .productId(product.getId())
+                .name(product.getName())
+                .bankName(product.getBankName())
+                .type(product.getType())
+                .interestType(product.getInterestType())
+                .interestRate(product.getInterestRate())
+                .score(recommendation.getScore())
+                .build();
+    }
+
+}
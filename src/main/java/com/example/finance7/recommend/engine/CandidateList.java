@@ -0,0 +1,72 @@
+package com.example.finance7.recommend.engine;
+
+/**
+ * 기본 점수 내림차순으로 정렬된 불변 후보 목록. 변경 시에는 새 배열을 만들어 교체한다.
+ */
+final class CandidateList {
+
+    static final CandidateList EMPTY = new CandidateList(new ProductProfile[0], new double[0]);
+
+    private final ProductProfile[] products;
+    private final double[] scores;
+
+    CandidateList(ProductProfile[] products, double[] scores) {
+        this.products = products;
+        this.scores = scores;
+    }
+
+    int size() {
+        return products.length;
+    }
+
+    ProductProfile productAt(int index) {
+        return products[index];
+    }
+
+    double scoreAt(int index) {
+        return scores[index];
+    }
+
+    int indexOf(Long productId) {
+        for (int i = 0; i < products.length; i++) {
+            if (products[i].getId().equals(productId)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    CandidateList without(int index) {
+        ProductProfile[] nextProducts = new ProductProfile[products.length - 1];
+        double[] nextScores = new double[scores.length - 1];
+        System.arraycopy(products, 0, nextProducts, 0, index);
+        System.arraycopy(products, index + 1, nextProducts, index, products.length - index - 1);
+        System.arraycopy(scores, 0, nextScores, 0, index);
+        System.arraycopy(scores, index + 1, nextScores, index, scores.length - index - 1);
+        return new CandidateList(nextProducts, nextScores);
+    }
+
+    /**
+     * 점수 순서를 유지하며 삽입한다. 용량을 넘으면 가장 낮은 후보를 버리고, 들어갈 자리가 없으면 그대로 반환한다.
+     */
+    CandidateList with(ProductProfile product, double score, int capacity) {
+        int position = 0;
+        while (position < scores.length && scores[position] >= score) {
+            position++;
+        }
+        if (position >= capacity) {
+            return this;
+        }
+        int nextSize = Math.min(products.length + 1, capacity);
+        ProductProfile[] nextProducts = new ProductProfile[nextSize];
+        double[] nextScores = new double[nextSize];
+        System.arraycopy(products, 0, nextProducts, 0, position);
+        System.arraycopy(scores, 0, nextScores, 0, position);
+        nextProducts[position] = product;
+        nextScores[position] = score;
+        System.arraycopy(products, position, nextProducts, position + 1, nextSize - position - 1);
+        System.arraycopy(scores, position, nextScores, position + 1, nextSize - position - 1);
+        return new CandidateList(nextProducts, nextScores);
+    }
+
+}
@@ -0,0 +1,27 @@
+package com.example.finance7.recommend.engine;
+
+import com.example.finance7.member.entity.Job;
+import com.example.finance7.member.entity.Member;
+import com.example.finance7.product.entity.InterestType;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public final class MemberProfile {
+
+    private final int age;
+    private final long annualIncome;
+    private final Job job;
+    private final InterestType preferredInterestType;
+
+    public static MemberProfile from(Member member) {
+        return new MemberProfile(member.getAge(), member.getAnnualIncome(), member.getJob(),
+                member.getPreferredInterestType());
+    }
+
+    public MemberSegment segment() {
+        return MemberSegment.of(age, annualIncome, job);
+    }
+
+}
@@ -0,0 +1,66 @@
+package com.example.finance7.recommend.engine;
+
+import com.example.finance7.member.entity.Job;
+import lombok.Getter;
+
+/**
+ * 나이대 x 소득 구간 x 직업으로 나눈 회원 세그먼트. 후보 목록은 세그먼트 단위로 미리 계산된다.
+ */
+@Getter
+public final class MemberSegment {
+
+    private static final int[] AGE_BOUNDS = {0, 20, 30, 40, 50, 60};
+    private static final int MAX_AGE = 150;
+    private static final long[] INCOME_BOUNDS = {0L, 30_000_000L, 50_000_000L, 80_000_000L};
+
+    static final int SEGMENT_COUNT = AGE_BOUNDS.length * INCOME_BOUNDS.length * Job.values().length;
+
+    private final int key;
+    private final int minAge;
+    private final int maxAge;
+    private final long minIncome;
+    private final long maxIncome;
+    private final Job job;
+
+    private MemberSegment(int ageBucket, int incomeBucket, Job job) {
+        this.key = (ageBucket * INCOME_BOUNDS.length + incomeBucket) * Job.values().length + job.ordinal();
+        this.minAge = AGE_BOUNDS[ageBucket];
+        this.maxAge = ageBucket + 1 < AGE_BOUNDS.length ? AGE_BOUNDS[ageBucket + 1] - 1 : MAX_AGE;
+        this.minIncome = INCOME_BOUNDS[incomeBucket];
+        this.maxIncome = incomeBucket + 1 < INCOME_BOUNDS.length ? INCOME_BOUNDS[incomeBucket + 1] - 1 : Long.MAX_VALUE;
+        this.job = job;
+    }
+
+    public static MemberSegment of(int age, long annualIncome, Job job) {
+        return new MemberSegment(bucket(age), bucket(annualIncome), job == null ? Job.UNEMPLOYED : job);
+    }
+
+    static MemberSegment fromKey(int key) {
+        int jobCount = Job.values().length;
+        int job = key % jobCount;
+        int incomeBucket = (key / jobCount) % INCOME_BOUNDS.length;
+        int ageBucket = key / jobCount / INCOME_BOUNDS.length;
+        return new MemberSegment(ageBucket, incomeBucket, Job.values()[job]);
+    }
+
+    boolean overlapsAge(int from, int to) {
+        return minAge <= to && from <= maxAge;
+    }
+
+    private static int bucket(int age) {
+        int bucket = 0;
+        while (bucket + 1 < AGE_BOUNDS.length && age >= AGE_BOUNDS[bucket + 1]) {
+            bucket++;
+        }
+        return bucket;
+    }
+
+    private static int bucket(long annualIncome) {
+        int bucket = 0;
+        while (bucket + 1 < INCOME_BOUNDS.length && annualIncome >= INCOME_BOUNDS[bucket + 1]) {
+            bucket++;
+        }
+        return bucket;
+    }
+
+}
@@ -0,0 +1,65 @@
+package com.example.finance7.recommend.engine;
+
+import com.example.finance7.product.entity.InterestType;
+import com.example.finance7.product.entity.Product;
+import com.example.finance7.product.entity.ProductType;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+import java.util.Set;
+
+/**
+ * 추천 점수 계산에 필요한 상품 속성의 불변 스냅샷.
+ */
+@Getter
+public final class ProductProfile {
+
+    private final Long id;
+    private final String name;
+    private final String bankName;
+    private final ProductType type;
+    private final InterestType interestType;
+    private final BigDecimal interestRate;
+    private final int interestRateBp;
+    private final int minAge;
+    private final int maxAge;
+    private final long minIncome;
+    private final Set<String> tags;
+
+    @Builder
+    private ProductProfile(Long id, String name, String bankName, ProductType type, InterestType interestType,
+                           BigDecimal interestRate, Integer minAge, Integer maxAge, Long minIncome, Set<String> tags) {
+        this.id = id;
+        this.name = name;
+        this.bankName = bankName;
+        this.type = type;
+        this.interestType = interestType;
+        this.interestRate = interestRate;
+        this.interestRateBp = interestRate == null ? 0 : interestRate.movePointRight(2).intValue();
+        this.minAge = minAge == null ? 0 : minAge;
+        this.maxAge = maxAge == null ? Integer.MAX_VALUE : maxAge;
+        this.minIncome = minIncome == null ? 0L : minIncome;
+        this.tags = tags == null ? Set.of() : Set.copyOf(tags);
+    }
+
+    public static ProductProfile from(Product product) {
+        return ProductProfile.builder()
+                .id(product.getId())
+                .name(product.getName())
+                .bankName(product.getBankName())
+                .type(product.getType())
+                .interestType(product.getInterestType())
+                .interestRate(product.getInterestRate())
+                .minAge(product.getMinAge())
+                .maxAge(product.getMaxAge())
+                .minIncome(product.getMinIncome())
+                .tags(Set.copyOf(product.getTagList()))
+                .build();
+    }
+
+    boolean accepts(int age, long annualIncome) {
+        return minAge <= age && age <= maxAge && annualIncome >= minIncome;
+    }
+
+}
@@ -0,0 +1,13 @@
+package com.example.finance7.recommend.engine;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public final class Recommendation {
+
+    private final ProductProfile product;
+    private final double score;
+
+}
@@ -0,0 +1,226 @@
+package com.example.finance7.recommend.engine;
+
+import com.example.finance7.product.entity.ProductType;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 회원 세그먼트별로 상품 유형마다 상위 후보를 미리 계산해 두고, 요청 시에는 그 후보만 회원 정보로 재정렬한다.
+ * <p>
+ * 후보 목록은 불변 배열이라 조회는 락 없이 읽고, 상품/회원 변경은 {@code writeLock} 아래에서 바뀐 상품 한 건만
+ * 각 세그먼트 목록에 반영한다. 회원이 한 명도 없는 세그먼트는 목록을 유지하지 않는다.
+ * 전체 재계산이 길어질 수 있어 모니터 대신 {@link ReentrantLock} 을 써서 대기 중인 가상 스레드가 캐리어 스레드를 붙잡지 않게 한다.
+ */
+@Component
+public class RecommendationEngine {
+
+    static final int CANDIDATES_PER_TYPE = 30;
+
+    private static final ProductType[] TYPES = ProductType.values();
+    private static final Comparator<Recommendation> SCORE_ORDER = Comparator.comparingDouble(Recommendation::getScore);
+
+    private final ReentrantLock writeLock = new ReentrantLock();
+    private final Map<Long, ProductProfile> catalog = new ConcurrentHashMap<>();
+    private final Map<Integer, CandidateList[]> segments = new ConcurrentHashMap<>();
+    private final Map<Long, Integer> memberSegments = new HashMap<>();
+    private final Map<Integer, Integer> segmentPopulation = new HashMap<>();
+
+    public List<Recommendation> recommend(MemberProfile member, ProductType type, int limit) {
+        CandidateList[] lists = candidates(member.segment());
+        PriorityQueue<Recommendation> heap = new PriorityQueue<>(limit + 1, SCORE_ORDER);
+        for (ProductType candidateType : TYPES) {
+            if (type != null && type != candidateType) {
+                continue;
+            }
+            CandidateList list = lists[candidateType.ordinal()];
+            for (int i = 0; i < list.size(); i++) {
+                double score = RecommendationScorer.personalScore(list.productAt(i), list.scoreAt(i), member);
+                if (score == RecommendationScorer.INELIGIBLE) {
+                    continue;
+                }
+                heap.offer(new Recommendation(list.productAt(i), score));
+                if (heap.size() > limit) {
+                    heap.poll();
+                }
+            }
+        }
+        Recommendation[] result = new Recommendation[heap.size()];
+        for (int i = result.length - 1; i >= 0; i--) {
+            result[i] = heap.poll();
+        }
+        return List.of(result);
+    }
+
+    public void loadProducts(Collection<ProductProfile> products) {
+        writeLock.lock();
+        try {
+            catalog.clear();
+            for (ProductProfile product : products) {
+                catalog.put(product.getId(), product);
+            }
+            segments.replaceAll((key, lists) -> build(MemberSegment.fromKey(key)));
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    public void upsertProduct(ProductProfile product) {
+        writeLock.lock();
+        try {
+            ProductProfile previous = catalog.put(product.getId(), product);
+            segments.replaceAll((key, lists) -> apply(MemberSegment.fromKey(key), lists, previous, product));
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * 여러 상품을 한 번에 반영한다. 상품마다 모든 세그먼트 목록을 고치는 대신 세그먼트마다 한 번만 다시 계산한다.
+     */
+    public void upsertProducts(Collection<ProductProfile> products) {
+        writeLock.lock();
+        try {
+            for (ProductProfile product : products) {
+                catalog.put(product.getId(), product);
+            }
+            segments.replaceAll((key, lists) -> build(MemberSegment.fromKey(key)));
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    public void removeProduct(Long productId) {
+        writeLock.lock();
+        try {
+            ProductProfile previous = catalog.remove(productId);
+            if (previous != null) {
+                segments.replaceAll((key, lists) -> apply(MemberSegment.fromKey(key), lists, previous, null));
+            }
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    public void assignMember(Long memberId, MemberSegment segment) {
+        writeLock.lock();
+        try {
+            Integer previous = memberSegments.put(memberId, segment.getKey());
+            if (previous != null && previous == segment.getKey()) {
+                return;
+            }
+            if (previous != null) {
+                release(previous);
+            }
+            segmentPopulation.merge(segment.getKey(), 1, Integer::sum);
+            segments.computeIfAbsent(segment.getKey(), key -> build(segment));
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    public void removeMember(Long memberId) {
+        writeLock.lock();
+        try {
+            Integer previous = memberSegments.remove(memberId);
+            if (previous != null) {
+                release(previous);
+            }
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    public int segmentCount() {
+        return segments.size();
+    }
+
+    public int catalogSize() {
+        return catalog.size();
+    }
+
+    private CandidateList[] candidates(MemberSegment segment) {
+        CandidateList[] lists = segments.get(segment.getKey());
+        if (lists != null) {
+            return lists;
+        }
+        writeLock.lock();
+        try {
+            return segments.computeIfAbsent(segment.getKey(), key -> build(segment));
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    private void release(int segmentKey) {
+        int remaining = segmentPopulation.merge(segmentKey, -1, Integer::sum);
+        if (remaining <= 0) {
+            segmentPopulation.remove(segmentKey);
+            segments.remove(segmentKey);
+        }
+    }
+
+    private CandidateList[] apply(MemberSegment segment, CandidateList[] lists, ProductProfile previous,
+                                  ProductProfile next) {
+        CandidateList[] updated = lists.clone();
+        ProductType rebuiltType = null;
+        if (previous != null) {
+            int typeIndex = previous.getType().ordinal();
+            int index = updated[typeIndex].indexOf(previous.getId());
+            if (index >= 0 && updated[typeIndex].size() == CANDIDATES_PER_TYPE) {
+                // 꽉 찬 목록에서 빠지면 다음 순위 후보를 알 수 없으므로 그 유형만 다시 계산한다
+                updated[typeIndex] = buildList(segment, previous.getType());
+                rebuiltType = previous.getType();
+            } else if (index >= 0) {
+                updated[typeIndex] = updated[typeIndex].without(index);
+            }
+        }
+        if (next != null && next.getType() != rebuiltType) {
+            double score = RecommendationScorer.baseScore(next, segment);
+            if (score != RecommendationScorer.INELIGIBLE) {
+                int typeIndex = next.getType().ordinal();
+                updated[typeIndex] = updated[typeIndex].with(next, score, CANDIDATES_PER_TYPE);
+            }
+        }
+        return updated;
+    }
+
+    private CandidateList[] build(MemberSegment segment) {
+        CandidateList[] lists = new CandidateList[TYPES.length];
+        for (ProductType type : TYPES) {
+            lists[type.ordinal()] = buildList(segment, type);
+        }
+        return lists;
+    }
+
+    private CandidateList buildList(MemberSegment segment, ProductType type) {
+        List<Recommendation> scored = new ArrayList<>();
+        for (ProductProfile product : catalog.values()) {
+            if (product.getType() != type) {
+                continue;
+            }
+            double score = RecommendationScorer.baseScore(product, segment);
+            if (score != RecommendationScorer.INELIGIBLE) {
+                scored.add(new Recommendation(product, score));
+            }
+        }
+        scored.sort(SCORE_ORDER.reversed());
+        int count = Math.min(scored.size(), CANDIDATES_PER_TYPE);
+        ProductProfile[] products = new ProductProfile[count];
+        double[] scores = new double[count];
+        for (int i = 0; i < count; i++) {
+            products[i] = scored.get(i).getProduct();
+            scores[i] = scored.get(i).getScore();
+        }
+        return count == 0 ? CandidateList.EMPTY : new CandidateList(products, scores);
+    }
+
+}
@@ -0,0 +1,82 @@
+package com.example.finance7.recommend.engine;
+
+import com.example.finance7.member.event.MemberChangedEvent;
+import com.example.finance7.member.repository.MemberRepository;
+import com.example.finance7.member.repository.MemberSegmentView;
+import com.example.finance7.product.event.ProductCatalogReloadedEvent;
+import com.example.finance7.product.event.ProductChangedEvent;
+import com.example.finance7.product.event.ProductsImportedEvent;
+import com.example.finance7.product.repository.ProductRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RecommendationIndexer {
+
+    private final ProductRepository productRepository;
+    private final MemberRepository memberRepository;
+    private final RecommendationEngine recommendationEngine;
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void warmUp() {
+        List<ProductProfile> products = productRepository.findAll().stream()
+                .map(ProductProfile::from)
+                .collect(Collectors.toList());
+        recommendationEngine.loadProducts(products);
+        for (MemberSegmentView member : memberRepository.findAllBy()) {
+            recommendationEngine.assignMember(member.getId(),
+                    MemberSegment.of(member.getAge(), member.getAnnualIncome(), member.getJob()));
+        }
+        log.info("recommendation engine loaded: {} products, {} segments",
+                recommendationEngine.catalogSize(), recommendationEngine.segmentCount());
+    }
+
+    @Order(ProductChangedEvent.REFRESH_ORDER)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProductChanged(ProductChangedEvent event) {
+        if (event.isDeleted()) {
+            recommendationEngine.removeProduct(event.getProduct().getId());
+        } else {
+            recommendationEngine.upsertProduct(ProductProfile.from(event.getProduct()));
+        }
+    }
+
+    @Order(ProductChangedEvent.REFRESH_ORDER)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProductsImported(ProductsImportedEvent event) {
+        recommendationEngine.upsertProducts(event.getProducts().stream()
+                .map(ProductProfile::from)
+                .collect(Collectors.toList()));
+    }
+
+    @Order(ProductChangedEvent.REFRESH_ORDER)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCatalogReloaded(ProductCatalogReloadedEvent event) {
+        recommendationEngine.loadProducts(event.getProducts().stream()
+                .map(ProductProfile::from)
+                .collect(Collectors.toList()));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onMemberChanged(MemberChangedEvent event) {
+        if (event.isDeleted()) {
+            recommendationEngine.removeMember(event.getMember().getId());
+        } else {
+            recommendationEngine.assignMember(event.getMember().getId(),
+                    MemberProfile.from(event.getMember()).segment());
+        }
+    }
+
+}
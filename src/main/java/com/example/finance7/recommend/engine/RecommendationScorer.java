@@ -0,0 +1,63 @@
+package com.example.finance7.recommend.engine;
+
+import com.example.finance7.product.entity.ProductType;
+
+/**
+ * 세그먼트 기준 기본 점수와 회원 단위 보정 점수를 계산한다.
+ * 기본 점수는 후보 목록을 만들 때 한 번만 계산하고, 요청마다는 보정 점수만 더한다.
+ */
+final class RecommendationScorer {
+
+    static final double INELIGIBLE = Double.NEGATIVE_INFINITY;
+
+    private static final int LOAN_RATE_CEILING_BP = 2_000;
+    private static final double JOB_TAG_BONUS = 2.0;
+    private static final double AGE_TAG_BONUS = 1.5;
+    private static final double PREFERRED_INTEREST_TYPE_BONUS = 1.0;
+
+    private RecommendationScorer() {
+    }
+
+    static double baseScore(ProductProfile product, MemberSegment segment) {
+        if (!segment.overlapsAge(product.getMinAge(), product.getMaxAge())
+                || segment.getMaxIncome() < product.getMinIncome()) {
+            return INELIGIBLE;
+        }
+        double score = rateScore(product);
+        if (product.getTags().contains(segment.getJob().getDescription())) {
+            score += JOB_TAG_BONUS;
+        }
+        if (product.getTags().contains("청년") && segment.overlapsAge(19, 34)) {
+            score += AGE_TAG_BONUS;
+        }
+        if (product.getTags().contains("사회초년생") && segment.overlapsAge(20, 29)) {
+            score += AGE_TAG_BONUS;
+        }
+        if (product.getTags().contains("시니어") && segment.getMinAge() >= 60) {
+            score += AGE_TAG_BONUS;
+        }
+        return score;
+    }
+
+    static double personalScore(ProductProfile product, double baseScore, MemberProfile member) {
+        if (!product.accepts(member.getAge(), member.getAnnualIncome())) {
+            return INELIGIBLE;
+        }
+        double score = baseScore;
+        if (product.getInterestType() != null && product.getInterestType() == member.getPreferredInterestType()) {
+            score += PREFERRED_INTEREST_TYPE_BONUS;
+        }
+        return score;
+    }
+
+    private static double rateScore(ProductProfile product) {
+        if (product.getType() == ProductType.LOAN) {
+            return Math.max(0, LOAN_RATE_CEILING_BP - product.getInterestRateBp()) / 100.0;
+        }
+        if (product.getType() == ProductType.SAVINGS) {
+            return product.getInterestRateBp() / 100.0;
+        }
+        return 0.0;
+    }
+
+}
@@ -0,0 +1,32 @@
+package com.example.finance7.recommend.service;
+
+import com.example.finance7.member.service.MemberService;
+import com.example.finance7.product.entity.ProductType;
+import com.example.finance7.recommend.dto.RecommendationResponse;
+import com.example.finance7.recommend.engine.MemberProfile;
+import com.example.finance7.recommend.engine.RecommendationEngine;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class RecommendationService {
+
+    private static final int MAX_SIZE = 50;
+
+    private final MemberService memberService;
+    private final RecommendationEngine recommendationEngine;
+
+    public List<RecommendationResponse> recommend(Long memberId, ProductType type, int size) {
+        MemberProfile member = MemberProfile.from(memberService.getMember(memberId));
+        return recommendationEngine.recommend(member, type, Math.max(1, Math.min(size, MAX_SIZE))).stream()
+                .map(RecommendationResponse::from)
+                .collect(Collectors.toList());
+    }
+
+}
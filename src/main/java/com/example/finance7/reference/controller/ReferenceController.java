@@ -0,0 +1,36 @@
+package com.example.finance7.reference.controller;
+
+import com.example.finance7.reference.dto.BankResponse;
+import com.example.finance7.reference.dto.CommonCodeResponse;
+import com.example.finance7.reference.service.ReferenceService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api")
+public class ReferenceController {
+
+    private final ReferenceService referenceService;
+
+    @GetMapping("/banks")
+    public List<BankResponse> getBanks() {
+        return referenceService.getBanks();
+    }
+
+    @GetMapping("/banks/{code}")
+    public BankResponse getBank(@PathVariable String code) {
+        return referenceService.getBank(code);
+    }
+
+    @GetMapping("/codes/{groupCode}")
+    public List<CommonCodeResponse> getCodes(@PathVariable String groupCode) {
+        return referenceService.getCodes(groupCode);
+    }
+
+}
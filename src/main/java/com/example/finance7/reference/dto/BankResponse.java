@@ -0,0 +1,23 @@
+package com.example.finance7.reference.dto;
+
+import com.example.finance7.reference.entity.Bank;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class BankResponse {
+
+    private final Long id;
+    private final String code;
+    private final String name;
+
+    public static BankResponse from(Bank bank) {
+        return BankResponse.builder()
+                .id(bank.getId())
+                .code(bank.getCode())
+                .name(bank.getName())
+                .build();
+    }
+
+}
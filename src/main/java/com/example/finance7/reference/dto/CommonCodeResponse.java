@@ -0,0 +1,21 @@
+package com.example.finance7.reference.dto;
+
+import com.example.finance7.reference.entity.CommonCode;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class CommonCodeResponse {
+
+    private final String code;
+    private final String name;
+
+    public static CommonCodeResponse from(CommonCode commonCode) {
+        return CommonCodeResponse.builder()
+                .code(commonCode.getCode())
+                .name(commonCode.getName())
+                .build();
+    }
+
+}
@@ -0,0 +1,50 @@
+package com.example.finance7.reference.entity;
+
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+
+import javax.persistence.Cacheable;
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.GeneratedValue;
+import javax.persistence.GenerationType;
+import javax.persistence.Id;
+import javax.persistence.Table;
+
+/**
+ * 금융기관. 거의 바뀌지 않고 대부분의 요청에서 읽히므로 2차 캐시에 둔다.
+ */
+@Getter
+@Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = ReferenceCacheRegion.BANK)
+@Table(name = "bank")
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class Bank {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "bank_id")
+    private Long id;
+
+    @Column(nullable = false, unique = true, length = 20)
+    private String code;
+
+    @Column(nullable = false, length = 50)
+    private String name;
+
+    @Builder
+    public Bank(String code, String name) {
+        this.code = code;
+        this.name = name;
+    }
+
+    public void rename(String name) {
+        this.name = name;
+    }
+
+}
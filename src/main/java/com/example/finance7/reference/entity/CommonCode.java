@@ -0,0 +1,58 @@
+package com.example.finance7.reference.entity;
+
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+
+import javax.persistence.Cacheable;
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.GeneratedValue;
+import javax.persistence.GenerationType;
+import javax.persistence.Id;
+import javax.persistence.Index;
+import javax.persistence.Table;
+import javax.persistence.UniqueConstraint;
+
+/**
+ * 상품 분류 등 화면과 검색 조건에 쓰이는 공통 코드. 그룹 단위로 조회한다.
+ */
+@Getter
+@Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = ReferenceCacheRegion.COMMON_CODE)
+@Table(name = "common_code",
+        uniqueConstraints = @UniqueConstraint(name = "uk_common_code", columnNames = {"group_code", "code"}),
+        indexes = @Index(name = "idx_common_code_group", columnList = "group_code, sort_order"))
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class CommonCode {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "common_code_id")
+    private Long id;
+
+    @Column(name = "group_code", nullable = false, length = 30)
+    private String groupCode;
+
+    @Column(nullable = false, length = 30)
+    private String code;
+
+    @Column(nullable = false, length = 50)
+    private String name;
+
+    @Column(name = "sort_order")
+    private int sortOrder;
+
+    @Builder
+    public CommonCode(String groupCode, String code, String name, int sortOrder) {
+        this.groupCode = groupCode;
+        this.code = code;
+        this.name = name;
+        this.sortOrder = sortOrder;
+    }
+
+}
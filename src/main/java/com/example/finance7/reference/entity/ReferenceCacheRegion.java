@@ -0,0 +1,14 @@
+package com.example.finance7.reference.entity;
+
+/**
+ * 참조 데이터의 Hibernate 2차 캐시 영역 이름. 영역별 크기와 만료 시간은 application.conf 에서 설정한다.
+ */
+public final class ReferenceCacheRegion {
+
+    public static final String BANK = "reference.bank";
+    public static final String COMMON_CODE = "reference.commonCode";
+
+    private ReferenceCacheRegion() {
+    }
+
+}
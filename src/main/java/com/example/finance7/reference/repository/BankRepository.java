@@ -0,0 +1,19 @@
+package com.example.finance7.reference.repository;
+
+import com.example.finance7.reference.entity.Bank;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
+
+import javax.persistence.QueryHint;
+import java.util.List;
+import java.util.Optional;
+
+public interface BankRepository extends JpaRepository<Bank, Long> {
+
+    @QueryHints(@QueryHint(name = org.hibernate.jpa.QueryHints.HINT_CACHEABLE, value = "true"))
+    Optional<Bank> findByCode(String code);
+
+    @QueryHints(@QueryHint(name = org.hibernate.jpa.QueryHints.HINT_CACHEABLE, value = "true"))
+    List<Bank> findAllByOrderByNameAsc();
+
+}
@@ -0,0 +1,15 @@
+package com.example.finance7.reference.repository;
+
+import com.example.finance7.reference.entity.CommonCode;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
+
+import javax.persistence.QueryHint;
+import java.util.List;
+
+public interface CommonCodeRepository extends JpaRepository<CommonCode, Long> {
+
+    @QueryHints(@QueryHint(name = org.hibernate.jpa.QueryHints.HINT_CACHEABLE, value = "true"))
+    List<CommonCode> findByGroupCodeOrderBySortOrderAsc(String groupCode);
+
+}
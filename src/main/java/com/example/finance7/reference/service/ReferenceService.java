@@ -0,0 +1,45 @@
+package com.example.finance7.reference.service;
+
+import com.example.finance7.global.error.BusinessException;
+import com.example.finance7.global.error.ErrorCode;
+import com.example.finance7.reference.dto.BankResponse;
+import com.example.finance7.reference.dto.CommonCodeResponse;
+import com.example.finance7.reference.repository.BankRepository;
+import com.example.finance7.reference.repository.CommonCodeRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * 금융기관/공통 코드 조회. 엔티티는 2차 캐시, 목록 조회는 쿼리 캐시를 거치므로 변경이 없으면 DB 에 가지 않는다.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class ReferenceService {
+
+    private final BankRepository bankRepository;
+    private final CommonCodeRepository commonCodeRepository;
+
+    public List<BankResponse> getBanks() {
+        return bankRepository.findAllByOrderByNameAsc().stream()
+                .map(BankResponse::from)
+                .collect(Collectors.toList());
+    }
+
+    public BankResponse getBank(String code) {
+        return bankRepository.findByCode(code)
+                .map(BankResponse::from)
+                .orElseThrow(() -> new BusinessException(ErrorCode.BANK_NOT_FOUND));
+    }
+
+    public List<CommonCodeResponse> getCodes(String groupCode) {
+        return commonCodeRepository.findByGroupCodeOrderBySortOrderAsc(groupCode).stream()
+                .map(CommonCodeResponse::from)
+                .collect(Collectors.toList());
+    }
+
+}
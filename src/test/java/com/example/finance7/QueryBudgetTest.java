@@ -0,0 +1,118 @@
+package com.example.finance7;
+
+import com.example.finance7.auth.token.JwtTokenProvider;
+import com.example.finance7.member.entity.Job;
+import com.example.finance7.member.entity.Member;
+import com.example.finance7.member.repository.MemberRepository;
+import com.example.finance7.product.entity.Product;
+import com.example.finance7.product.entity.ProductType;
+import com.example.finance7.product.repository.ProductRepository;
+import com.example.finance7.support.EnableQueryBudget;
+import com.example.finance7.support.QueryBudget;
+import com.example.finance7.support.QueryCounter;
+import net.ttddyy.dsproxy.QueryCount;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+
+import javax.persistence.EntityManagerFactory;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 주요 조회 API 의 요청당 SQL 수 예산. 연관 추가로 N+1 이 생기면 여기서 실패한다.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@EnableQueryBudget
+class QueryBudgetTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private JwtTokenProvider jwtTokenProvider;
+
+    private Long memberId;
+
+    @BeforeEach
+    void setUp() {
+        List<Product> products = new ArrayList<>();
+        for (int i = 0; i < 30; i++) {
+            products.add(Product.builder()
+                    .name("적금 " + i)
+                    .bankName("우리은행")
+                    .type(ProductType.SAVINGS)
+                    .interestRate(new BigDecimal("3.00"))
+                    .tags(List.of("청년"))
+                    .build());
+        }
+        productRepository.saveAll(products);
+        memberId = memberRepository.save(Member.builder()
+                .name("홍길동")
+                .age(29)
+                .annualIncome(40_000_000L)
+                .job(Job.OFFICE_WORKER)
+                .build()).getId();
+        cacheManager.getCacheNames().forEach(name -> cacheManager.getCache(name).clear());
+        entityManagerFactory.getCache().evictAll();
+    }
+
+    @AfterEach
+    void tearDown() {
+        productRepository.deleteAll();
+        memberRepository.deleteAll();
+    }
+
+    @Test
+    @QueryBudget(select = 1, total = 1)
+    void 상품_목록은_한_번의_쿼리로_조회한다() throws Exception {
+        mockMvc.perform(get("/api/products").param("type", "SAVINGS").param("size", "20"))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    @QueryBudget(select = 1, total = 1)
+    void 추천은_회원_조회_한_번만_DB_를_거친다() throws Exception {
+        mockMvc.perform(get("/api/members/{memberId}/recommendations", memberId)
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + jwtTokenProvider.issue(memberId)))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void 캐시된_상품_상세는_DB_를_거치지_않는다() throws Throwable {
+        Long productId = productRepository.findAll().get(0).getId();
+
+        QueryCount first = QueryCounter.measure(() -> mockMvc.perform(get("/api/products/{productId}", productId))
+                .andExpect(status().isOk()));
+        QueryCount second = QueryCounter.measure(() -> mockMvc.perform(get("/api/products/{productId}", productId))
+                .andExpect(status().isOk()));
+
+        assertThat(first.getSelect()).isEqualTo(1);
+        assertThat(second.getTotal()).isZero();
+    }
+
+}
@@ -0,0 +1,125 @@
+package com.example.finance7.auth.controller;
+
+import com.example.finance7.member.repository.MemberRepository;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class AuthControllerTest {
+
+    private static final String SIGNUP = "{\"email\":\"user@finance7.com\",\"password\":\"secret-pw\","
+            + "\"name\":\"홍길동\",\"age\":29,\"annualIncome\":40000000,\"job\":\"OFFICE_WORKER\","
+            + "\"preferredInterestType\":\"FIXED\"}";
+    private static final String LOGIN = "{\"email\":\"user@finance7.com\",\"password\":\"secret-pw\"}";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @AfterEach
+    void tearDown() {
+        memberRepository.deleteAll();
+    }
+
+    @Test
+    void 로그인한_토큰으로_접근하고_로그아웃하면_같은_토큰은_거절된다() throws Exception {
+        mockMvc.perform(post("/api/auth/signup").contentType(MediaType.APPLICATION_JSON).content(SIGNUP))
+                .andExpect(status().isCreated());
+        String body = mockMvc.perform(post("/api/auth/login").contentType(MediaType.APPLICATION_JSON).content(LOGIN))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        JsonNode token = objectMapper.readTree(body);
+        String authorization = "Bearer " + token.get("accessToken").asText();
+
+        mockMvc.perform(get("/api/cart").header(HttpHeaders.AUTHORIZATION, authorization))
+                .andExpect(status().isOk());
+        mockMvc.perform(get("/api/cart").header(HttpHeaders.AUTHORIZATION, authorization))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(post("/api/auth/logout").header(HttpHeaders.AUTHORIZATION, authorization))
+                .andExpect(status().isNoContent());
+        mockMvc.perform(get("/api/cart").header(HttpHeaders.AUTHORIZATION, authorization))
+                .andExpect(status().isUnauthorized())
+                .andExpect(jsonPath("$.code").value("INVALID_TOKEN"));
+    }
+
+    @Test
+    void 같은_이메일로_다시_가입할_수_없다() throws Exception {
+        mockMvc.perform(post("/api/auth/signup").contentType(MediaType.APPLICATION_JSON).content(SIGNUP))
+                .andExpect(status().isCreated());
+
+        mockMvc.perform(post("/api/auth/signup").contentType(MediaType.APPLICATION_JSON).content(SIGNUP))
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.code").value("DUPLICATE_EMAIL"));
+    }
+
+    @Test
+    void 관리자_API는_로그인하지_않으면_401_관리자가_아니면_403() throws Exception {
+        mockMvc.perform(get("/api/admin/products/export"))
+                .andExpect(status().isUnauthorized())
+                .andExpect(jsonPath("$.code").value("UNAUTHORIZED"));
+
+        mockMvc.perform(post("/api/auth/signup").contentType(MediaType.APPLICATION_JSON).content(SIGNUP))
+                .andExpect(status().isCreated());
+        String body = mockMvc.perform(post("/api/auth/login").contentType(MediaType.APPLICATION_JSON).content(LOGIN))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        String authorization = "Bearer " + objectMapper.readTree(body).get("accessToken").asText();
+
+        mockMvc.perform(get("/api/admin/carts/export").header(HttpHeaders.AUTHORIZATION, authorization))
+                .andExpect(status().isForbidden())
+                .andExpect(jsonPath("$.code").value("NOT_ADMIN"));
+    }
+
+    @Test
+    void 다른_회원의_프로필과_추천은_403() throws Exception {
+        mockMvc.perform(post("/api/auth/signup").contentType(MediaType.APPLICATION_JSON).content(SIGNUP))
+                .andExpect(status().isCreated());
+        String body = mockMvc.perform(post("/api/auth/login").contentType(MediaType.APPLICATION_JSON).content(LOGIN))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        String authorization = "Bearer " + objectMapper.readTree(body).get("accessToken").asText();
+        Long otherId = memberRepository.findAll().get(0).getId() + 1;
+
+        mockMvc.perform(patch("/api/members/{memberId}/profile", otherId).header(HttpHeaders.AUTHORIZATION, authorization)
+                        .contentType(MediaType.APPLICATION_JSON).content("{\"age\":99}"))
+                .andExpect(status().isForbidden())
+                .andExpect(jsonPath("$.code").value("NOT_SELF"));
+        mockMvc.perform(get("/api/members/{memberId}/recommendations", otherId)
+                        .header(HttpHeaders.AUTHORIZATION, authorization))
+                .andExpect(status().isForbidden());
+        mockMvc.perform(get("/api/members/{memberId}/recommendations", otherId))
+                .andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    void 토큰이_없거나_위조되면_401() throws Exception {
+        mockMvc.perform(get("/api/cart"))
+                .andExpect(status().isUnauthorized())
+                .andExpect(jsonPath("$.code").value("UNAUTHORIZED"));
+        mockMvc.perform(get("/api/cart").header(HttpHeaders.AUTHORIZATION, "Bearer abc.def.ghi"))
+                .andExpect(status().isUnauthorized())
+                .andExpect(jsonPath("$.code").value("INVALID_TOKEN"));
+    }
+
+}
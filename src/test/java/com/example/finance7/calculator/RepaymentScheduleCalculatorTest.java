@@ -0,0 +1,94 @@
+package com.example.finance7.calculator;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class RepaymentScheduleCalculatorTest {
+
+    private static final long LOAN_AMOUNT = 10_000_000L;
+    private static final int RATE_BP = 450;
+    private static final int MONTHS = 12;
+
+    private final RepaymentScheduleCalculator calculator = new RepaymentScheduleCalculator();
+    private final DepositCalculator depositCalculator = new DepositCalculator();
+
+    @ParameterizedTest
+    @EnumSource(RepaymentMethod.class)
+    void 모든_상환_방식은_원금을_정확히_상환한다(RepaymentMethod method) {
+        RepaymentSchedule schedule = calculator.calculate(method, LOAN_AMOUNT, RATE_BP, MONTHS);
+
+        long totalPrincipal = 0L;
+        for (int i = 0; i < schedule.size(); i++) {
+            totalPrincipal += schedule.principalAt(i);
+        }
+        assertThat(schedule.size()).isEqualTo(MONTHS);
+        assertThat(totalPrincipal).isEqualTo(LOAN_AMOUNT);
+        assertThat(schedule.balanceAt(MONTHS - 1)).isZero();
+    }
+
+    @Test
+    void 원리금균등은_마지막_회차를_제외하고_납입액이_같다() {
+        RepaymentSchedule schedule = calculator.calculate(RepaymentMethod.EQUAL_INSTALLMENT, LOAN_AMOUNT, RATE_BP, MONTHS);
+
+        for (int i = 0; i < MONTHS - 1; i++) {
+            assertThat(schedule.paymentAt(i)).isEqualTo(853_786L);
+        }
+        assertThat(schedule.getTotalInterest()).isEqualTo(245_416L);
+    }
+
+    @Test
+    void 원금균등은_잔액에_대해서만_이자가_붙는다() {
+        RepaymentSchedule schedule = calculator.calculate(RepaymentMethod.EQUAL_PRINCIPAL, LOAN_AMOUNT, RATE_BP, MONTHS);
+
+        assertThat(schedule.interestAt(0)).isEqualTo(37_500L);
+        assertThat(schedule.principalAt(0)).isEqualTo(833_333L);
+        assertThat(schedule.getTotalInterest()).isEqualTo(243_750L);
+    }
+
+    @Test
+    void 만기일시는_마지막_회차에_원금을_한번에_상환한다() {
+        List<Installment> installments = calculator.stream(RepaymentMethod.BULLET, LOAN_AMOUNT, RATE_BP, MONTHS)
+                .collect(Collectors.toList());
+
+        assertThat(installments).hasSize(MONTHS);
+        assertThat(installments.get(0).getPrincipal()).isZero();
+        assertThat(installments.get(MONTHS - 1).getPayment()).isEqualTo(LOAN_AMOUNT + 37_500L);
+    }
+
+    @Test
+    void 스트림은_필요한_회차까지만_계산한다() {
+        long firstPayment = calculator.stream(RepaymentMethod.EQUAL_INSTALLMENT, LOAN_AMOUNT, RATE_BP, 360)
+                .findFirst()
+                .map(Installment::getPayment)
+                .orElseThrow();
+
+        assertThat(firstPayment).isEqualTo(
+                calculator.calculate(RepaymentMethod.EQUAL_INSTALLMENT, LOAN_AMOUNT, RATE_BP, 360).paymentAt(0));
+    }
+
+    @Test
+    void 예금과_적금의_만기_이자를_계산한다() {
+        assertThat(depositCalculator.depositInterest(LOAN_AMOUNT, 400, 12, InterestCompounding.SIMPLE))
+                .isEqualTo(400_000L);
+        assertThat(depositCalculator.depositInterest(LOAN_AMOUNT, 400, 12, InterestCompounding.MONTHLY_COMPOUND))
+                .isGreaterThan(400_000L);
+        assertThat(depositCalculator.savingsInterest(1_000_000L, 400, 12, InterestCompounding.SIMPLE))
+                .isEqualTo(260_000L);
+    }
+
+    @Test
+    void 잘못된_입력은_거부한다() {
+        assertThatThrownBy(() -> calculator.calculate(RepaymentMethod.BULLET, 0L, RATE_BP, MONTHS))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> calculator.calculate(RepaymentMethod.BULLET, LOAN_AMOUNT, RATE_BP, 0))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+}
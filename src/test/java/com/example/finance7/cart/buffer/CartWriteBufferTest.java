@@ -0,0 +1,190 @@
+package com.example.finance7.cart.buffer;
+
+import com.example.finance7.cart.dto.CartItemResponse;
+import com.example.finance7.cart.entity.Cart;
+import com.example.finance7.cart.repository.CartRepository;
+import com.example.finance7.cart.service.CartService;
+import com.example.finance7.global.error.BusinessException;
+import com.example.finance7.global.error.ErrorCode;
+import com.example.finance7.product.entity.Product;
+import com.example.finance7.product.entity.ProductType;
+import com.example.finance7.product.repository.ProductRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.DataAccessResourceFailureException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+@SpringBootTest(properties = {
+        "app.cart.flush-interval=3600000",
+        "app.concurrency.optimistic-retry.max-attempts=20"
+})
+class CartWriteBufferTest {
+
+    private static final Long MEMBER_ID = 1L;
+
+    @Autowired
+    private CartWriteBuffer cartWriteBuffer;
+
+    @Autowired
+    private CartWriter cartWriter;
+
+    @Autowired
+    private CartService cartService;
+
+    @Autowired
+    private CartRepository cartRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    private Long productId;
+    private Long otherProductId;
+
+    @BeforeEach
+    void setUp() {
+        productId = productRepository.save(product("청년 적금")).getId();
+        otherProductId = productRepository.save(product("직장인 예금")).getId();
+    }
+
+    @AfterEach
+    void tearDown() {
+        cartWriteBuffer.flush();
+        cartRepository.deleteAll();
+        productRepository.deleteAll();
+    }
+
+    @Test
+    void 짧은_시간의_담기_빼기는_한_번의_반영으로_합쳐진다() {
+        cartWriteBuffer.add(MEMBER_ID, productId, 1);
+        cartWriteBuffer.add(MEMBER_ID, productId, 1);
+        cartWriteBuffer.add(MEMBER_ID, otherProductId, 1);
+        cartWriteBuffer.remove(MEMBER_ID, otherProductId);
+        cartWriteBuffer.add(MEMBER_ID, productId, 3);
+
+        assertThat(cartRepository.findWithItemsByMemberId(MEMBER_ID)).isEmpty();
+        assertThat(cartService.getCart(MEMBER_ID).getItems())
+                .extracting(CartItemResponse::getProductId, CartItemResponse::getQuantity)
+                .containsExactly(tuple(productId, 5));
+
+        cartWriteBuffer.flush();
+
+        Cart cart = cartRepository.findWithItemsByMemberId(MEMBER_ID).orElseThrow();
+        assertThat(cart.getItems()).singleElement().satisfies(item -> {
+            assertThat(item.getProduct().getId()).isEqualTo(productId);
+            assertThat(item.getQuantity()).isEqualTo(5);
+        });
+        assertThat(cartService.getCart(MEMBER_ID).isPending()).isFalse();
+    }
+
+    @Test
+    void 반영_전에_삭제된_상품은_장바구니_조회에서_빠진다() {
+        cartWriteBuffer.add(MEMBER_ID, productId, 1);
+        cartWriteBuffer.add(MEMBER_ID, otherProductId, 2);
+        productRepository.deleteById(otherProductId);
+
+        assertThat(cartService.getCart(MEMBER_ID).getItems())
+                .extracting(CartItemResponse::getProductId, CartItemResponse::getQuantity)
+                .containsExactly(tuple(productId, 1));
+    }
+
+    @Test
+    void 동시에_반영해도_낙관적_락_재시도로_변경이_유실되지_않는다() {
+        cartRepository.save(new Cart(MEMBER_ID));
+        int writers = 4;
+        CountDownLatch start = new CountDownLatch(1);
+        List<CompletableFuture<Void>> futures = new ArrayList<>();
+        for (int i = 0; i < writers; i++) {
+            futures.add(CompletableFuture.runAsync(() -> {
+                await(start);
+                cartWriter.apply(MEMBER_ID, new CartChanges().add(productId, 1));
+            }));
+        }
+        start.countDown();
+        CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).join();
+
+        Cart cart = cartRepository.findWithItemsByMemberId(MEMBER_ID).orElseThrow();
+        assertThat(cart.getItems()).singleElement().extracting("quantity").isEqualTo(writers);
+    }
+
+    @Test
+    void 반영에_실패한_변경은_그_사이_쌓인_변경_앞에_다시_합쳐진다() {
+        AtomicReference<RuntimeException> failure = new AtomicReference<>(
+                new DataAccessResourceFailureException("connection refused"));
+        List<Integer> applied = new ArrayList<>();
+        CartWriteBuffer buffer = new CartWriteBuffer(writer(failure, applied), new SimpleMeterRegistry());
+
+        buffer.add(MEMBER_ID, productId, 2);
+        buffer.add(MEMBER_ID, otherProductId, 1);
+        buffer.flush();
+        buffer.add(MEMBER_ID, productId, 1);
+        buffer.remove(MEMBER_ID, otherProductId);
+
+        assertThat(buffer.pending(MEMBER_ID)).hasValueSatisfying(changes -> {
+            assertThat(changes.changes().get(productId).applyTo(0)).isEqualTo(3);
+            assertThat(changes.changes().get(otherProductId).applyTo(5)).isZero();
+        });
+
+        failure.set(null);
+        buffer.flush();
+
+        assertThat(applied).containsExactly(3, 0);
+        assertThat(buffer.pending(MEMBER_ID)).isEmpty();
+    }
+
+    @Test
+    void 다시_해도_실패할_변경만_버린다() {
+        CartWriteBuffer buffer = new CartWriteBuffer(
+                writer(new AtomicReference<>(new BusinessException(ErrorCode.INVALID_INPUT)), new ArrayList<>()),
+                new SimpleMeterRegistry());
+
+        buffer.add(MEMBER_ID, productId, 1);
+        buffer.flush();
+
+        assertThat(buffer.pending(MEMBER_ID)).isEmpty();
+    }
+
+    /**
+     * {@code failure} 가 있으면 그 예외를 던지고, 없으면 상품별로 빈 장바구니에 적용한 수량을 기록한다.
+     */
+    private static CartWriter writer(AtomicReference<RuntimeException> failure, List<Integer> applied) {
+        return new CartWriter(null, null, null) {
+            @Override
+            public void apply(Long memberId, CartChanges pending) {
+                if (failure.get() != null) {
+                    throw failure.get();
+                }
+                pending.changes().values().forEach(change -> applied.add(change.applyTo(0)));
+            }
+        };
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static Product product(String name) {
+        return Product.builder()
+                .name(name)
+                .bankName("우리은행")
+                .type(ProductType.SAVINGS)
+                .tags(List.of())
+                .build();
+    }
+
+}
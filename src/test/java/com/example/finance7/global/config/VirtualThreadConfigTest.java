@@ -0,0 +1,23 @@
+package com.example.finance7.global.config;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.core.task.AsyncTaskExecutor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = "app.threads.virtual.enabled=true")
+class VirtualThreadConfigTest {
+
+    @Autowired
+    private AsyncTaskExecutor applicationTaskExecutor;
+
+    @Test
+    void 비동기_작업은_가상_스레드에서_실행된다() throws Exception {
+        Boolean virtual = applicationTaskExecutor.submit(() -> Thread.currentThread().isVirtual()).get();
+
+        assertThat(virtual).isTrue();
+    }
+
+}
@@ -0,0 +1,31 @@
+package com.example.finance7.global.csv;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.StringReader;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CsvReaderTest {
+
+    @Test
+    void 따옴표로_감싼_필드의_쉼표와_줄바꿈을_유지한다() {
+        CsvReader reader = new CsvReader(new StringReader("\uFEFFname,memo\n\"적금, 예금\",\"첫 줄\n둘째 줄\"\n\"\"\"인용\"\"\",\n"));
+
+        assertThat(reader.next()).containsExactly("name", "memo");
+        assertThat(reader.next()).containsExactly("적금, 예금", "첫 줄\n둘째 줄");
+        assertThat(reader.getLineNumber()).isEqualTo(2);
+        assertThat(reader.next()).containsExactly("\"인용\"", "");
+        assertThat(reader.getLineNumber()).isEqualTo(4);
+        assertThat(reader.next()).isNull();
+    }
+
+    @Test
+    void 닫히지_않은_따옴표는_오류다() {
+        CsvReader reader = new CsvReader(new StringReader("\"열린 따옴표,값\n"));
+
+        assertThatThrownBy(reader::next).isInstanceOf(IllegalArgumentException.class);
+    }
+
+}
@@ -0,0 +1,96 @@
+package com.example.finance7.global.datasource;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 두 개의 임베디드 H2 를 프라이머리/레플리카로 두고 라우팅을 검증한다.
+ */
+class ReplicationRoutingDataSourceTest {
+
+    private static final String LAG_QUERY = "select seconds_behind_master from replica_status";
+
+    private EmbeddedDatabase primary;
+    private EmbeddedDatabase replica;
+    private ReplicaLagMonitor replicaLagMonitor;
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate transactionTemplate;
+
+    @BeforeEach
+    void setUp() {
+        primary = embedded("primary");
+        replica = embedded("replica");
+        new JdbcTemplate(replica).execute("create table replica_status (seconds_behind_master bigint)");
+        new JdbcTemplate(replica).update("insert into replica_status values (0)");
+
+        replicaLagMonitor = new ReplicaLagMonitor(replica, LAG_QUERY, 5, new SimpleMeterRegistry());
+        replicaLagMonitor.check();
+        LazyConnectionDataSourceProxy dataSource = new LazyConnectionDataSourceProxy(
+                new ReplicationRoutingDataSource(primary, replica, replicaLagMonitor));
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+    }
+
+    @AfterEach
+    void tearDown() {
+        primary.shutdown();
+        replica.shutdown();
+    }
+
+    @Test
+    void 읽기_전용_트랜잭션만_레플리카로_보낸다() {
+        assertThat(currentNode(false)).isEqualTo("primary");
+        assertThat(currentNode(true)).isEqualTo("replica");
+        assertThat(jdbcTemplate.queryForObject("select name from node", String.class)).isEqualTo("primary");
+    }
+
+    @Test
+    void 레플리카가_지연되면_읽기도_프라이머리로_보낸다() {
+        new JdbcTemplate(replica).update("update replica_status set seconds_behind_master = 30");
+        replicaLagMonitor.check();
+
+        assertThat(replicaLagMonitor.isAvailable()).isFalse();
+        assertThat(currentNode(true)).isEqualTo("primary");
+
+        new JdbcTemplate(replica).update("update replica_status set seconds_behind_master = 1");
+        replicaLagMonitor.check();
+
+        assertThat(currentNode(true)).isEqualTo("replica");
+    }
+
+    @Test
+    void 복제가_멈추면_읽기도_프라이머리로_보낸다() {
+        new JdbcTemplate(replica).update("update replica_status set seconds_behind_master = null");
+        replicaLagMonitor.check();
+
+        assertThat(currentNode(true)).isEqualTo("primary");
+    }
+
+    private String currentNode(boolean readOnly) {
+        transactionTemplate.setReadOnly(readOnly);
+        return transactionTemplate.execute(status -> jdbcTemplate.queryForObject("select name from node", String.class));
+    }
+
+    private static EmbeddedDatabase embedded(String name) {
+        EmbeddedDatabase database = new EmbeddedDatabaseBuilder()
+                .setType(EmbeddedDatabaseType.H2)
+                .setName(name + "-" + System.nanoTime())
+                .build();
+        JdbcTemplate template = new JdbcTemplate(database);
+        template.execute("create table node (name varchar(20))");
+        template.update("insert into node values (?)", name);
+        return database;
+    }
+
+}
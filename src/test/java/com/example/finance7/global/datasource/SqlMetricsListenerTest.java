@@ -0,0 +1,39 @@
+package com.example.finance7.global.datasource;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SqlMetricsListenerTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final SqlMetricsListener listener = new SqlMetricsListener(meterRegistry, Duration.ofMillis(300));
+
+    @Test
+    void 문_종류별로_실행_시간을_기록하고_느린_문만_센다() {
+        listener.afterQuery(executed(5), List.of(new QueryInfo("select * from product where product_id = ?")));
+        listener.afterQuery(executed(450), List.of(new QueryInfo("select * from product")));
+        listener.afterQuery(executed(20), List.of(new QueryInfo("insert into product (name) values (?)")));
+
+        assertThat(meterRegistry.get("jdbc.statement.execution").tag("type", "select").timer().count()).isEqualTo(2);
+        assertThat(meterRegistry.get("jdbc.statement.execution").tag("type", "select").timer()
+                .totalTime(TimeUnit.MILLISECONDS)).isEqualTo(455);
+        assertThat(meterRegistry.get("jdbc.statement.execution").tag("type", "insert").timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("jdbc.statement.slow").counter().count()).isEqualTo(1);
+    }
+
+    private static ExecutionInfo executed(long elapsedMillis) {
+        ExecutionInfo executionInfo = new ExecutionInfo();
+        executionInfo.setElapsedTime(elapsedMillis);
+        executionInfo.setSuccess(true);
+        return executionInfo;
+    }
+
+}
@@ -0,0 +1,50 @@
+package com.example.finance7.global.pagination;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Sort;
+
+import java.math.BigDecimal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class KeysetCursorTest {
+
+    @Test
+    void 인코딩한_커서를_그대로_복원한다() {
+        KeysetCursor cursor = new KeysetCursor("name", Sort.Direction.ASC, 42L, "카카오|뱅크 적금");
+
+        KeysetCursor decoded = KeysetCursor.decode(cursor.encode(), "name", Sort.Direction.ASC);
+
+        assertThat(decoded.getId()).isEqualTo(42L);
+        assertThat(decoded.getSortValue()).isEqualTo("카카오|뱅크 적금");
+        assertThat(decoded.sortValueAs(String.class)).isEqualTo("카카오|뱅크 적금");
+    }
+
+    @Test
+    void 정렬_값은_컬럼_타입으로_변환된다() {
+        KeysetCursor cursor = new KeysetCursor("interestRate", Sort.Direction.ASC, 1L, "3.25");
+
+        assertThat(cursor.sortValueAs(BigDecimal.class)).isEqualTo(new BigDecimal("3.25"));
+    }
+
+    @Test
+    void 다른_정렬_기준의_커서는_거부한다() {
+        String encoded = new KeysetCursor("name", Sort.Direction.ASC, 1L, "적금").encode();
+
+        assertThatThrownBy(() -> KeysetCursor.decode(encoded, "id", Sort.Direction.ASC))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> KeysetCursor.decode("not-a-cursor", "id", Sort.Direction.ASC))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void 같은_속성이라도_정렬_방향이_다른_커서는_거부한다() {
+        String latest = new KeysetCursor("id", Sort.Direction.DESC, 7L, "7").encode();
+
+        assertThatThrownBy(() -> KeysetCursor.decode(latest, "id", Sort.Direction.ASC))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThat(KeysetCursor.decode(latest, "id", Sort.Direction.DESC).getId()).isEqualTo(7L);
+    }
+
+}
@@ -0,0 +1,85 @@
+package com.example.finance7.global.pagination;
+
+import com.example.finance7.global.config.JpaConfig;
+import com.example.finance7.product.entity.Product;
+import com.example.finance7.product.entity.ProductType;
+import com.example.finance7.product.repository.ProductRepository;
+import com.example.finance7.product.repository.ProductSpecifications;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Sort;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@Import(JpaConfig.class)
+class KeysetRepositoryImplTest {
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @BeforeEach
+    void setUp() {
+        List<Product> products = new ArrayList<>();
+        for (int i = 0; i < 7; i++) {
+            products.add(Product.builder()
+                    .name(i % 2 == 0 ? "같은이름" : "상품" + i)
+                    .bankName("우리은행")
+                    .type(i < 5 ? ProductType.SAVINGS : ProductType.LOAN)
+                    .interestRate(BigDecimal.ONE)
+                    .tags(List.of())
+                    .build());
+        }
+        productRepository.saveAll(products);
+    }
+
+    @Test
+    void 커서를_따라가면_중복과_누락_없이_전체를_순회한다() {
+        List<String> visited = new ArrayList<>();
+        CursorRequest request = CursorRequest.first(3);
+        CursorPage<Product> page;
+        do {
+            page = productRepository.findPage(query("name", Sort.Direction.ASC, null, request));
+            page.getContent().forEach(product -> visited.add(product.getName() + "#" + product.getId()));
+            request = new CursorRequest(page.getNextCursor(), 3, false);
+        } while (page.isHasNext());
+
+        List<String> expected = productRepository.findAll(Sort.by("name", "id")).stream()
+                .map(product -> product.getName() + "#" + product.getId())
+                .collect(Collectors.toList());
+        assertThat(visited).containsExactlyElementsOf(expected);
+    }
+
+    @Test
+    void 전체_건수는_요청할_때만_필터를_적용해_계산한다() {
+        CursorPage<Product> withoutTotal = productRepository.findPage(
+                query("id", Sort.Direction.DESC, ProductType.SAVINGS, new CursorRequest(null, 2, false)));
+        CursorPage<Product> withTotal = productRepository.findPage(
+                query("id", Sort.Direction.DESC, ProductType.SAVINGS, new CursorRequest(null, 2, true)));
+
+        assertThat(withoutTotal.getTotalCount()).isNull();
+        assertThat(withTotal.getTotalCount()).isEqualTo(5L);
+        assertThat(withTotal.getContent()).hasSize(2).isSortedAccordingTo(
+                (left, right) -> Long.compare(right.getId(), left.getId()));
+    }
+
+    private static KeysetQuery<Product> query(String sortAttribute, Sort.Direction direction, ProductType type,
+                                              CursorRequest request) {
+        return KeysetQuery.<Product>builder()
+                .domainClass(Product.class)
+                .sortAttribute(sortAttribute)
+                .direction(direction)
+                .specification(ProductSpecifications.typeEquals(type))
+                .cursorRequest(request)
+                .build();
+    }
+
+}
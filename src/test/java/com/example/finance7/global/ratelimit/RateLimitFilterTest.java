@@ -0,0 +1,69 @@
+package com.example.finance7.global.ratelimit;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.RequestPostProcessor;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = {
+        "app.rate-limit.routes.search.pattern=/api/products/search",
+        "app.rate-limit.routes.search.capacity=2",
+        "app.rate-limit.routes.search.refill-tokens=1",
+        "app.rate-limit.routes.search.refill-period=10s"
+})
+@AutoConfigureMockMvc
+class RateLimitFilterTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    void 한도를_넘으면_429_와_Retry_After_로_응답한다() throws Exception {
+        for (int i = 0; i < 2; i++) {
+            mockMvc.perform(get("/api/products/search").param("keyword", "적금").with(remoteAddr("10.0.0.1")))
+                    .andExpect(status().isOk());
+        }
+
+        mockMvc.perform(get("/api/products/search").param("keyword", "적금").with(remoteAddr("10.0.0.1")))
+                .andExpect(status().isTooManyRequests())
+                .andExpect(header().string(HttpHeaders.RETRY_AFTER, "10"))
+                .andExpect(jsonPath("$.code").value("TOO_MANY_REQUESTS"));
+        mockMvc.perform(get("/api/products/search").param("keyword", "적금").with(remoteAddr("10.0.0.2")))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void 끝에_슬래시나_매개변수를_붙여도_같은_한도를_쓴다() throws Exception {
+        mockMvc.perform(get("/api/products/search/").param("keyword", "적금").with(remoteAddr("10.0.0.4")))
+                .andExpect(status().isOk());
+        mockMvc.perform(get("/api/products/search;v=1").param("keyword", "적금").with(remoteAddr("10.0.0.4")))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(get("/api/products/search/").param("keyword", "적금").with(remoteAddr("10.0.0.4")))
+                .andExpect(status().isTooManyRequests());
+    }
+
+    @Test
+    void 한도가_없는_경로는_그대로_통과한다() throws Exception {
+        for (int i = 0; i < 5; i++) {
+            mockMvc.perform(get("/api/banks").with(remoteAddr("10.0.0.3")))
+                    .andExpect(status().isOk());
+        }
+    }
+
+    private static RequestPostProcessor remoteAddr(String address) {
+        return request -> {
+            request.setRemoteAddr(address);
+            return request;
+        };
+    }
+
+}
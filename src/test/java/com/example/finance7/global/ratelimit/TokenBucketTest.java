@@ -0,0 +1,75 @@
+package com.example.finance7.global.ratelimit;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TokenBucketTest {
+
+    private final AtomicLong now = new AtomicLong(1_000_000_000L);
+
+    @Test
+    void 용량만큼_몰아서_허용하고_이후에는_채워지는_속도로_허용한다() {
+        TokenBucket bucket = new TokenBucket(3, 1, Duration.ofSeconds(1), now::get);
+
+        assertThat(bucket.tryAcquire("a")).isZero();
+        assertThat(bucket.tryAcquire("a")).isZero();
+        assertThat(bucket.tryAcquire("a")).isZero();
+        assertThat(bucket.tryAcquire("a")).isEqualTo(Duration.ofSeconds(1).toNanos());
+
+        now.addAndGet(Duration.ofMillis(400).toNanos());
+        assertThat(bucket.tryAcquire("a")).isEqualTo(Duration.ofMillis(600).toNanos());
+
+        now.addAndGet(Duration.ofMillis(600).toNanos());
+        assertThat(bucket.tryAcquire("a")).isZero();
+        assertThat(bucket.tryAcquire("a")).isPositive();
+    }
+
+    @Test
+    void 키마다_버킷이_따로다() {
+        TokenBucket bucket = new TokenBucket(1, 1, Duration.ofSeconds(1), now::get);
+
+        assertThat(bucket.tryAcquire("a")).isZero();
+        assertThat(bucket.tryAcquire("a")).isPositive();
+        assertThat(bucket.tryAcquire("b")).isZero();
+    }
+
+    @Test
+    void 가득_찬_버킷만_정리한다() {
+        TokenBucket bucket = new TokenBucket(2, 1, Duration.ofSeconds(1), now::get);
+        bucket.tryAcquire("a");
+        bucket.tryAcquire("b");
+        now.addAndGet(Duration.ofSeconds(1).toNanos());
+        bucket.tryAcquire("b");
+
+        bucket.evictIdle();
+
+        assertThat(bucket.size()).isEqualTo(1);
+    }
+
+    @Test
+    void 동시에_요청해도_용량을_넘겨_허용하지_않는다() {
+        TokenBucket bucket = new TokenBucket(100, 1, Duration.ofHours(1), now::get);
+        AtomicInteger allowed = new AtomicInteger();
+
+        CompletableFuture<?>[] workers = new CompletableFuture<?>[8];
+        for (int i = 0; i < workers.length; i++) {
+            workers[i] = CompletableFuture.runAsync(() -> {
+                for (int j = 0; j < 1_000; j++) {
+                    if (bucket.tryAcquire("hot") == 0) {
+                        allowed.incrementAndGet();
+                    }
+                }
+            });
+        }
+        CompletableFuture.allOf(workers).join();
+
+        assertThat(allowed).hasValue(100);
+    }
+
+}
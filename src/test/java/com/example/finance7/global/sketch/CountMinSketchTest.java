@@ -0,0 +1,60 @@
+package com.example.finance7.global.sketch;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CountMinSketchTest {
+
+    @Test
+    void 추정값은_실제보다_작지_않고_오차는_한계_안에_머문다() {
+        CountMinSketch sketch = new CountMinSketch(1024, 4);
+        long[] actual = new long[5_000];
+        Random random = new Random(7);
+        long total = 0;
+        for (int i = 0; i < 100_000; i++) {
+            int key = (int) Math.min(actual.length - 1, Math.abs(random.nextGaussian()) * 500);
+            sketch.add(key, 1);
+            actual[key]++;
+            total++;
+        }
+
+        int overBound = 0;
+        for (int key = 0; key < actual.length; key++) {
+            long estimate = sketch.estimate(key);
+            assertThat(estimate).isGreaterThanOrEqualTo(actual[key]);
+            if (estimate - actual[key] > 2 * total / sketch.width()) {
+                overBound++;
+            }
+        }
+        assertThat(overBound).isLessThan(actual.length / 16);
+    }
+
+    @Test
+    void 다른_스케치를_빼면_남은_구간의_값만_남는다() {
+        CountMinSketch total = new CountMinSketch(256, 4);
+        CountMinSketch expired = new CountMinSketch(256, 4);
+        expired.add(1L, 5);
+        total.add(1L, 5);
+        total.add(1L, 3);
+        total.add(2L, 4);
+
+        total.subtract(expired);
+
+        assertThat(total.estimate(1L)).isEqualTo(3);
+        assertThat(total.estimate(2L)).isEqualTo(4);
+    }
+
+    @Test
+    void 폭은_2의_거듭제곱으로_올려_잡고_크기가_다르면_뺄_수_없다() {
+        CountMinSketch sketch = new CountMinSketch(1000, 3);
+
+        assertThat(sketch.width()).isEqualTo(1024);
+        assertThatThrownBy(() -> sketch.subtract(new CountMinSketch(512, 3)))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+}
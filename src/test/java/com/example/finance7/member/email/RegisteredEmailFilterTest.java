@@ -0,0 +1,80 @@
+package com.example.finance7.member.email;
+
+import com.example.finance7.auth.dto.EmailAvailabilityResponse;
+import com.example.finance7.auth.service.AuthService;
+import com.example.finance7.member.entity.Job;
+import com.example.finance7.member.entity.Member;
+import com.example.finance7.member.repository.MemberRepository;
+import com.example.finance7.support.EnableQueryBudget;
+import com.example.finance7.support.QueryCounter;
+import net.ttddyy.dsproxy.QueryCount;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@EnableQueryBudget
+class RegisteredEmailFilterTest {
+
+    @Autowired
+    private RegisteredEmailFilter registeredEmailFilter;
+
+    @Autowired
+    private AuthService authService;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @BeforeEach
+    void setUp() {
+        memberRepository.save(member("kim@finance7.com"));
+        registeredEmailFilter.rebuild();
+    }
+
+    @AfterEach
+    void tearDown() {
+        memberRepository.deleteAll();
+    }
+
+    @Test
+    void 가입되지_않은_이메일은_DB_를_거치지_않고_사용_가능하다고_답한다() throws Throwable {
+        EmailAvailabilityResponse[] response = new EmailAvailabilityResponse[1];
+
+        QueryCount count = QueryCounter.measure(() -> response[0] = authService.checkEmail("new@finance7.com"));
+
+        assertThat(response[0].isAvailable()).isTrue();
+        assertThat(count.getTotal()).isZero();
+    }
+
+    @Test
+    void 가입된_이메일은_대소문자와_관계없이_DB_로_확인한다() throws Throwable {
+        EmailAvailabilityResponse[] response = new EmailAvailabilityResponse[1];
+
+        QueryCount count = QueryCounter.measure(() -> response[0] = authService.checkEmail(" KIM@finance7.com"));
+
+        assertThat(response[0].isAvailable()).isFalse();
+        assertThat(count.getSelect()).isEqualTo(1);
+    }
+
+    @Test
+    void 새로_가입한_이메일은_커밋_직후_필터에_반영된다() {
+        memberRepository.save(member("lee@finance7.com"));
+
+        assertThat(registeredEmailFilter.isRegistered("lee@finance7.com")).isTrue();
+    }
+
+    private Member member(String email) {
+        return Member.builder()
+                .email(email)
+                .name("홍길동")
+                .age(29)
+                .annualIncome(40_000_000L)
+                .job(Job.OFFICE_WORKER)
+                .build();
+    }
+
+}
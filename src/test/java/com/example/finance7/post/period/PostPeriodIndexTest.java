@@ -0,0 +1,181 @@
+package com.example.finance7.post.period;
+
+import com.example.finance7.post.entity.PostType;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PostPeriodIndexTest {
+
+    private static final LocalDateTime BASE = LocalDateTime.of(2024, 1, 1, 0, 0);
+
+    private final PostPeriodIndex index = new PostPeriodIndex();
+
+    @Test
+    void 시작은_포함하고_끝은_포함하지_않는다() {
+        index.upsert(interval(1L, PostType.EVENT, 10, 20));
+
+        assertThat(index.activeAt(hours(9), null)).isEmpty();
+        assertThat(index.activeAt(hours(10), null)).containsExactly(1L);
+        assertThat(index.activeAt(hours(19), null)).containsExactly(1L);
+        assertThat(index.activeAt(hours(20), null)).isEmpty();
+        assertThat(index.overlapping(hours(0), hours(10), null)).isEmpty();
+        assertThat(index.overlapping(hours(20), hours(30), null)).isEmpty();
+        assertThat(index.overlapping(hours(15), hours(16), null)).containsExactly(1L);
+    }
+
+    @Test
+    void 변경과_삭제가_바로_반영된다() {
+        index.upsert(interval(1L, PostType.EVENT, 10, 20));
+        index.upsert(interval(2L, PostType.PROMOTION, 15, 30));
+
+        index.upsert(interval(1L, PostType.EVENT, 40, 50));
+        index.delete(2L);
+
+        assertThat(index.activeAt(hours(15), null)).isEmpty();
+        assertThat(index.activeAt(hours(45), PostType.EVENT)).containsExactly(1L);
+        assertThat(index.activeAt(hours(45), PostType.PROMOTION)).isEmpty();
+        assertThat(index.size()).isEqualTo(1);
+    }
+
+    @Test
+    void 밀리초로_잘라_빈_구간이_되는_기간은_색인하지_않는다() {
+        LocalDateTime start = hours(10).plusNanos(100);
+        PostInterval empty = new PostInterval(3L, PostType.EVENT, PostPeriodIndex.toMillis(start),
+                PostPeriodIndex.toMillis(start.plusNanos(500_000)));
+        index.upsert(interval(1L, PostType.EVENT, 10, 20));
+        index.upsert(empty);
+
+        assertThat(PostInterval.of(3L, PostType.EVENT, start, start.plusNanos(500_000))).isNull();
+        assertThat(index.activeAt(hours(10), null)).containsExactly(1L);
+        assertThat(index.size()).isEqualTo(1);
+
+        index.rebuild(List.of(empty, empty, interval(2L, PostType.NOTICE, 5, 15)));
+
+        assertThat(index.overlapping(hours(0), hours(30), null)).containsExactly(2L);
+        assertThat(index.size()).isEqualTo(1);
+    }
+
+    @Test
+    void 개수를_제한하면_시작이_늦은_게시글부터_돌려준다() {
+        index.rebuild(List.of(
+                interval(1L, PostType.EVENT, 0, 100),
+                interval(2L, PostType.EVENT, 30, 100),
+                interval(3L, PostType.NOTICE, 20, 100),
+                interval(4L, PostType.EVENT, 30, 100),
+                interval(5L, PostType.EVENT, 60, 100)));
+
+        assertThat(index.activeAt(hours(50), null, 3)).containsExactly(4L, 2L, 3L);
+        assertThat(index.activeAt(hours(50), PostType.EVENT, 10)).containsExactlyInAnyOrder(1L, 2L, 4L);
+        assertThat(index.overlapping(hours(40), hours(70), PostType.EVENT, 2)).containsExactly(5L, 4L);
+    }
+
+    @Test
+    void 무작위_구간에서_전체_비교와_같은_결과를_낸다() {
+        Random random = new Random(22L);
+        List<PostInterval> intervals = new ArrayList<>();
+        for (long id = 1; id <= 2_000; id++) {
+            int start = random.nextInt(1_000);
+            intervals.add(interval(id, PostType.values()[random.nextInt(PostType.values().length)],
+                    start, start + 1 + random.nextInt(random.nextBoolean() ? 5 : 300)));
+        }
+        index.rebuild(intervals);
+
+        for (int i = 0; i < 500; i++) {
+            int from = random.nextInt(1_100);
+            int to = from + 1 + random.nextInt(50);
+            PostType type = random.nextBoolean() ? null : PostType.values()[random.nextInt(PostType.values().length)];
+
+            assertThat(index.overlapping(hours(from), hours(to), type))
+                    .containsExactlyInAnyOrderElementsOf(bruteForce(intervals, hours(from), hours(to), type));
+            assertThat(index.activeAt(hours(from), type))
+                    .containsExactlyInAnyOrderElementsOf(bruteForce(intervals, hours(from), hours(from).plusNanos(1_000_000), type));
+        }
+    }
+
+    @Test
+    void 개별_변경이_쌓여_트리에_합쳐지는_동안에도_전체_비교와_같은_결과를_낸다() {
+        Random random = new Random(25L);
+        Map<Long, PostInterval> expected = new HashMap<>();
+        for (long id = 1; id <= 500; id++) {
+            expected.put(id, randomInterval(random, id));
+        }
+        index.rebuild(expected.values());
+
+        for (int i = 0; i < PostPeriodIndex.MAX_PENDING * 3; i++) {
+            long id = 1 + random.nextInt(700);
+            if (random.nextInt(4) == 0) {
+                expected.remove(id);
+                index.delete(id);
+            } else {
+                PostInterval interval = randomInterval(random, id);
+                expected.put(id, interval);
+                index.upsert(interval);
+            }
+            if (i % 20 == 0) {
+                int from = random.nextInt(1_100);
+                int to = from + 1 + random.nextInt(50);
+                List<PostInterval> current = new ArrayList<>(expected.values());
+
+                assertThat(index.size()).isEqualTo(expected.size());
+                assertThat(index.overlapping(hours(from), hours(to), PostType.EVENT))
+                        .containsExactlyInAnyOrderElementsOf(bruteForce(current, hours(from), hours(to), PostType.EVENT));
+                assertThat(index.activeAt(hours(from), null))
+                        .containsExactlyInAnyOrderElementsOf(bruteForce(current, hours(from), hours(from).plusNanos(1_000_000), null));
+                assertThat(index.activeAt(hours(from), null, 5)).containsExactlyInAnyOrderElementsOf(
+                        bruteForce(current, hours(from), hours(from).plusNanos(1_000_000), null).stream()
+                                .map(expected::get)
+                                .sorted(PostInterval.ORDER.reversed())
+                                .limit(5)
+                                .map(PostInterval::getPostId)
+                                .collect(Collectors.toList()));
+            }
+        }
+    }
+
+    @Test
+    void 읽는_동안_변경되었으면_오래된_스냅샷으로_덮어쓰지_않는다() {
+        long before = index.modifications();
+        index.upsert(interval(1L, PostType.EVENT, 10, 20));
+
+        boolean replaced = index.rebuildIfUnmodified(List.of(), before);
+
+        assertThat(replaced).isFalse();
+        assertThat(index.activeAt(hours(15), null)).containsExactly(1L);
+    }
+
+    private static List<Long> bruteForce(List<PostInterval> intervals, LocalDateTime from, LocalDateTime to,
+                                         PostType type) {
+        long fromMillis = PostPeriodIndex.toMillis(from);
+        long toMillis = PostPeriodIndex.toMillis(to);
+        return intervals.stream()
+                .filter(interval -> interval.getStart() < toMillis && fromMillis < interval.getEnd())
+                .filter(interval -> type == null || interval.getType() == type)
+                .map(PostInterval::getPostId)
+                .collect(Collectors.toList());
+    }
+
+    private static PostInterval randomInterval(Random random, long postId) {
+        int start = random.nextInt(1_000);
+        return interval(postId, PostType.values()[random.nextInt(PostType.values().length)],
+                start, start + 1 + random.nextInt(300));
+    }
+
+    private static PostInterval interval(Long postId, PostType type, int startHour, int endHour) {
+        return new PostInterval(postId, type, PostPeriodIndex.toMillis(hours(startHour)),
+                PostPeriodIndex.toMillis(hours(endHour)));
+    }
+
+    private static LocalDateTime hours(int hours) {
+        return BASE.plusHours(hours);
+    }
+
+}
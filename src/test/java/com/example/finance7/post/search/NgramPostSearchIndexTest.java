@@ -0,0 +1,73 @@
+package com.example.finance7.post.search;
+
+import com.example.finance7.global.error.BusinessException;
+import com.example.finance7.post.entity.PostType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class NgramPostSearchIndexTest {
+
+    private NgramPostSearchIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new NgramPostSearchIndex();
+        index.rebuild(List.of(
+                new PostSearchDocument(1L, PostType.NOTICE, "자유적금 금리 인상 안내", "다음 달부터 금리가 오릅니다."),
+                new PostSearchDocument(2L, PostType.FREE, "적금 추천 부탁드립니다", "자유적금이랑 정기적금 중 고민입니다."),
+                new PostSearchDocument(3L, PostType.EVENT, "신규 가입 이벤트", "카드 발급 시 커피 쿠폰을 드립니다."),
+                new PostSearchDocument(4L, PostType.FREE, "자유 게시판 규칙", "적금 이야기는 금융 게시판에서 해 주세요.")
+        ));
+    }
+
+    @Test
+    void 띄어쓰기_없이_붙은_단어의_일부로도_찾는다() {
+        assertThat(search("적금", null)).containsExactlyInAnyOrder(1L, 2L, 4L);
+        assertThat(search("정기적금", null)).containsExactly(2L);
+    }
+
+    @Test
+    void 제목에_나온_글이_본문에만_나온_글보다_앞선다() {
+        assertThat(search("자유적금", null)).containsExactly(1L, 2L);
+    }
+
+    @Test
+    void 여러_단어는_모두_포함해야_하고_종류로_거른다() {
+        assertThat(search("적금 고민", null)).containsExactly(2L);
+        assertThat(search("적금", PostType.FREE)).containsExactlyInAnyOrder(2L, 4L);
+    }
+
+    @Test
+    void 수정과_삭제가_색인에_즉시_반영된다() {
+        index.upsert(new PostSearchDocument(3L, PostType.EVENT, "적금 가입 이벤트", "적금 가입 시 커피 쿠폰을 드립니다."));
+        index.delete(1L);
+
+        assertThat(search("카드", null)).isEmpty();
+        assertThat(search("적금", PostType.EVENT)).containsExactly(3L);
+        assertThat(index.size()).isEqualTo(3);
+    }
+
+    @Test
+    void 두_글자_이상인_단어가_없으면_검색하지_않는다() {
+        assertThatThrownBy(() -> PostSearchQuery.parse("적 금"))
+                .isInstanceOf(BusinessException.class);
+    }
+
+    @Test
+    void 떨어진_2gram_으로_잡힌_후보는_확인_단계에서_걸러진다() {
+        PostSearchQuery query = PostSearchQuery.parse("자유적금");
+
+        assertThat(query.matches("자유 게시판", "적금 이야기")).isFalse();
+        assertThat(query.matches("적금 추천", "자유적금이랑 정기적금")).isTrue();
+    }
+
+    private List<Long> search(String keyword, PostType type) {
+        return index.search(PostSearchQuery.parse(keyword), type, 10);
+    }
+
+}
@@ -0,0 +1,35 @@
+package com.example.finance7.post.search;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PostHighlighterTest {
+
+    @Test
+    void 일치_부분을_감싸고_나머지는_이스케이프한다() {
+        String result = PostHighlighter.highlight("<b>자유적금</b> 안내", List.of("적금"));
+
+        assertThat(result).isEqualTo("&lt;b&gt;자유<em>적금</em>&lt;/b&gt; 안내");
+    }
+
+    @Test
+    void 대소문자를_가리지_않고_겹치는_일치는_하나로_감싼다() {
+        String result = PostHighlighter.highlight("WON 적금", List.of("won", "on"));
+
+        assertThat(result).isEqualTo("<em>WON</em> 적금");
+    }
+
+    @Test
+    void 본문은_첫_일치_주변만_잘라_보여준다() {
+        String content = "가".repeat(100) + "적금" + "나".repeat(100);
+
+        String snippet = PostHighlighter.snippet(content, List.of("적금"), 20);
+
+        assertThat(snippet).isEqualTo(PostHighlighter.ELLIPSIS + "가".repeat(5) + "<em>적금</em>" + "나".repeat(13)
+                + PostHighlighter.ELLIPSIS);
+    }
+
+}
@@ -0,0 +1,107 @@
+package com.example.finance7.post.view;
+
+import com.example.finance7.post.entity.Post;
+import com.example.finance7.post.entity.PostType;
+import com.example.finance7.post.repository.PostRepository;
+import com.example.finance7.post.service.PostService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = "app.post.view-count.flush-interval=3600000")
+class PostViewCounterTest {
+
+    @Autowired
+    private PostViewCounter postViewCounter;
+
+    @Autowired
+    private PostService postService;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private Long postId;
+
+    @BeforeEach
+    void setUp() {
+        postId = postRepository.save(Post.builder()
+                .type(PostType.NOTICE)
+                .title("금리 인상 안내")
+                .content("예금 금리가 인상됩니다.")
+                .writerId(1L)
+                .build()).getId();
+    }
+
+    @AfterEach
+    void tearDown() {
+        postViewCounter.flush();
+        postRepository.deleteAll();
+    }
+
+    @Test
+    void 동시_조회수는_반영_중에도_잃지_않고_한꺼번에_더해진다() {
+        AtomicBoolean running = new AtomicBoolean(true);
+        CompletableFuture<Void> flusher = CompletableFuture.runAsync(() -> {
+            while (running.get()) {
+                postViewCounter.flush();
+            }
+        });
+        CompletableFuture<?>[] viewers = new CompletableFuture<?>[8];
+        for (int i = 0; i < viewers.length; i++) {
+            viewers[i] = CompletableFuture.runAsync(() -> {
+                for (int j = 0; j < 1_000; j++) {
+                    postViewCounter.increment(postId);
+                }
+            });
+        }
+        CompletableFuture.allOf(viewers).join();
+        running.set(false);
+        flusher.join();
+        postViewCounter.flush();
+
+        assertThat(viewCount()).isEqualTo(8_000);
+        assertThat(postViewCounter.pendingViews()).isZero();
+    }
+
+    @Test
+    void 조회_응답은_반영되지_않은_조회수를_포함한다() {
+        postService.getPost(postId);
+        postService.getPost(postId);
+
+        assertThat(postService.getPost(postId).getViewCount()).isEqualTo(3);
+        assertThat(viewCount()).isZero();
+    }
+
+    @Test
+    void 게시글을_수정해도_그_사이_반영된_조회수를_덮어쓰지_않는다() {
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            Post post = postRepository.findById(postId).orElseThrow();
+            jdbcTemplate.update("update post set view_count = view_count + 100 where post_id = ?", postId);
+            post.update("금리 인상 안내(수정)", "예금 금리가 0.2%p 인상됩니다.", null);
+        });
+
+        assertThat(postRepository.findById(postId).orElseThrow().getTitle()).isEqualTo("금리 인상 안내(수정)");
+        assertThat(viewCount()).isEqualTo(100);
+    }
+
+    private long viewCount() {
+        return jdbcTemplate.queryForObject("select view_count from post where post_id = ?", Long.class, postId);
+    }
+
+}
@@ -0,0 +1,30 @@
+package com.example.finance7.product.autocomplete;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class HangulJamoTest {
+
+    @Test
+    void 음절을_자모로_풀고_겹자모는_나눈다() {
+        assertThat(HangulJamo.decompose("과 닭")).isEqualTo("ㄱㅗㅏㄷㅏㄹㄱ");
+        assertThat(HangulJamo.decompose("WON적금")).isEqualTo("wonㅈㅓㄱㄱㅡㅁ");
+    }
+
+    @Test
+    void 입력_중인_받침은_다음_음절의_초성과_같은_자모열이_된다() {
+        assertThat(HangulJamo.decompose("카카오뱅크")).startsWith(HangulJamo.decompose("카카옵"));
+        assertThat(HangulJamo.decompose("과")).startsWith(HangulJamo.decompose("고"));
+    }
+
+    @Test
+    void 자음만_있는_입력을_초성_검색으로_본다() {
+        assertThat(HangulJamo.chosung("카카오뱅크 WON")).isEqualTo("ㅋㅋㅇㅂㅋwon");
+        assertThat(HangulJamo.isChosungQuery("ㅋㅋㅂㅋ")).isTrue();
+        assertThat(HangulJamo.isChosungQuery("wonㅈㄱ")).isTrue();
+        assertThat(HangulJamo.isChosungQuery("카ㅋ")).isFalse();
+        assertThat(HangulJamo.isChosungQuery("won")).isFalse();
+    }
+
+}
@@ -0,0 +1,117 @@
+package com.example.finance7.product.autocomplete;
+
+import com.example.finance7.product.entity.ProductType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ProductAutocompleteIndexTest {
+
+    private ProductAutocompleteIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new ProductAutocompleteIndex();
+        index.rebuild(List.of(
+                suggestion(1L, "카카오뱅크 자유적금", "카카오뱅크", 30),
+                suggestion(2L, "카카오뱅크 신용카드", "카카오뱅크", 50),
+                suggestion(3L, "우리 WON 적금", "우리은행", 40),
+                suggestion(4L, "청년 자유 적금", "신한은행", 10)
+        ));
+    }
+
+    @Test
+    void 초성만으로_상품명과_은행명을_찾는다() {
+        assertThat(ids("ㅋㅋㅇㅂㅋ")).containsExactly(2L, 1L);
+        assertThat(ids("ㅈㄱ")).containsExactly(3L, 4L);
+        assertThat(ids("ㅇㄹㅇ")).containsExactly(3L);
+    }
+
+    @Test
+    void 입력_중인_음절과_중간_단어로도_찾는다() {
+        assertThat(ids("카카옵")).containsExactly(2L, 1L);
+        assertThat(ids("자유저")).containsExactly(1L, 4L);
+        assertThat(ids("won")).containsExactly(3L);
+        assertThat(ids("신한")).containsExactly(4L);
+    }
+
+    @Test
+    void 상품_변경과_인기도_변경은_해당_상품만_다시_넣는다() {
+        index.upsert(suggestion(2L, "카카오뱅크 체크카드", "카카오뱅크", 0));
+        index.delete(3L);
+        index.updatePopularity(Map.of(1L, 5L, 2L, 50L, 4L, 80L));
+
+        assertThat(ids("ㅅㅇㅋㄷ")).isEmpty();
+        assertThat(ids("체크")).containsExactly(2L);
+        assertThat(ids("ㅈㄱ")).containsExactly(4L);
+        assertThat(index.size()).isEqualTo(3);
+    }
+
+    @Test
+    void 변경을_거듭해도_전체를_다시_만든_결과와_같다() {
+        String[] words = {"카카오", "자유", "적금", "정기", "예금", "청년", "우대", "신용", "대출", "카드", "플러스", "스마트"};
+        String[] banks = {"카카오뱅크", "우리은행", "신한은행", "토스뱅크"};
+        Random random = new Random(24L);
+        index = new ProductAutocompleteIndex();
+        Map<Long, ProductSuggestion> expected = new HashMap<>();
+        for (int i = 0; i < 3_000; i++) {
+            long id = 1 + random.nextInt(300);
+            if (random.nextInt(5) == 0) {
+                index.delete(id);
+                expected.remove(id);
+                continue;
+            }
+            String name = words[random.nextInt(words.length)] + " " + words[random.nextInt(words.length)]
+                    + words[random.nextInt(words.length)] + " " + id;
+            ProductSuggestion updated = suggestion(id, name, banks[random.nextInt(banks.length)],
+                    random.nextInt(100));
+            index.upsert(updated);
+            ProductSuggestion previous = expected.get(id);
+            expected.put(id, previous == null ? updated : updated.withPopularity(previous.getPopularity()));
+        }
+
+        ProductAutocompleteIndex rebuilt = new ProductAutocompleteIndex();
+        rebuilt.rebuild(new ArrayList<>(expected.values()));
+        for (String query : List.of("ㅋ", "ㅈㅇ", "ㅈㄱ", "카카오", "자유적", "적금", "ㅇㄹㅇㅎ", "토스", "플럿", "스마트카드", "카카오자유적금1", "1")) {
+            assertThat(ids(query)).as(query).isEqualTo(ids(rebuilt, query));
+            assertThat(ids(query)).as(query).isEqualTo(bruteForce(expected, query));
+        }
+        assertThat(index.nodeCount()).isEqualTo(rebuilt.nodeCount());
+    }
+
+    private List<Long> bruteForce(Map<Long, ProductSuggestion> suggestions, String query) {
+        boolean chosung = HangulJamo.isChosungQuery(query);
+        String key = chosung ? HangulJamo.chosung(query) : HangulJamo.decompose(query);
+        return suggestions.values().stream()
+                .filter(suggestion -> ProductAutocompleteIndex.keys(suggestion).stream()
+                        .map(candidate -> chosung ? HangulJamo.chosung(candidate) : HangulJamo.decompose(candidate))
+                        .anyMatch(candidate -> candidate.startsWith(key)))
+                .sorted(ProductSuggestion.ORDER)
+                .limit(ProductAutocompleteIndex.MAX_SUGGESTIONS)
+                .map(ProductSuggestion::getId)
+                .collect(Collectors.toList());
+    }
+
+    private List<Long> ids(String query) {
+        return ids(index, query);
+    }
+
+    private static List<Long> ids(ProductAutocompleteIndex index, String query) {
+        return index.suggest(query, ProductAutocompleteIndex.MAX_SUGGESTIONS).stream()
+                .map(ProductSuggestion::getId)
+                .collect(Collectors.toList());
+    }
+
+    private static ProductSuggestion suggestion(Long id, String name, String bankName, long popularity) {
+        return new ProductSuggestion(id, name, bankName, ProductType.SAVINGS, popularity);
+    }
+
+}
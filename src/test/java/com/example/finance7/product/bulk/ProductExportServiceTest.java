@@ -0,0 +1,84 @@
+package com.example.finance7.product.bulk;
+
+import com.example.finance7.product.entity.InterestType;
+import com.example.finance7.product.entity.Product;
+import com.example.finance7.product.entity.ProductType;
+import com.example.finance7.product.repository.ProductRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+@SpringBootTest
+class ProductExportServiceTest {
+
+    @Autowired
+    private ProductExportService productExportService;
+
+    @Autowired
+    private ProductImportService productImportService;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @AfterEach
+    void tearDown() {
+        productRepository.deleteAll();
+    }
+
+    @Test
+    void 수식으로_시작하는_값은_작은따옴표를_붙여_내보내고_다시_가져오면_뗀다() {
+        productRepository.saveAll(List.of(
+                Product.builder().name("=HYPERLINK(\"http://x\",\"적금\")").bankName("@우리은행")
+                        .type(ProductType.SAVINGS).interestRate(new BigDecimal("-0.50")).build(),
+                Product.builder().name("+1 카드").bankName("-하나은행").type(ProductType.CARD).build()));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        productExportService.exportCsv(out);
+
+        String csv = out.toString(StandardCharsets.UTF_8);
+        assertThat(csv).contains("\"'=HYPERLINK(\"\"http://x\"\",\"\"적금\"\")\",'@우리은행,SAVINGS,,-0.50,");
+        assertThat(csv).contains("'+1 카드,'-하나은행,CARD,");
+
+        productRepository.deleteAll();
+        productImportService.importCsv(new ByteArrayInputStream(out.toByteArray()));
+
+        assertThat(productRepository.findAll()).extracting(Product::getName, Product::getBankName)
+                .containsExactlyInAnyOrder(tuple("=HYPERLINK(\"http://x\",\"적금\")", "@우리은행"),
+                        tuple("+1 카드", "-하나은행"));
+    }
+
+    @Test
+    void 내보낸_파일은_다시_가져올_수_있다() {
+        productRepository.saveAll(List.of(
+                Product.builder().name("청년 \"우대\" 적금").bankName("우리은행").type(ProductType.SAVINGS)
+                        .interestType(InterestType.FIXED).interestRate(new BigDecimal("4.50"))
+                        .minAge(19).maxAge(34).tags(List.of("청년", "비대면")).build(),
+                Product.builder().name("프리미엄, 카드").bankName("하나은행").type(ProductType.CARD).build()));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        long rows = productExportService.exportCsv(out);
+
+        String csv = out.toString(StandardCharsets.UTF_8);
+        assertThat(rows).isEqualTo(2);
+        assertThat(csv).startsWith("\uFEFFname,bankName,type,");
+        assertThat(csv).contains("\"청년 \"\"우대\"\" 적금\",우리은행,SAVINGS,FIXED,4.50,19,34,,청년;비대면");
+
+        productRepository.deleteAll();
+        ProductImportResult result = productImportService.importCsv(new ByteArrayInputStream(out.toByteArray()));
+
+        assertThat(result.getImportedRows()).isEqualTo(2);
+        assertThat(productRepository.findAll()).extracting(Product::getName)
+                .containsExactlyInAnyOrder("청년 \"우대\" 적금", "프리미엄, 카드");
+    }
+
+}
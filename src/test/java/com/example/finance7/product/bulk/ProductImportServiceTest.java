@@ -0,0 +1,122 @@
+package com.example.finance7.product.bulk;
+
+import com.example.finance7.product.cache.ProductCatalogVersion;
+import com.example.finance7.product.entity.Product;
+import com.example.finance7.product.repository.ProductRepository;
+import com.example.finance7.product.search.ProductDocument;
+import com.example.finance7.product.search.ProductSearchCondition;
+import com.example.finance7.product.search.ProductSearchIndex;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest(properties = "app.product.import.chunk-size=2")
+class ProductImportServiceTest {
+
+    private static final String HEADER = "name,bankName,type,interestType,interestRate,minAge,maxAge,minIncome,tags\n";
+
+    @Autowired
+    private ProductImportService productImportService;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private ProductCatalogVersion catalogVersion;
+
+    @Autowired
+    private ProductSearchIndex productSearchIndex;
+
+    @AfterEach
+    void tearDown() {
+        productRepository.deleteAll();
+    }
+
+    @Test
+    void 잘못된_줄은_건너뛰고_나머지를_청크_단위로_저장한다() {
+        String csv = HEADER
+                + "청년 적금,우리은행,SAVINGS,FIXED,4.50,19,34,,청년;비대면\n"
+                + "직장인 신용대출,신한은행,LOAN,VARIABLE,5.10,,,30000000,직장인\n"
+                + "잘못된 상품,국민은행,UNKNOWN,,,,,,\n"
+                + "\"프리미엄, 카드\",하나은행,CARD,,,,,,\n";
+
+        ProductImportResult result = productImportService.importCsv(stream(csv));
+
+        assertThat(result.getTotalRows()).isEqualTo(4);
+        assertThat(result.getImportedRows()).isEqualTo(3);
+        assertThat(result.getErrors()).singleElement().asString().startsWith("4번째 줄");
+        assertThat(productRepository.findAll()).extracting(Product::getName)
+                .containsExactlyInAnyOrder("청년 적금", "직장인 신용대출", "프리미엄, 카드");
+    }
+
+    @Test
+    void 저장에_실패한_청크는_줄_범위를_남기고_나머지를_계속_저장한다() {
+        String csv = HEADER
+                + "청년 적금,우리은행,SAVINGS,FIXED,4.50,19,34,,청년\n"
+                + "직장인 예금,신한은행,SAVINGS,FIXED,3.10,,,,직장인\n"
+                + "주택 대출,국민은행,LOAN,VARIABLE,4.20,,,,주택\n"
+                + "긴 은행명 대출," + "은행".repeat(40) + ",LOAN,VARIABLE,4.90,,,,\n"
+                + "프리미엄 카드,하나은행,CARD,,,,,,\n";
+
+        ProductImportResult result = productImportService.importCsv(stream(csv));
+
+        assertThat(result.getTotalRows()).isEqualTo(5);
+        assertThat(result.getImportedRows()).isEqualTo(3);
+        assertThat(result.getFailedRows()).isEqualTo(2);
+        assertThat(result.getErrors()).singleElement().asString().startsWith("4~5번째 줄");
+        assertThat(productRepository.findAll()).extracting(Product::getName)
+                .containsExactlyInAnyOrder("청년 적금", "직장인 예금", "프리미엄 카드");
+    }
+
+    @Test
+    void 상품_변경은_행마다가_아니라_청크마다_한_번씩_반영한다() {
+        String csv = HEADER
+                + "적재 적금,우리은행,SAVINGS,FIXED,4.50,,,,\n"
+                + "적재 예금,신한은행,SAVINGS,FIXED,3.10,,,,\n"
+                + "적재 대출,국민은행,LOAN,VARIABLE,4.20,,,,\n";
+        long before = catalogVersion.version();
+
+        productImportService.importCsv(stream(csv));
+
+        assertThat(catalogVersion.version()).isEqualTo(before + 2);
+        assertThat(productSearchIndex.search(ProductSearchCondition.builder().keyword("적재").build()))
+                .extracting(ProductDocument::getName)
+                .containsExactlyInAnyOrder("적재 적금", "적재 예금", "적재 대출");
+    }
+
+    @Test
+    void 닫히지_않은_따옴표가_있으면_그_전까지_저장하고_결과로_알린다() {
+        String csv = HEADER
+                + "청년 적금,우리은행,SAVINGS,FIXED,4.50,19,34,,청년\n"
+                + "직장인 예금,신한은행,SAVINGS,FIXED,3.10,,,,직장인\n"
+                + "주택 대출,국민은행,LOAN,VARIABLE,4.20,,,,주택\n"
+                + "\"프리미엄 카드,하나은행,CARD,,,,,,\n"
+                + "체크 카드,하나은행,CARD,,,,,,\n";
+
+        ProductImportResult result = productImportService.importCsv(stream(csv));
+
+        assertThat(result.getTotalRows()).isEqualTo(4);
+        assertThat(result.getImportedRows()).isEqualTo(3);
+        assertThat(result.getErrors()).singleElement().asString().startsWith("5번째 줄");
+        assertThat(productRepository.findAll()).extracting(Product::getName)
+                .containsExactlyInAnyOrder("청년 적금", "직장인 예금", "주택 대출");
+    }
+
+    @Test
+    void 헤더가_다르면_적재하지_않는다() {
+        assertThatThrownBy(() -> productImportService.importCsv(stream("name,type\n적금,SAVINGS\n")))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static ByteArrayInputStream stream(String csv) {
+        return new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8));
+    }
+
+}
@@ -0,0 +1,122 @@
+package com.example.finance7.product.cache;
+
+import com.example.finance7.global.cache.CacheType;
+import com.example.finance7.global.pagination.CursorRequest;
+import com.example.finance7.product.dto.ProductResponse;
+import com.example.finance7.product.entity.InterestType;
+import com.example.finance7.product.entity.Product;
+import com.example.finance7.product.entity.ProductSortType;
+import com.example.finance7.product.entity.ProductType;
+import com.example.finance7.product.repository.ProductRepository;
+import com.example.finance7.product.service.ProductService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = "app.product.cache.re-evict-delay=1s")
+class ProductCacheInvalidatorTest {
+
+    private static final CursorRequest FIRST_PAGE = CursorRequest.first(20);
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private ProductCatalogVersion catalogVersion;
+
+    @AfterEach
+    void tearDown() {
+        productRepository.deleteAll();
+    }
+
+    @Test
+    void 상품_금리가_바뀌면_커밋_후_캐시가_비워진다() {
+        Product saved = productRepository.save(product());
+        productService.getProduct(saved.getId());
+        productService.getProducts(ProductType.SAVINGS, ProductSortType.ID, FIRST_PAGE);
+        assertThat(cacheManager.getCache(CacheType.Names.PRODUCT).get(saved.getId())).isNotNull();
+
+        transactionTemplate.executeWithoutResult(status -> productRepository.findById(saved.getId())
+                .orElseThrow()
+                .update("정기예금", "우리은행", ProductType.SAVINGS, InterestType.FIXED,
+                        new BigDecimal("3.80"), List.of()));
+
+        assertThat(cacheManager.getCache(CacheType.Names.PRODUCT).get(saved.getId())).isNull();
+        assertThat(cacheManager.getCache(CacheType.Names.PRODUCT_LIST).get("SAVINGS:ID:" + FIRST_PAGE.cacheKey()))
+                .isNull();
+        assertThat(productService.getProduct(saved.getId()).getInterestRate()).isEqualByComparingTo("3.80");
+    }
+
+    @Test
+    void 커밋_전에_읽은_조회가_늦게_넣은_이전_값은_잠시_뒤_다시_비워진다() throws Exception {
+        Long productId = productRepository.save(product()).getId();
+        CountDownLatch loaded = new CountDownLatch(1);
+        CountDownLatch committed = new CountDownLatch(1);
+        // @Cacheable 조회와 같은 순서: 읽고, (그 사이 다른 트랜잭션이 커밋하고) 캐시에 넣는다
+        CompletableFuture<Void> lateReader = CompletableFuture.runAsync(() -> {
+            ProductResponse stale = transactionTemplate.execute(status ->
+                    ProductResponse.from(productRepository.findById(productId).orElseThrow()));
+            loaded.countDown();
+            await(committed);
+            cacheManager.getCache(CacheType.Names.PRODUCT).put(productId, stale);
+        });
+        assertThat(loaded.await(5, TimeUnit.SECONDS)).isTrue();
+
+        transactionTemplate.executeWithoutResult(status -> productRepository.findById(productId)
+                .orElseThrow()
+                .update("정기예금", "우리은행", ProductType.SAVINGS, InterestType.FIXED,
+                        new BigDecimal("3.80"), List.of()));
+        long versionAfterCommit = catalogVersion.version();
+        committed.countDown();
+        lateReader.get(5, TimeUnit.SECONDS);
+        assertThat(productService.getProduct(productId).getInterestRate()).isEqualByComparingTo("3.50");
+
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (cacheManager.getCache(CacheType.Names.PRODUCT).get(productId) != null
+                && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+        }
+
+        assertThat(productService.getProduct(productId).getInterestRate()).isEqualByComparingTo("3.80");
+        assertThat(catalogVersion.version()).isGreaterThan(versionAfterCommit);
+    }
+
+    private static Product product() {
+        return Product.builder()
+                .name("정기예금")
+                .bankName("우리은행")
+                .type(ProductType.SAVINGS)
+                .interestRate(new BigDecimal("3.50"))
+                .tags(List.of())
+                .build();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+}
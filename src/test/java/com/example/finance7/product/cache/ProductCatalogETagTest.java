@@ -0,0 +1,182 @@
+package com.example.finance7.product.cache;
+
+import com.example.finance7.global.cache.CacheType;
+import com.example.finance7.product.entity.InterestType;
+import com.example.finance7.product.entity.Product;
+import com.example.finance7.product.entity.ProductType;
+import com.example.finance7.product.event.ProductChangedEvent;
+import com.example.finance7.product.ranking.ProductActivity;
+import com.example.finance7.product.ranking.ProductRanking;
+import com.example.finance7.product.ranking.RankedProduct;
+import com.example.finance7.product.ranking.RankingWindow;
+import com.example.finance7.product.repository.ProductRepository;
+import com.example.finance7.product.search.ProductDocument;
+import com.example.finance7.product.search.ProductSearchCondition;
+import com.example.finance7.product.search.ProductSearchIndex;
+import com.example.finance7.product.service.ProductService;
+import com.example.finance7.support.EnableQueryBudget;
+import com.example.finance7.support.QueryCounter;
+import net.ttddyy.dsproxy.QueryCount;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@EnableQueryBudget
+class ProductCatalogETagTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private ProductCatalogVersion catalogVersion;
+
+    @Autowired
+    private ProductSearchIndex productSearchIndex;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private ProductRanking productRanking;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private Long productId;
+
+    @BeforeEach
+    void setUp() {
+        productId = productRepository.save(product("청년 적금")).getId();
+    }
+
+    @AfterEach
+    void tearDown() {
+        productRepository.deleteAll();
+    }
+
+    @Test
+    void 카탈로그가_그대로면_조회_없이_304_를_돌려준다() throws Throwable {
+        String etag = mockMvc.perform(get("/api/products/{productId}", productId))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "no-cache"))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        assertThat(etag).startsWith("W/\"");
+
+        QueryCount count = QueryCounter.measure(() -> mockMvc.perform(get("/api/products/{productId}", productId)
+                        .header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, etag))
+                .andExpect(content().string("")));
+
+        assertThat(count.getTotal()).isZero();
+    }
+
+    @Test
+    void 304_로_끝난_상세_조회도_인기_순위에_센다() throws Exception {
+        String etag = mockMvc.perform(get("/api/products/{productId}", productId))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        mockMvc.perform(get("/api/products/{productId}", productId).header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified());
+
+        assertThat(productRanking.top(ProductActivity.VIEW, RankingWindow.HOUR, ProductType.SAVINGS,
+                        ProductRanking.MAX_SIZE))
+                .filteredOn(ranked -> ranked.getProductId().equals(productId))
+                .extracting(RankedProduct::getScore)
+                .containsExactly(2L);
+    }
+
+    @Test
+    void 상품이_바뀌면_이전_ETag_로는_새_응답을_받는다() throws Exception {
+        String etag = mockMvc.perform(get("/api/products").param("type", "SAVINGS"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        productRepository.save(product("직장인 적금"));
+
+        String changed = mockMvc.perform(get("/api/products").param("type", "SAVINGS")
+                        .header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        assertThat(changed).isNotEqualTo(etag);
+    }
+
+    @Test
+    void 카탈로그_버전은_캐시와_검색_색인을_고친_뒤에_오른다() {
+        productService.getProduct(productId);
+        long before = catalogVersion.version();
+        AtomicBoolean cachedAtProbe = new AtomicBoolean(true);
+        AtomicReference<List<String>> searchedAtProbe = new AtomicReference<>();
+        AtomicLong versionAtProbe = new AtomicLong(-1);
+
+        transactionTemplate.executeWithoutResult(status -> {
+            productRepository.findById(productId).orElseThrow()
+                    .update("청년 우대 적금", "우리은행", ProductType.SAVINGS, InterestType.FIXED,
+                            new BigDecimal("3.20"), List.of("청년"));
+            // 갱신 리스너와 버전 리스너 사이에서 실행되어 그 시점의 상태를 본다
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public int getOrder() {
+                    return ProductChangedEvent.VERSION_ORDER - 1;
+                }
+
+                @Override
+                public void afterCommit() {
+                    cachedAtProbe.set(cacheManager.getCache(CacheType.Names.PRODUCT).get(productId) != null);
+                    searchedAtProbe.set(productSearchIndex.search(ProductSearchCondition.builder()
+                                    .keyword("우대")
+                                    .build()).stream()
+                            .map(ProductDocument::getName)
+                            .collect(Collectors.toList()));
+                    versionAtProbe.set(catalogVersion.version());
+                }
+            });
+        });
+
+        assertThat(cachedAtProbe).isFalse();
+        assertThat(searchedAtProbe.get()).containsExactly("청년 우대 적금");
+        assertThat(versionAtProbe.get()).isEqualTo(before);
+        assertThat(catalogVersion.version()).isGreaterThan(before);
+    }
+
+    private Product product(String name) {
+        return Product.builder()
+                .name(name)
+                .bankName("우리은행")
+                .type(ProductType.SAVINGS)
+                .interestRate(new BigDecimal("3.00"))
+                .tags(List.of("청년"))
+                .build();
+    }
+
+}
@@ -0,0 +1,85 @@
+package com.example.finance7.product.cache;
+
+import com.example.finance7.global.cache.CacheType;
+import com.example.finance7.product.entity.InterestType;
+import com.example.finance7.product.entity.Product;
+import com.example.finance7.product.entity.ProductType;
+import com.example.finance7.product.repository.ProductRepository;
+import com.example.finance7.product.search.ProductDocument;
+import com.example.finance7.product.search.ProductSearchCondition;
+import com.example.finance7.product.search.ProductSearchIndex;
+import com.example.finance7.product.service.ProductService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+class ProductCatalogSynchronizerTest {
+
+    @Autowired
+    private ProductCatalogSynchronizer synchronizer;
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private ProductSearchIndex productSearchIndex;
+
+    @Autowired
+    private ProductCatalogVersion catalogVersion;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @AfterEach
+    void tearDown() {
+        productRepository.deleteAll();
+    }
+
+    @Test
+    void 다른_인스턴스가_바꾼_상품은_다음_동기화에서_캐시와_색인에_반영된다() {
+        Long productId = productRepository.save(Product.builder()
+                .name("정기적금")
+                .bankName("우리은행")
+                .type(ProductType.SAVINGS)
+                .interestType(InterestType.FIXED)
+                .interestRate(new BigDecimal("3.50"))
+                .tags(List.of())
+                .build()).getId();
+        synchronizer.synchronize();
+        productService.getProduct(productId);
+        long before = catalogVersion.version();
+
+        // 이 인스턴스의 엔티티 리스너를 거치지 않는 변경
+        jdbcTemplate.update("update product set name = ?, interest_rate = ?, updated_at = ? where product_id = ?",
+                "동기화 우대적금", new BigDecimal("3.90"), LocalDateTime.now().plusMinutes(1), productId);
+        synchronizer.synchronize();
+
+        assertThat(cacheManager.getCache(CacheType.Names.PRODUCT).get(productId)).isNull();
+        assertThat(productService.getProduct(productId).getInterestRate()).isEqualByComparingTo("3.90");
+        assertThat(productSearchIndex.search(ProductSearchCondition.builder().keyword("동기화").build()))
+                .extracting(ProductDocument::getName)
+                .containsExactly("동기화 우대적금");
+        assertThat(catalogVersion.version()).isEqualTo(before + 1);
+
+        synchronizer.synchronize();
+
+        assertThat(catalogVersion.version()).isEqualTo(before + 1);
+    }
+
+}
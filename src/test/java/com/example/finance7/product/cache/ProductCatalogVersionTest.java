@@ -0,0 +1,29 @@
+package com.example.finance7.product.cache;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ProductCatalogVersionTest {
+
+    @Test
+    void 같은_초에_바뀌어도_Last_Modified_는_초_단위로_늘어난다() {
+        ProductCatalogVersion version = new ProductCatalogVersion(
+                Clock.fixed(Instant.ofEpochMilli(1_700_000_000_250L), ZoneOffset.UTC));
+        long started = version.lastModified();
+
+        version.increment();
+        long first = version.lastModified();
+        version.increment();
+        long second = version.lastModified();
+
+        assertThat(started).isEqualTo(1_700_000_001_000L);
+        assertThat(first).isEqualTo(1_700_000_002_000L);
+        assertThat(second).isEqualTo(1_700_000_003_000L);
+    }
+
+}
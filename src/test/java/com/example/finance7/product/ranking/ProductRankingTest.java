@@ -0,0 +1,96 @@
+package com.example.finance7.product.ranking;
+
+import com.example.finance7.product.entity.ProductType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ProductRankingTest {
+
+    private ProductRanking ranking;
+
+    @BeforeEach
+    void setUp() {
+        ranking = new ProductRanking(1024, 4);
+    }
+
+    @Test
+    void 유형별_순위와_전체_순위를_나눠_답한다() {
+        record(ProductActivity.VIEW, 1L, ProductType.values()[0], 5);
+        record(ProductActivity.VIEW, 2L, ProductType.values()[0], 3);
+        record(ProductActivity.VIEW, 3L, ProductType.values()[1], 4);
+        record(ProductActivity.APPLY, 2L, ProductType.values()[0], 1);
+
+        assertThat(ids(ranking.top(ProductActivity.VIEW, RankingWindow.HOUR, null, 10))).containsExactly(1L, 3L, 2L);
+        assertThat(ids(ranking.top(ProductActivity.VIEW, RankingWindow.DAY, ProductType.values()[0], 10)))
+                .containsExactly(1L, 2L);
+        assertThat(ids(ranking.top(ProductActivity.VIEW, RankingWindow.HOUR, null, 2))).containsExactly(1L, 3L);
+        assertThat(ranking.top(ProductActivity.APPLY, RankingWindow.HOUR, null, 10))
+                .extracting(RankedProduct::getScore)
+                .containsExactly(1L);
+    }
+
+    @Test
+    void 구간이_지난_기록은_순위에서_빠진다() {
+        record(ProductActivity.VIEW, 1L, ProductType.values()[0], 5);
+        for (int i = 0; i < RankingWindow.HOUR.getBucketCount() - 1; i++) {
+            ranking.advance(RankingWindow.HOUR);
+        }
+        record(ProductActivity.VIEW, 2L, ProductType.values()[0], 2);
+
+        assertThat(ids(ranking.top(ProductActivity.VIEW, RankingWindow.HOUR, null, 10))).containsExactly(1L, 2L);
+
+        ranking.advance(RankingWindow.HOUR);
+
+        assertThat(ids(ranking.top(ProductActivity.VIEW, RankingWindow.HOUR, null, 10))).containsExactly(2L);
+        assertThat(ids(ranking.top(ProductActivity.VIEW, RankingWindow.DAY, null, 10))).containsExactly(1L, 2L);
+    }
+
+    @Test
+    void 드문_상품이_많아도_많이_조회된_상품은_순위에_남는다() {
+        ProductType type = ProductType.values()[0];
+        Random random = new Random(11);
+        for (int i = 0; i < 50_000; i++) {
+            long productId = random.nextInt(10) == 0 ? 1 + random.nextInt(5) : 1_000 + random.nextInt(20_000);
+            ranking.record(ProductActivity.VIEW, productId, type);
+        }
+
+        assertThat(ids(ranking.top(ProductActivity.VIEW, RankingWindow.HOUR, type, 5)))
+                .containsExactlyInAnyOrder(1L, 2L, 3L, 4L, 5L);
+    }
+
+    @Test
+    void 상품_ID_만으로_기록하면_유형_표의_유형으로_세고_모르는_상품은_세지_않는다() {
+        ProductType first = ProductType.values()[0];
+        ProductType second = ProductType.values()[1];
+        ranking.putType(1L, first);
+        ranking.putType(2L, first);
+
+        ranking.record(ProductActivity.VIEW, 1L);
+        ranking.record(ProductActivity.VIEW, 3L);
+        ranking.removeType(2L);
+        ranking.record(ProductActivity.VIEW, 2L);
+        ranking.replaceTypes(Map.of(1L, first, 3L, second));
+        ranking.record(ProductActivity.VIEW, 3L);
+
+        assertThat(ids(ranking.top(ProductActivity.VIEW, RankingWindow.HOUR, first, 10))).containsExactly(1L);
+        assertThat(ids(ranking.top(ProductActivity.VIEW, RankingWindow.HOUR, second, 10))).containsExactly(3L);
+    }
+
+    private void record(ProductActivity activity, long productId, ProductType type, int times) {
+        for (int i = 0; i < times; i++) {
+            ranking.record(activity, productId, type);
+        }
+    }
+
+    private static List<Long> ids(List<RankedProduct> ranked) {
+        return ranked.stream().map(RankedProduct::getProductId).collect(Collectors.toList());
+    }
+
+}
@@ -0,0 +1,80 @@
+package com.example.finance7.product.search;
+
+import com.example.finance7.product.entity.ProductType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ProductSearchIndexTest {
+
+    private ProductSearchIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new ProductSearchIndex();
+        index.rebuild(List.of(
+                document(1L, "카카오뱅크 자유적금", "카카오뱅크", ProductType.SAVINGS, "비대면", "청년"),
+                document(2L, "우리 WON 적금", "우리은행", ProductType.SAVINGS, "급여이체"),
+                document(3L, "우리 직장인 신용대출", "우리은행", ProductType.LOAN, "직장인"),
+                document(4L, "카카오뱅크 신용카드", "카카오뱅크", ProductType.CARD)
+        ));
+    }
+
+    @Test
+    void 키워드는_상품명_중간에_있어도_검색된다() {
+        List<ProductDocument> result = index.search(condition("적금", null, null));
+
+        assertThat(result).extracting(ProductDocument::getId).containsExactlyInAnyOrder(1L, 2L);
+    }
+
+    @Test
+    void 여러_키워드와_필터는_모두_만족해야_한다() {
+        List<ProductDocument> result = index.search(condition("우리 대출", ProductType.LOAN, "우리은행"));
+
+        assertThat(result).extracting(ProductDocument::getId).containsExactly(3L);
+    }
+
+    @Test
+    void 상품명_일치가_태그_일치보다_우선한다() {
+        index.upsert(document(5L, "청년 우대 적금", "신한은행", ProductType.SAVINGS, "직장인"));
+
+        List<ProductDocument> result = index.search(condition("직장인", null, null));
+
+        assertThat(result).extracting(ProductDocument::getId).containsExactly(3L, 5L);
+    }
+
+    @Test
+    void 수정과_삭제가_색인에_즉시_반영된다() {
+        index.upsert(document(4L, "카카오뱅크 체크카드", "카카오뱅크", ProductType.CARD));
+        index.delete(1L);
+
+        assertThat(index.search(condition("신용카드", null, null))).isEmpty();
+        assertThat(index.search(condition("카카오", null, null)))
+                .extracting(ProductDocument::getId).containsExactly(4L);
+        assertThat(index.size()).isEqualTo(3);
+    }
+
+    @Test
+    void 결과_수는_요청한_크기로_제한된다() {
+        List<ProductDocument> result = index.search(ProductSearchCondition.builder().size(2).build());
+
+        assertThat(result).hasSize(2);
+    }
+
+    private static ProductSearchCondition condition(String keyword, ProductType type, String bankName) {
+        return ProductSearchCondition.builder()
+                .keyword(keyword)
+                .type(type)
+                .bankName(bankName)
+                .build();
+    }
+
+    private static ProductDocument document(Long id, String name, String bankName, ProductType type, String... tags) {
+        return new ProductDocument(id, name, bankName, type, BigDecimal.ONE, List.of(tags));
+    }
+
+}
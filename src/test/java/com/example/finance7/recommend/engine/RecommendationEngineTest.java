@@ -0,0 +1,117 @@
+package com.example.finance7.recommend.engine;
+
+import com.example.finance7.member.entity.Job;
+import com.example.finance7.product.entity.InterestType;
+import com.example.finance7.product.entity.ProductType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RecommendationEngineTest {
+
+    private static final MemberProfile YOUNG_WORKER = new MemberProfile(27, 40_000_000L, Job.OFFICE_WORKER,
+            InterestType.FIXED);
+
+    private RecommendationEngine engine;
+
+    @BeforeEach
+    void setUp() {
+        engine = new RecommendationEngine();
+        engine.loadProducts(List.of(
+                savings(1L, "3.00", null, null, "직장인"),
+                savings(2L, "4.50", 19, 34, "청년"),
+                savings(3L, "5.00", 60, null, "시니어"),
+                loan(4L, "6.00", InterestType.FIXED),
+                loan(5L, "5.50", InterestType.VARIABLE)
+        ));
+    }
+
+    @Test
+    void 자격이_없는_상품은_추천하지_않는다() {
+        List<Recommendation> result = engine.recommend(YOUNG_WORKER, ProductType.SAVINGS, 10);
+
+        assertThat(result).extracting(recommendation -> recommendation.getProduct().getId())
+                .containsExactly(2L, 1L);
+    }
+
+    @Test
+    void 선호_금리_유형이_같으면_가산점을_받는다() {
+        List<Recommendation> result = engine.recommend(YOUNG_WORKER, ProductType.LOAN, 10);
+
+        assertThat(result).extracting(recommendation -> recommendation.getProduct().getId())
+                .containsExactly(4L, 5L);
+    }
+
+    @Test
+    void 상품_변경은_이미_계산된_세그먼트에_바로_반영된다() {
+        engine.assignMember(100L, YOUNG_WORKER.segment());
+
+        engine.upsertProduct(savings(6L, "7.00", null, null));
+        engine.removeProduct(2L);
+
+        assertThat(engine.recommend(YOUNG_WORKER, ProductType.SAVINGS, 1))
+                .extracting(recommendation -> recommendation.getProduct().getId())
+                .containsExactly(6L);
+        assertThat(engine.recommend(YOUNG_WORKER, ProductType.SAVINGS, 10))
+                .extracting(recommendation -> recommendation.getProduct().getId())
+                .doesNotContain(2L);
+    }
+
+    @Test
+    void 꽉_찬_후보_목록에서_상품이_빠지면_다음_순위가_채워진다() {
+        List<ProductProfile> products = new ArrayList<>();
+        for (long id = 1; id <= RecommendationEngine.CANDIDATES_PER_TYPE + 5; id++) {
+            products.add(savings(id, BigDecimal.valueOf(id, 1).toPlainString(), null, null));
+        }
+        engine.loadProducts(products);
+        engine.assignMember(100L, YOUNG_WORKER.segment());
+
+        engine.removeProduct((long) RecommendationEngine.CANDIDATES_PER_TYPE + 5);
+
+        assertThat(engine.recommend(YOUNG_WORKER, ProductType.SAVINGS, 50))
+                .hasSize(RecommendationEngine.CANDIDATES_PER_TYPE);
+    }
+
+    @Test
+    void 회원이_없는_세그먼트는_후보_목록을_유지하지_않는다() {
+        MemberSegment before = MemberSegment.of(27, 40_000_000L, Job.OFFICE_WORKER);
+        MemberSegment after = MemberSegment.of(45, 90_000_000L, Job.SELF_EMPLOYED);
+        engine.assignMember(100L, before);
+
+        engine.assignMember(100L, after);
+
+        assertThat(engine.segmentCount()).isEqualTo(1);
+    }
+
+    private static ProductProfile savings(Long id, String rate, Integer minAge, Integer maxAge, String... tags) {
+        return ProductProfile.builder()
+                .id(id)
+                .name("적금" + id)
+                .bankName("우리은행")
+                .type(ProductType.SAVINGS)
+                .interestType(InterestType.FIXED)
+                .interestRate(new BigDecimal(rate))
+                .minAge(minAge)
+                .maxAge(maxAge)
+                .tags(Set.of(tags))
+                .build();
+    }
+
+    private static ProductProfile loan(Long id, String rate, InterestType interestType) {
+        return ProductProfile.builder()
+                .id(id)
+                .name("대출" + id)
+                .bankName("우리은행")
+                .type(ProductType.LOAN)
+                .interestType(interestType)
+                .interestRate(new BigDecimal(rate))
+                .build();
+    }
+
+}
@@ -0,0 +1,84 @@
+package com.example.finance7.reference.service;
+
+import com.example.finance7.reference.entity.Bank;
+import com.example.finance7.reference.entity.CommonCode;
+import com.example.finance7.reference.entity.ReferenceCacheRegion;
+import com.example.finance7.reference.repository.BankRepository;
+import com.example.finance7.reference.repository.CommonCodeRepository;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import javax.persistence.EntityManagerFactory;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+class ReferenceServiceTest {
+
+    @Autowired
+    private ReferenceService referenceService;
+
+    @Autowired
+    private BankRepository bankRepository;
+
+    @Autowired
+    private CommonCodeRepository commonCodeRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() throws InterruptedException {
+        bankRepository.saveAll(List.of(
+                Bank.builder().code("020").name("우리은행").build(),
+                Bank.builder().code("088").name("신한은행").build()));
+        commonCodeRepository.saveAll(List.of(
+                CommonCode.builder().groupCode("PRODUCT_CATEGORY").code("SAVINGS").name("예적금").sortOrder(1).build(),
+                CommonCode.builder().groupCode("PRODUCT_CATEGORY").code("LOAN").name("대출").sortOrder(2).build()));
+        entityManagerFactory.getCache().evictAll();
+        // 쿼리 캐시는 테이블 변경 시각과 같은 밀리초에 저장된 결과를 오래된 것으로 본다.
+        Thread.sleep(5);
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @AfterEach
+    void tearDown() {
+        bankRepository.deleteAll();
+        commonCodeRepository.deleteAll();
+    }
+
+    @Test
+    void 두_번째_조회부터는_DB_를_거치지_않는다() {
+        assertThat(referenceService.getBank("020").getName()).isEqualTo("우리은행");
+        assertThat(referenceService.getCodes("PRODUCT_CATEGORY")).extracting("code").containsExactly("SAVINGS", "LOAN");
+        long statements = statistics.getPrepareStatementCount();
+
+        assertThat(referenceService.getBank("020").getName()).isEqualTo("우리은행");
+        assertThat(referenceService.getCodes("PRODUCT_CATEGORY")).hasSize(2);
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(statements);
+        assertThat(statistics.getQueryCacheHitCount()).isEqualTo(2);
+        assertThat(statistics.getDomainDataRegionStatistics(ReferenceCacheRegion.BANK).getHitCount()).isEqualTo(1);
+        assertThat(statistics.getDomainDataRegionStatistics(ReferenceCacheRegion.COMMON_CODE).getHitCount())
+                .isEqualTo(2);
+    }
+
+    @Test
+    void 변경되면_쿼리_캐시가_무효화된다() {
+        assertThat(referenceService.getBanks()).extracting("name").containsExactly("신한은행", "우리은행");
+
+        bankRepository.save(Bank.builder().code("004").name("국민은행").build());
+
+        assertThat(referenceService.getBanks()).extracting("name").containsExactly("국민은행", "신한은행", "우리은행");
+    }
+
+}
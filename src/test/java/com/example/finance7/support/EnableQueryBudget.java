@@ -0,0 +1,19 @@
+package com.example.finance7.support;
+
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.context.annotation.Import;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 스프링 테스트에서 SQL 수 세기와 {@link QueryBudget} 검사를 켠다.
+ */
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+@Import(QueryCountConfig.class)
+@ExtendWith(QueryBudgetExtension.class)
+public @interface EnableQueryBudget {
+}
@@ -0,0 +1,26 @@
+package com.example.finance7.support;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 테스트 메서드 본문(@BeforeEach 제외)에서 실행될 수 있는 SQL 문 수의 상한. 음수는 제한하지 않는다.
+ * 상한을 넘으면 {@link QueryBudgetExtension} 이 테스트를 실패시킨다.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface QueryBudget {
+
+    int select() default -1;
+
+    int insert() default -1;
+
+    int update() default -1;
+
+    int delete() default -1;
+
+    int total() default -1;
+
+}
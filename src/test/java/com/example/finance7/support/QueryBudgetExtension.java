@@ -0,0 +1,55 @@
+package com.example.finance7.support;
+
+import net.ttddyy.dsproxy.QueryCount;
+import net.ttddyy.dsproxy.QueryCountHolder;
+import org.junit.jupiter.api.extension.AfterTestExecutionCallback;
+import org.junit.jupiter.api.extension.BeforeTestExecutionCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.platform.commons.support.AnnotationSupport;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 테스트 메서드 실행 직전에 SQL 카운터를 비우고, 끝난 뒤 {@link QueryBudget} 을 넘었는지 검사한다.
+ * 준비 데이터 적재(@BeforeEach)는 세지 않는다.
+ */
+public class QueryBudgetExtension implements BeforeTestExecutionCallback, AfterTestExecutionCallback {
+
+    @Override
+    public void beforeTestExecution(ExtensionContext context) {
+        QueryCountHolder.clear();
+    }
+
+    @Override
+    public void afterTestExecution(ExtensionContext context) {
+        QueryCount count = QueryCounter.current();
+        QueryCountHolder.clear();
+        if (context.getExecutionException().isPresent()) {
+            return;
+        }
+        AnnotationSupport.findAnnotation(context.getRequiredTestMethod(), QueryBudget.class)
+                .ifPresent(budget -> verify(budget, count));
+    }
+
+    private static void verify(QueryBudget budget, QueryCount count) {
+        List<String> violations = new ArrayList<>();
+        check(violations, "select", budget.select(), count.getSelect());
+        check(violations, "insert", budget.insert(), count.getInsert());
+        check(violations, "update", budget.update(), count.getUpdate());
+        check(violations, "delete", budget.delete(), count.getDelete());
+        check(violations, "total", budget.total(), count.getTotal());
+        if (!violations.isEmpty()) {
+            throw new AssertionError("SQL 예산 초과(N+1 의심): " + String.join(", ", violations)
+                    + " [select=" + count.getSelect() + ", insert=" + count.getInsert()
+                    + ", update=" + count.getUpdate() + ", delete=" + count.getDelete() + "]");
+        }
+    }
+
+    private static void check(List<String> violations, String type, int budget, long actual) {
+        if (budget >= 0 && actual > budget) {
+            violations.add(type + " " + actual + " > " + budget);
+        }
+    }
+
+}
@@ -0,0 +1,24 @@
+package com.example.finance7.support;
+
+import net.ttddyy.dsproxy.listener.DataSourceQueryCountListener;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+
+/**
+ * 애플리케이션 DataSource 프록시(DataSourceProxyConfig)에 현재 스레드에서 실행된 SQL 을 종류별로 세는 리스너를 더한다.
+ */
+@TestConfiguration(proxyBeanMethods = false)
+public class QueryCountConfig {
+
+    /**
+     * 프록시 이름. DataSourceProxyConfig 는 감싼 빈 이름을 그대로 쓴다.
+     */
+    static final String DATA_SOURCE_NAME = "dataSource";
+
+    @Bean
+    public QueryExecutionListener queryCountListener() {
+        return new DataSourceQueryCountListener();
+    }
+
+}
@@ -0,0 +1,46 @@
+package com.example.finance7.support;
+
+import net.ttddyy.dsproxy.QueryCount;
+import net.ttddyy.dsproxy.QueryCountHolder;
+import org.junit.jupiter.api.function.Executable;
+
+/**
+ * 요청/서비스 호출 한 번에 실행된 SQL 수를 잰다. {@link EnableQueryBudget} 이 붙은 테스트에서만 동작한다.
+ */
+public final class QueryCounter {
+
+    private QueryCounter() {
+    }
+
+    public static QueryCount current() {
+        QueryCount count = QueryCountHolder.get(QueryCountConfig.DATA_SOURCE_NAME);
+        return count == null ? new QueryCount() : count;
+    }
+
+    /**
+     * {@code call} 이 실행한 SQL 수. 호출 전후 카운터의 차이로 구하므로 메서드 단위 예산과 함께 쓸 수 있다.
+     */
+    public static QueryCount measure(Executable call) throws Throwable {
+        QueryCount before = copy(current());
+        call.execute();
+        QueryCount after = current();
+        QueryCount delta = new QueryCount();
+        delta.setSelect(after.getSelect() - before.getSelect());
+        delta.setInsert(after.getInsert() - before.getInsert());
+        delta.setUpdate(after.getUpdate() - before.getUpdate());
+        delta.setDelete(after.getDelete() - before.getDelete());
+        delta.setOther(after.getOther() - before.getOther());
+        return delta;
+    }
+
+    private static QueryCount copy(QueryCount count) {
+        QueryCount copy = new QueryCount();
+        copy.setSelect(count.getSelect());
+        copy.setInsert(count.getInsert());
+        copy.setUpdate(count.getUpdate());
+        copy.setDelete(count.getDelete());
+        copy.setOther(count.getOther());
+        return copy;
+    }
+
+}